@@ -0,0 +1,72 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.SegmentedList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Заполнение пустого списка size элементами через add(T), включая все расширения контейнера
+ * (для {@link SegmentedList} - выделения сегментов без копирования).
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.ascending(size);
+    }
+
+    @Benchmark
+    public MyList<Integer> myArrayListAdd() {
+        MyList<Integer> list = new MyArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public MyList<Integer> segmentedListAdd() {
+        MyList<Integer> list = new SegmentedList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListAdd() {
+        List<Integer> list = new ArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
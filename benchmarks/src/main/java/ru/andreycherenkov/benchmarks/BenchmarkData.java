@@ -0,0 +1,49 @@
+package ru.andreycherenkov.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Генерация входных данных для бенчмарков. Значения упаковываются заранее, чтобы в замеры
+ * не попадала стоимость упаковки Integer.
+ *
+ * @author Андрей Черенков
+ */
+final class BenchmarkData {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @param size количество элементов
+     * @return элементы 0, 1, ..., size - 1
+     */
+    static Integer[] ascending(int size) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    /**
+     * @param size количество элементов
+     * @param distribution распределение: random, sorted, reversed, duplicates
+     * @return элементы с указанным распределением
+     */
+    static Integer[] distribution(int size, String distribution) {
+        Random random = new Random(SEED);
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case "random" -> values[i] = random.nextInt();
+                case "sorted" -> values[i] = i;
+                case "reversed" -> values[i] = size - i;
+                case "duplicates" -> values[i] = random.nextInt(16);
+                default -> throw new IllegalArgumentException(distribution);
+            }
+        }
+        return values;
+    }
+}
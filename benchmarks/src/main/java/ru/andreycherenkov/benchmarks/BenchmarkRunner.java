@@ -0,0 +1,29 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входа для запуска бенчмарков с GC-профайлером, который добавляет к результатам скорость выделения
+ * памяти (gc.alloc.rate) и объём выделенной памяти на одну операцию (gc.alloc.rate.norm).
+ * Первый аргумент (необязательный) - регулярное выражение для выбора бенчмарков.
+ *
+ * @author Андрей Черенков
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Массовые операции {@link MyArrayList}: последовательные filter, map и reduce в сравнении с параллельными
+ * (блоки по порогу {@code ParallelOptions}, общий пул fork/join). Параллельный вариант выигрывает только
+ * при нескольких процессорах; на одном процессоре он выполняется последовательно.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private MyArrayList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new MyArrayList<>();
+        for (int value : BenchmarkData.distribution(size, "random")) {
+            list.add(value);
+        }
+    }
+
+    @Benchmark
+    public MyList<Integer> filter() {
+        return list.filter(e -> (e & 1) == 0);
+    }
+
+    @Benchmark
+    public MyList<Integer> parallelFilter() {
+        return list.parallelFilter(e -> (e & 1) == 0);
+    }
+
+    @Benchmark
+    public MyList<Long> map() {
+        return list.map(e -> e * 31L);
+    }
+
+    @Benchmark
+    public MyList<Long> parallelMap() {
+        return list.parallelMap(e -> e * 31L);
+    }
+
+    @Benchmark
+    public Integer reduce() {
+        return list.reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer parallelReduce() {
+        return list.parallelReduce(0, Integer::sum);
+    }
+}
@@ -0,0 +1,67 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Очистка заполненного списка. Список заново заполняется перед каждым вызовом (Level.Invocation),
+ * поэтому режим SingleShotTime используется для больших размеров без накладных расходов JMH.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ClearBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] values;
+    private MyList<Integer> myList;
+    private List<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void createData() {
+        values = BenchmarkData.ascending(size);
+        myList = new MyArrayList<>();
+        arrayList = new ArrayList<>();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        for (Integer value : values) {
+            myList.add(value);
+            arrayList.add(value);
+        }
+    }
+
+    @Benchmark
+    public void myArrayListClear() {
+        myList.clear();
+    }
+
+    @Benchmark
+    public void arrayListClear() {
+        arrayList.clear();
+    }
+}
@@ -0,0 +1,72 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.ColumnarList;
+import ru.andreycherenkov.ColumnarList.Row;
+import ru.andreycherenkov.MyArrayList;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Агрегирование одного поля записей: сумма оценок в диапазоне меток времени по списку объектов
+ * {@code MyArrayList<Row>} и по колоночному {@link ColumnarList}. Объекты записей создаются вперемешку
+ * с мусором, как при длительной работе приложения, поэтому лежат в куче не подряд.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private MyArrayList<Row> rows;
+    private ColumnarList columns;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new MyArrayList<>();
+        columns = new ColumnarList();
+        Object[] garbage = new Object[1024];
+        for (int i = 0; i < size; i++) {
+            Row row = new Row(i, random.nextInt(1_000_000), random.nextDouble());
+            garbage[i & 1023] = new long[random.nextInt(8)];
+            rows.add(row);
+            columns.add(row);
+        }
+    }
+
+    @Benchmark
+    public double objectListSumBetween() {
+        double sum = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (row.timestamp() >= 250_000 && row.timestamp() < 750_000) {
+                sum += row.score();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double columnarListSumBetween() {
+        return columns.sumScoresBetween(250_000, 750_000);
+    }
+}
@@ -0,0 +1,82 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.ConcurrentArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность ConcurrentArrayList в сравнении с Collections.synchronizedList при одновременной
+ * работе добавляющих и читающих потоков (4 писателя и 4 читателя в группе). Списки создаются заново
+ * на каждой итерации, чтобы объём данных не рос неограниченно между итерациями.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentListBenchmark {
+
+    private static final Integer ELEMENT = 42;
+    private static final int PREFILL = 1024;
+
+    private MyList<Integer> concurrentList;
+    private List<Integer> synchronizedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        concurrentList = new ConcurrentArrayList<>();
+        synchronizedList = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < PREFILL; i++) {
+            concurrentList.add(i);
+            synchronizedList.add(i);
+        }
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(4)
+    public void concurrentAdd() {
+        concurrentList.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(4)
+    public Integer concurrentGet() {
+        return concurrentList.get(PREFILL - 1);
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(4)
+    public void synchronizedAdd() {
+        synchronizedList.add(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(4)
+    public Integer synchronizedGet() {
+        return synchronizedList.get(PREFILL - 1);
+    }
+}
@@ -0,0 +1,91 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.GapBufferList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Правки add(int, T) + remove(int) рядом с движущимся курсором ("cursor": курсор смещается не более чем
+ * на 8 позиций за правку) и в случайных позициях ("random"). Сравнивает {@link GapBufferList}
+ * с {@link MyArrayList}, чтобы найти размер списка, начиная с которого буфер с разрывом выгоднее.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorEditBenchmark {
+
+    private static final int POSITIONS = 1024;
+    private static final int MAX_STEP = 8;
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"cursor", "random"})
+    private String locality;
+
+    private MyList<Integer> myArrayList;
+    private MyList<Integer> gapBufferList;
+    private int[] positions;
+    private int next;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.ascending(size);
+        myArrayList = new MyArrayList<>();
+        gapBufferList = new GapBufferList<>();
+        for (Integer value : values) {
+            myArrayList.add(value);
+            gapBufferList.add(value);
+        }
+        Random random = new Random(42);
+        positions = new int[POSITIONS];
+        int cursor = size / 2;
+        for (int i = 0; i < POSITIONS; i++) {
+            switch (locality) {
+                case "cursor" -> cursor = Math.floorMod(cursor + random.nextInt(2 * MAX_STEP + 1) - MAX_STEP, size);
+                case "random" -> cursor = random.nextInt(size);
+                default -> throw new IllegalArgumentException(locality);
+            }
+            positions[i] = cursor;
+        }
+        element = -1;
+    }
+
+    private int nextPosition() {
+        return positions[next++ & (POSITIONS - 1)];
+    }
+
+    @Benchmark
+    public void myArrayListEdit() {
+        int index = nextPosition();
+        myArrayList.add(index, element);
+        myArrayList.remove(index);
+    }
+
+    @Benchmark
+    public void gapBufferListEdit() {
+        int index = nextPosition();
+        gapBufferList.add(index, element);
+        gapBufferList.remove(index);
+    }
+}
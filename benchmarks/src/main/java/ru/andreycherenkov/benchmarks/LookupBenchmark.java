@@ -0,0 +1,88 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Операции чтения: get по индексу, indexOf и contains для присутствующего (hit, середина списка)
+ * и отсутствующего (miss) элемента.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"hit", "miss"})
+    private String lookup;
+
+    private MyList<Integer> myList;
+    private List<Integer> arrayList;
+    private Integer target;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.ascending(size);
+        myList = new MyArrayList<>();
+        arrayList = new ArrayList<>();
+        for (Integer value : values) {
+            myList.add(value);
+            arrayList.add(value);
+        }
+        index = size / 2;
+        target = "hit".equals(lookup) ? values[index] : Integer.valueOf(-1);
+    }
+
+    @Benchmark
+    public Integer myArrayListGet() {
+        return myList.get(index);
+    }
+
+    @Benchmark
+    public Integer arrayListGet() {
+        return arrayList.get(index);
+    }
+
+    @Benchmark
+    public int myArrayListIndexOf() {
+        return myList.indexOf(target);
+    }
+
+    @Benchmark
+    public int arrayListIndexOf() {
+        return arrayList.indexOf(target);
+    }
+
+    @Benchmark
+    public boolean myArrayListContains() {
+        return myList.contains(target);
+    }
+
+    @Benchmark
+    public boolean arrayListContains() {
+        return arrayList.contains(target);
+    }
+}
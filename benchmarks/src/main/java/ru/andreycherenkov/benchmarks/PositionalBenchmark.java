@@ -0,0 +1,88 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Позиционные операции add(int, T), remove(int) и remove(T) в начале, середине и конце списка.
+ * Чтобы размер списка оставался постоянным между вызовами, каждая вставка сопровождается удалением
+ * с той же позиции, а удаление по значению - вставкой удалённого элемента обратно.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionalBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"head", "middle", "tail"})
+    private String position;
+
+    private MyList<Integer> myList;
+    private List<Integer> arrayList;
+    private int index;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        Integer[] values = BenchmarkData.ascending(size);
+        myList = new MyArrayList<>();
+        arrayList = new ArrayList<>();
+        for (Integer value : values) {
+            myList.add(value);
+            arrayList.add(value);
+        }
+        switch (position) {
+            case "head" -> index = 0;
+            case "middle" -> index = size / 2;
+            case "tail" -> index = size - 1;
+            default -> throw new IllegalArgumentException(position);
+        }
+        element = values[index];
+    }
+
+    @Benchmark
+    public void myArrayListAddAndRemoveAt() {
+        myList.add(index, element);
+        myList.remove(index);
+    }
+
+    @Benchmark
+    public void arrayListAddAndRemoveAt() {
+        arrayList.add(index, element);
+        arrayList.remove(index);
+    }
+
+    @Benchmark
+    public void myArrayListRemoveElement() {
+        myList.remove(element);
+        myList.add(index, element);
+    }
+
+    @Benchmark
+    public void arrayListRemoveElement() {
+        arrayList.remove(element);
+        arrayList.add(index, element);
+    }
+}
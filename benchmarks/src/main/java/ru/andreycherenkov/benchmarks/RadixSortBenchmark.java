@@ -0,0 +1,80 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.MyArrayList;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поразрядная сортировка radixSort в сравнении с introsort (quickSort с компаратором естественного
+ * порядка) на случайных Integer, небольших идентификаторах и коротких ASCII-строках. Список заполняется
+ * заново в каждом вызове, стоимость заполнения одинакова для обоих вариантов. Используется для выбора
+ * размера, начиная с которого quickSort переходит на поразрядную сортировку.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RadixSortBenchmark {
+
+    @Param({"64", "256", "1024", "4096", "100000"})
+    private int size;
+
+    @Param({"int", "id", "string"})
+    private String keys;
+
+    private Object[] values;
+    private MyArrayList<Object> list;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            switch (keys) {
+                case "int" -> values[i] = random.nextInt();
+                case "id" -> values[i] = random.nextInt(1_000_000);
+                case "string" -> values[i] = Long.toString(random.nextLong() >>> random.nextInt(64), 36);
+                default -> throw new IllegalArgumentException(keys);
+            }
+        }
+        list = new MyArrayList<>(size);
+    }
+
+    private void fill() {
+        list.clear();
+        for (Object value : values) {
+            list.add(value);
+        }
+    }
+
+    @Benchmark
+    public MyArrayList<Object> introSort() {
+        fill();
+        list.quickSort((a, b) -> ((Comparable<Object>) a).compareTo(b));
+        return list;
+    }
+
+    @Benchmark
+    public MyArrayList<Object> radixSort() {
+        fill();
+        list.radixSort();
+        return list;
+    }
+}
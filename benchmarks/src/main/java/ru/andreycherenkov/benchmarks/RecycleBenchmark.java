@@ -0,0 +1,80 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.ArrayPool;
+import ru.andreycherenkov.MyArrayList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Цикл обработки запроса: заполнение списка size элементами, сортировка и освобождение. Сравниваются
+ * новый список на каждый запрос, новый список с контейнерами из пула и один список, переиспользуемый
+ * через reset. Запускать с -prof gc, чтобы увидеть выделение памяти на операцию.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecycleBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private Integer[] values;
+    private ArrayPool pool;
+    private MyArrayList<Integer> reused;
+
+    @Setup
+    public void setUp() {
+        values = BenchmarkData.distribution(size, "random");
+        pool = new ArrayPool();
+        reused = new MyArrayList<>(pool);
+    }
+
+    @Benchmark
+    public int freshList() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        list.quickSort();
+        return list.get(0);
+    }
+
+    @Benchmark
+    public int pooledList() {
+        MyArrayList<Integer> list = new MyArrayList<>(pool);
+        for (Integer value : values) {
+            list.add(value);
+        }
+        list.quickSort();
+        int first = list.get(0);
+        list.release();
+        return first;
+    }
+
+    @Benchmark
+    public int resetList() {
+        for (Integer value : values) {
+            reused.add(value);
+        }
+        reused.quickSort();
+        int first = reused.get(0);
+        reused.reset();
+        return first;
+    }
+}
@@ -0,0 +1,81 @@
+package ru.andreycherenkov.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сортировка quickSort и stableSort на случайных, отсортированных, обратно отсортированных данных и данных
+ * с большим количеством повторов в сравнении с ArrayList.sort. Перед каждым вызовом списки
+ * заполняются исходными данными заново.
+ *
+ * @author Андрей Черенков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SortBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"random", "sorted", "reversed", "duplicates"})
+    private String distribution;
+
+    private Integer[] values;
+    private MyList<Integer> myList;
+    private List<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void createData() {
+        values = BenchmarkData.distribution(size, distribution);
+        myList = new MyArrayList<>();
+        arrayList = new ArrayList<>();
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        myList.clear();
+        arrayList.clear();
+        for (Integer value : values) {
+            myList.add(value);
+            arrayList.add(value);
+        }
+    }
+
+    @Benchmark
+    public MyList<Integer> myArrayListQuickSort() {
+        myList.quickSort();
+        return myList;
+    }
+
+    @Benchmark
+    public MyList<Integer> myArrayListStableSort() {
+        myList.stableSort();
+        return myList;
+    }
+
+    @Benchmark
+    public List<Integer> arrayListSort() {
+        arrayList.sort(null);
+        return arrayList;
+    }
+}
@@ -0,0 +1,364 @@
+package ru.andreycherenkov;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Общая часть списков, хранящих элементы фиксированной ширины в {@link ByteBuffer} вне кучи
+ * ({@link OffHeapList}, {@link MappedList}). Элементы кодируются подключаемым кодеком ({@link FixedWidthCodec})
+ * и располагаются подряд начиная со смещения {@link #base}. Наследники отвечают только за получение
+ * буфера, его расширение и освобождение.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+abstract class AbstractBufferList<T> implements MyList<T>, Closeable {
+
+    final FixedWidthCodec<T> codec;
+    /**
+     * Ширина одного элемента в байтах.
+     */
+    final int width;
+    /**
+     * Смещение первого элемента в буфере (размер заголовка).
+     */
+    final int base;
+    /**
+     * Буфер, в котором хранятся элементы; null после закрытия списка.
+     */
+    ByteBuffer buffer;
+    /**
+     * Размерность буфера в элементах.
+     */
+    int capacity;
+    /**
+     * Количество элементов в списке.
+     */
+    int size;
+    /**
+     * Буфер в куче размером в один элемент: используется для кодирования искомого элемента и при обмене.
+     */
+    private ByteBuffer scratch;
+
+    AbstractBufferList(FixedWidthCodec<T> codec, int base) {
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.base = base;
+    }
+
+    /**
+     * Расширяет буфер так, чтобы в него поместилось minCapacity элементов, и подключает новый буфер
+     * методом {@link #attach}.
+     */
+    abstract void grow(int minCapacity);
+
+    /**
+     * Вызывается после каждого изменения размера списка.
+     */
+    void sizeChanged() {
+    }
+
+    /**
+     * Подключает буфер, в котором помещается capacity элементов.
+     */
+    final void attach(ByteBuffer buffer, int capacity) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        if (scratch == null || scratch.order() != buffer.order()) {
+            scratch = ByteBuffer.allocate(width).order(buffer.order());
+        }
+    }
+
+    /**
+     * Вспомогательный метод для перевода количества элементов в размер буфера вместе с заголовком.
+     * @throws IllegalStateException если буфер превысит максимальный размер ByteBuffer
+     */
+    final int bytesFor(long elements) {
+        long bytes = base + elements * width;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Buffer list capacity exceeded: " + elements + " elements");
+        }
+        return (int) bytes;
+    }
+
+    /**
+     * Вспомогательный метод, вычисляющий новую размерность буфера: удвоение, но не меньше minCapacity
+     * и не больше, чем помещается в ByteBuffer.
+     */
+    final int grownCapacity(int minCapacity) {
+        long doubled = Math.max((long) capacity * 2, minCapacity);
+        long limit = (Integer.MAX_VALUE - base) / width;
+        return (int) Math.max(Math.min(doubled, limit), minCapacity);
+    }
+
+    final int offset(int index) {
+        return base + index * width;
+    }
+
+    final void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            grow(minCapacity);
+        }
+    }
+
+    private void setSize(int newSize) {
+        size = newSize;
+        sizeChanged();
+    }
+
+    /**
+     * Вспомогательный метод для перемещения count элементов с позиции from на позицию to (области могут
+     * перекрываться).
+     */
+    private void move(int from, int to, int count) {
+        if (count > 0) {
+            buffer.put(offset(to), buffer, offset(from), count * width);
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        checkOpen();
+        ensureCapacity(size + 1);
+        codec.write(buffer, offset(size), element);
+        setSize(size + 1);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        codec.write(buffer, offset(index), element);
+        setSize(size + 1);
+    }
+
+    /**
+     * Метод для добавления всех элементов другого списка. Буфер расширяется не более одного раза.
+     * @param elements список, элементы которого будут добавлены в конец
+     */
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        checkOpen();
+        int count = elements.size();
+        ensureCapacity(size + count);
+        for (int i = 0; i < count; i++) {
+            codec.write(buffer, offset(size + i), elements.get(i));
+        }
+        setSize(size + count);
+    }
+
+    /**
+     * Метод для получения элемента. Элемент декодируется из буфера при каждом вызове.
+     * @param index позиция, по которой будет получен элемент
+     * @return элемент по указанному индексу
+     */
+    @Override
+    public T get(int index) {
+        checkOpen();
+        checkBounds(index);
+        return codec.read(buffer, offset(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод для получения индекса первого вхождения элемента. Искомый элемент кодируется один раз,
+     * после чего сравниваются закодированные байты, без создания объектов для элементов списка.
+     * @param element элемент, индекс которого необходимо получить
+     * @return индекс элемента при удачном исходе, -1 при отсутствии искомого элемента в коллекции
+     */
+    @Override
+    public int indexOf(T element) {
+        checkOpen();
+        if (element == null) {
+            return -1;
+        }
+        codec.write(scratch, 0, element);
+        for (int i = 0; i < size; i++) {
+            if (matchesScratch(offset(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesScratch(int offset) {
+        int i = 0;
+        for (; i + Long.BYTES <= width; i += Long.BYTES) {
+            if (buffer.getLong(offset + i) != scratch.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < width; i++) {
+            if (buffer.get(offset + i) != scratch.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void remove(int index) {
+        checkOpen();
+        checkBounds(index);
+        move(index + 1, index, size - index - 1);
+        setSize(size - 1);
+    }
+
+    /**
+     * Метод для удаления элементов по условию с уплотнением буфера за один проход.
+     * @param filter условие, при выполнении которого элемент удаляется
+     * @return true, если был удалён хотя бы один элемент
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        checkOpen();
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                if (!filter.test(codec.read(buffer, offset(read)))) {
+                    if (write != read) {
+                        move(read, write, 1);
+                    }
+                    write++;
+                }
+            }
+        } finally {
+            // если условие выбросило исключение, непроверенный хвост сохраняется
+            move(read, write, size - read);
+            int removed = read - write;
+            if (removed > 0) {
+                setSize(size - removed);
+            }
+        }
+        return read != write;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkOpen();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        move(toIndex, fromIndex, size - toIndex);
+        setSize(size - (toIndex - fromIndex));
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkOpen();
+        checkBounds(index);
+        codec.write(buffer, offset(index), element);
+    }
+
+    /**
+     * Метод для очистки списка. Память буфера не освобождается и используется повторно.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+        setSize(0);
+    }
+
+    /**
+     * Метод сортировки в естественном порядке. Сортировка выполняется на месте в буфере.
+     * @throws UnsupportedOperationException если декодированные элементы не реализуют Comparable
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void quickSort() {
+        checkOpen();
+        if (size > 0 && !(get(0) instanceof Comparable)) {
+            throw new UnsupportedOperationException("Objects must implement Comparable or use a custom Comparator");
+        }
+        quickSort((a, b) -> ((Comparable<T>) a).compareTo(b));
+    }
+
+    /**
+     * Метод сортировки с компаратором. Сортировка выполняется на месте в буфере: элементы декодируются
+     * для сравнения, а обмен выполняется копированием байт.
+     * @param comparator компаратор для сравнения элементов списка
+     */
+    @Override
+    public void quickSort(Comparator<? super T> comparator) {
+        checkOpen();
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        new IndexedSorter() {
+            @Override
+            protected int compare(int i, int j) {
+                return comparator.compare(codec.read(buffer, offset(i)), codec.read(buffer, offset(j)));
+            }
+
+            @Override
+            protected void swap(int i, int j) {
+                scratch.put(0, buffer, offset(i), width);
+                buffer.put(offset(i), buffer, offset(j), width);
+                buffer.put(offset(j), scratch, 0, width);
+            }
+        }.sort(0, size);
+    }
+
+    /**
+     * @return размерность буфера в элементах
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        checkOpen();
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(codec.read(buffer, offset(i)));
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,167 @@
+package ru.andreycherenkov;
+
+/**
+ * Пул массивов ссылок для контейнеров {@link MyArrayList}, потокобезопасен.
+ * <p>
+ * Массивы распределены по классам размеров - степеням двойки от {@link #MIN_ARRAY_LENGTH} до наибольшей
+ * длины пула; запрошенная длина округляется вверх до класса. У каждого потока свой кэш (ThreadLocal),
+ * в котором для каждого класса хранится не больше arraysPerClass массивов, поэтому получение и возврат
+ * массива не требуют синхронизации и выполняются за O(1). Массивы больше наибольшей длины выделяются
+ * точного размера и в пул не возвращаются: их копирование и очистка всё равно дороже выделения.
+ * <p>
+ * Возвращаемый массив должен быть полностью очищен (заполнен null) - пул его не проверяет и не очищает,
+ * иначе следующий владелец получил бы чужие ссылки, а сборщик мусора не смог бы их освободить.
+ * После возврата массив нельзя использовать. Массив, полученный в одном потоке, можно вернуть в другом:
+ * он попадёт в кэш того потока.
+ *
+ * @author Андрей Черенков
+ */
+public final class ArrayPool {
+
+    /**
+     * Наименьший класс размеров.
+     */
+    public static final int MIN_ARRAY_LENGTH = 16;
+    /**
+     * Наибольшая длина пулируемого массива по умолчанию.
+     */
+    public static final int DEFAULT_MAX_ARRAY_LENGTH = 1 << 16;
+    /**
+     * Количество массивов одного класса в кэше потока по умолчанию.
+     */
+    public static final int DEFAULT_ARRAYS_PER_CLASS = 4;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_ARRAY_LENGTH);
+    private static final ArrayPool SHARED = new ArrayPool();
+
+    private final int maxArrayLength;
+    private final int arraysPerClass;
+    private final int classCount;
+    private final ThreadLocal<Cache> caches;
+
+    /**
+     * Кэш одного потока: стеки массивов по классам размеров.
+     */
+    private static final class Cache {
+
+        private final Object[][][] arrays;
+        private final int[] counts;
+
+        Cache(int classCount, int arraysPerClass) {
+            arrays = new Object[classCount][arraysPerClass][];
+            counts = new int[classCount];
+        }
+    }
+
+    /**
+     * Конструктор, создающий пул с параметрами по умолчанию.
+     */
+    public ArrayPool() {
+        this(DEFAULT_MAX_ARRAY_LENGTH, DEFAULT_ARRAYS_PER_CLASS);
+    }
+
+    /**
+     * Конструктор, позволяющий указать наибольшую длину и количество массивов класса в кэше потока.
+     * Кэш одного потока удерживает не больше arraysPerClass * 2 * maxArrayLength ссылок.
+     * @param maxArrayLength наибольшая длина пулируемого массива, степень двойки не меньше {@link #MIN_ARRAY_LENGTH}
+     * @param arraysPerClass количество массивов одного класса в кэше потока
+     * @throws IllegalArgumentException если maxArrayLength не степень двойки или меньше наименьшего класса,
+     *                                  или arraysPerClass не положительный
+     */
+    public ArrayPool(int maxArrayLength, int arraysPerClass) {
+        if (maxArrayLength < MIN_ARRAY_LENGTH || Integer.bitCount(maxArrayLength) != 1 || arraysPerClass <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxArrayLength = maxArrayLength;
+        this.arraysPerClass = arraysPerClass;
+        this.classCount = Integer.numberOfTrailingZeros(maxArrayLength) - MIN_SHIFT + 1;
+        this.caches = ThreadLocal.withInitial(() -> new Cache(classCount, arraysPerClass));
+    }
+
+    /**
+     * Метод для получения общего пула с параметрами по умолчанию.
+     * @return общий пул
+     */
+    public static ArrayPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return наибольшая длина пулируемого массива
+     */
+    public int maxArrayLength() {
+        return maxArrayLength;
+    }
+
+    /**
+     * @return количество массивов одного класса в кэше потока
+     */
+    public int arraysPerClass() {
+        return arraysPerClass;
+    }
+
+    /**
+     * Вспомогательный метод для получения номера класса размеров для длины length (не больше наибольшей).
+     */
+    private static int sizeClass(int length) {
+        if (length <= MIN_ARRAY_LENGTH) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * Метод для получения длины массива, который вернёт {@link #acquire(int)}.
+     * @param minLength необходимая длина массива
+     * @return длина класса размеров, не меньшая minLength, или minLength, если она больше наибольшей длины пула
+     */
+    public int lengthFor(int minLength) {
+        return minLength > maxArrayLength ? minLength : MIN_ARRAY_LENGTH << sizeClass(minLength);
+    }
+
+    /**
+     * Метод для получения очищенного массива.
+     * @param minLength необходимая длина массива
+     * @return массив длины класса размеров, не меньшей minLength; или массив длины minLength, если она
+     *         больше наибольшей длины пула
+     * @throws IllegalArgumentException если minLength отрицательная
+     */
+    public Object[] acquire(int minLength) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (minLength > maxArrayLength) {
+            return new Object[minLength];
+        }
+        int sizeClass = sizeClass(minLength);
+        Cache cache = caches.get();
+        int count = cache.counts[sizeClass];
+        if (count == 0) {
+            return new Object[MIN_ARRAY_LENGTH << sizeClass];
+        }
+        Object[][] stack = cache.arrays[sizeClass];
+        Object[] array = stack[--count];
+        stack[count] = null;
+        cache.counts[sizeClass] = count;
+        return array;
+    }
+
+    /**
+     * Метод для возврата очищенного массива в кэш текущего потока. Массивы, длина которых не совпадает
+     * с классом размеров, и массивы сверх вместимости кэша отбрасываются.
+     * @param array массив, заполненный null
+     */
+    public void release(Object[] array) {
+        int length = array.length;
+        if (length < MIN_ARRAY_LENGTH || length > maxArrayLength || Integer.bitCount(length) != 1) {
+            return;
+        }
+        int sizeClass = sizeClass(length);
+        Cache cache = caches.get();
+        int count = cache.counts[sizeClass];
+        if (count < arraysPerClass) {
+            cache.arrays[sizeClass][count] = array;
+            cache.counts[sizeClass] = count + 1;
+        }
+    }
+}
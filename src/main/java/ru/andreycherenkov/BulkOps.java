@@ -0,0 +1,201 @@
+package ru.andreycherenkov;
+
+import java.io.Serial;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Массовые операции над диапазоном массива-контейнера: forEach, replaceAll, map, filter и reduce.
+ * Диапазон делится на блоки по {@link ParallelOptions#threshold()} элементов, которые обрабатываются
+ * в задачах fork/join; каждая задача проходит свой блок подряд, поэтому блок остаётся в кэше процессора,
+ * а потоки не пишут в соседние ячейки результата. Если диапазон не превышает порог или в пуле один поток,
+ * весь диапазон обрабатывается одним блоком в вызывающем потоке.
+ * <p>
+ * Результат filter и map выделяется один раз точного размера: map заполняет массив длины диапазона,
+ * filter выполняет два прохода - сначала вычисляет условие и количество подходящих элементов в каждом блоке,
+ * затем по префиксным суммам копирует элементы блоков на их итоговые позиции.
+ *
+ * @author Андрей Черенков
+ */
+final class BulkOps {
+
+    /**
+     * Настройки, при которых операция всегда выполняется последовательно одним блоком.
+     */
+    static final ParallelOptions SEQUENTIAL = ParallelOptions.defaults().withThreshold(Integer.MAX_VALUE);
+
+    private BulkOps() {
+    }
+
+    /**
+     * Обработка одного блока [from, to) с номером chunk.
+     */
+    @FunctionalInterface
+    interface ChunkAction {
+        void run(int chunk, int from, int to);
+    }
+
+    /**
+     * Возвращает количество блоков, на которые делится диапазон указанной длины.
+     */
+    static int chunkCount(int length, ParallelOptions options) {
+        if (!options.isParallel(length)) {
+            return 1;
+        }
+        return (int) (((long) length + options.threshold() - 1) / options.threshold());
+    }
+
+    /**
+     * Выполняет action для всех блоков диапазона [from, to): параллельно, если блоков больше одного.
+     * @param chunks количество блоков, полученное {@link #chunkCount(int, ParallelOptions)}
+     */
+    static void forEachChunk(int from, int to, int chunks, ParallelOptions options, ChunkAction action) {
+        if (chunks == 1) {
+            action.run(0, from, to);
+            return;
+        }
+        options.pool().invoke(new ChunkTask(action, from, to, options.threshold(), 0, chunks));
+    }
+
+    /**
+     * Задача fork/join, которая делит диапазон номеров блоков пополам до одного блока.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final ChunkAction action;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final int lowChunk;
+        private final int highChunk;
+
+        ChunkTask(ChunkAction action, int from, int to, int chunkSize, int lowChunk, int highChunk) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.lowChunk = lowChunk;
+            this.highChunk = highChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (highChunk - lowChunk == 1) {
+                int start = from + lowChunk * chunkSize;
+                action.run(lowChunk, start, (int) Math.min(to, (long) start + chunkSize));
+                return;
+            }
+            int middle = (lowChunk + highChunk) >>> 1;
+            invokeAll(new ChunkTask(action, from, to, chunkSize, lowChunk, middle),
+                    new ChunkTask(action, from, to, chunkSize, middle, highChunk));
+        }
+    }
+
+    /**
+     * Выполняет action для каждого элемента диапазона; порядок вызовов между блоками не определён.
+     */
+    static void forEach(Object[] a, int from, int to, Consumer<Object> action, ParallelOptions options) {
+        forEachChunk(from, to, chunkCount(to - from, options), options, (chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                action.accept(a[i]);
+            }
+        });
+    }
+
+    /**
+     * Заменяет каждый элемент диапазона результатом operator.
+     */
+    static void replaceAll(Object[] a, int from, int to, UnaryOperator<Object> operator, ParallelOptions options) {
+        forEachChunk(from, to, chunkCount(to - from, options), options, (chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                a[i] = operator.apply(a[i]);
+            }
+        });
+    }
+
+    /**
+     * Применяет mapper к каждому элементу диапазона.
+     * @return новый массив длины to - from с результатами mapper
+     */
+    static Object[] map(Object[] a, int from, int to, Function<Object, Object> mapper, ParallelOptions options) {
+        Object[] result = new Object[to - from];
+        forEachChunk(from, to, chunkCount(to - from, options), options, (chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                result[i - from] = mapper.apply(a[i]);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Отбирает элементы диапазона, удовлетворяющие условию; условие вычисляется для каждого элемента один раз.
+     * @return новый массив, содержащий в исходном порядке элементы, удовлетворяющие условию; его длина равна
+     *         количеству таких элементов
+     */
+    static Object[] filter(Object[] a, int from, int to, Predicate<Object> predicate, ParallelOptions options) {
+        int length = to - from;
+        int chunks = chunkCount(length, options);
+        boolean[] matches = new boolean[length];
+        int[] offsets = new int[chunks + 1];
+        forEachChunk(from, to, chunks, options, (chunk, start, end) -> {
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                if (predicate.test(a[i])) {
+                    matches[i - from] = true;
+                    count++;
+                }
+            }
+            offsets[chunk + 1] = count;
+        });
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            offsets[chunk + 1] += offsets[chunk];
+        }
+        Object[] result = new Object[offsets[chunks]];
+        if (result.length == 0) {
+            return result;
+        }
+        forEachChunk(from, to, chunks, options, (chunk, start, end) -> {
+            int out = offsets[chunk];
+            for (int i = start; i < end; i++) {
+                if (matches[i - from]) {
+                    result[out++] = a[i];
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Свёртка диапазона. Каждый блок сворачивается, начиная с identity, затем частичные результаты блоков
+     * сворачиваются по порядку, поэтому accumulator должен быть ассоциативным, а identity - его нейтральным
+     * элементом.
+     * @return результат свёртки; identity для пустого диапазона
+     */
+    static Object reduce(Object[] a, int from, int to, Object identity, BinaryOperator<Object> accumulator,
+                         ParallelOptions options) {
+        int chunks = chunkCount(to - from, options);
+        Object[] partial = new Object[chunks];
+        forEachChunk(from, to, chunks, options, (chunk, start, end) -> {
+            Object result = identity;
+            for (int i = start; i < end; i++) {
+                result = accumulator.apply(result, a[i]);
+            }
+            partial[chunk] = result;
+        });
+        if (chunks == 1) {
+            return partial[0];
+        }
+        Object result = identity;
+        for (Object value : partial) {
+            result = accumulator.apply(result, value);
+        }
+        return result;
+    }
+}
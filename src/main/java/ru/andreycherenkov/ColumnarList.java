@@ -0,0 +1,471 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Колоночная реализация списка записей (id, timestamp, score), не является потокобезопасной.
+ * Каждое поле хранится в своём примитивном массиве, поэтому запись занимает 24 байта без заголовков объектов
+ * и ссылок, а просмотр и агрегирование одного поля ({@link #sumScores()}, {@link #countTimestampsBetween(long, long)},
+ * {@link #indexOfId(long)} и т.п.) читают только нужный массив подряд, без перехода по указателям.
+ * <p>
+ * Методы {@link MyList} работают с записями {@link Row}: get создаёт запись из значений колонок, add и set
+ * раскладывают её по колонкам. Для горячих путей предназначены методы с примитивными параметрами
+ * (add(long, long, double), getId, getTimestamp, getScore). Сортировка строит одну перестановку индексов,
+ * сравнивая значения колонок, и затем применяет её на месте ко всем колонкам сразу.
+ *
+ * @author Андрей Черенков
+ */
+public class ColumnarList implements MyList<ColumnarList.Row> {
+
+    /**
+     * Запись списка. Естественный порядок - по id, затем по timestamp, затем по score.
+     * @param id идентификатор
+     * @param timestamp метка времени
+     * @param score оценка
+     */
+    public record Row(long id, long timestamp, double score) implements Comparable<Row> {
+
+        @Override
+        public int compareTo(Row other) {
+            int result = Long.compare(id, other.id);
+            if (result == 0) {
+                result = Long.compare(timestamp, other.timestamp);
+            }
+            return result != 0 ? result : Double.compare(score, other.score);
+        }
+    }
+
+    /**
+     * Базовый размер колонок.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Нулевой размер, необходим для проверки в конструкторе с параметром размерности списка.
+     */
+    private static final int ZERO_CAPACITY = 0;
+
+    private long[] ids;
+    private long[] timestamps;
+    private double[] scores;
+    private int size;
+
+    /**
+     * Конструктор без параметров, создающий список с базовой размерностью (DEFAULT_CAPACITY)
+     */
+    public ColumnarList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции.
+     * @param initSize размерность колонок
+     * @throws IllegalArgumentException если указана отрицательная величина
+     */
+    public ColumnarList(int initSize) {
+        if (initSize < ZERO_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.ids = new long[initSize];
+        this.timestamps = new long[initSize];
+        this.scores = new double[initSize];
+    }
+
+    /**
+     * Вспомогательный метод, который расширяет все колонки так, чтобы в них поместилось minCapacity записей.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > ids.length) {
+            int newCapacity = Math.max(ids.length * 2, minCapacity);
+            ids = Arrays.copyOf(ids, newCapacity);
+            timestamps = Arrays.copyOf(timestamps, newCapacity);
+            scores = Arrays.copyOf(scores, newCapacity);
+        }
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Метод для добавления записи в конец списка без создания объекта {@link Row}.
+     * @param id идентификатор
+     * @param timestamp метка времени
+     * @param score оценка
+     */
+    public void add(long id, long timestamp, double score) {
+        ensureCapacity(size + 1);
+        ids[size] = id;
+        timestamps[size] = timestamp;
+        scores[size] = score;
+        size++;
+    }
+
+    @Override
+    public void add(Row element) {
+        add(element.id(), element.timestamp(), element.score());
+    }
+
+    /**
+     * Метод для вставки записи; хвост каждой колонки сдвигается одним вызовом System.arraycopy.
+     * @param index позиция, на которую будет вставлена запись
+     * @param element запись
+     */
+    @Override
+    public void add(int index, Row element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Objects.requireNonNull(element);
+        ensureCapacity(size + 1);
+        int length = size - index;
+        System.arraycopy(ids, index, ids, index + 1, length);
+        System.arraycopy(timestamps, index, timestamps, index + 1, length);
+        System.arraycopy(scores, index, scores, index + 1, length);
+        ids[index] = element.id();
+        timestamps[index] = element.timestamp();
+        scores[index] = element.score();
+        size++;
+    }
+
+    /**
+     * Метод для получения записи: создаётся новый объект {@link Row} из значений колонок.
+     * @param index позиция записи
+     * @return запись
+     */
+    @Override
+    public Row get(int index) {
+        checkBounds(index);
+        return new Row(ids[index], timestamps[index], scores[index]);
+    }
+
+    /**
+     * @param index позиция записи
+     * @return идентификатор записи
+     */
+    public long getId(int index) {
+        checkBounds(index);
+        return ids[index];
+    }
+
+    /**
+     * @param index позиция записи
+     * @return метка времени записи
+     */
+    public long getTimestamp(int index) {
+        checkBounds(index);
+        return timestamps[index];
+    }
+
+    /**
+     * @param index позиция записи
+     * @return оценка записи
+     */
+    public double getScore(int index) {
+        checkBounds(index);
+        return scores[index];
+    }
+
+    /**
+     * Метод для замены оценки записи; остальные колонки не затрагиваются.
+     * @param index позиция записи
+     * @param score новая оценка
+     */
+    public void setScore(int index, double score) {
+        checkBounds(index);
+        scores[index] = score;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод для поиска первой записи, равной переданной: сначала просматривается колонка id, остальные
+     * колонки читаются только при совпадении.
+     * @param element искомая запись
+     * @return индекс записи или -1, если она не найдена
+     */
+    @Override
+    public int indexOf(Row element) {
+        if (element == null) {
+            return -1;
+        }
+        long id = element.id();
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id && timestamps[i] == element.timestamp()
+                    && Double.compare(scores[i], element.score()) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Row element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(Row element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void remove(int index) {
+        checkBounds(index);
+        removeRange(index, index + 1);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        int length = size - toIndex;
+        System.arraycopy(ids, toIndex, ids, fromIndex, length);
+        System.arraycopy(timestamps, toIndex, timestamps, fromIndex, length);
+        System.arraycopy(scores, toIndex, scores, fromIndex, length);
+        size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public void set(int index, Row element) {
+        checkBounds(index);
+        ids[index] = element.id();
+        timestamps[index] = element.timestamp();
+        scores[index] = element.score();
+    }
+
+    /**
+     * Метод для очистки списка. Колонки примитивные и не удерживают объекты, поэтому они не заполняются нулями.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Метод для поиска первой записи с указанным идентификатором; просматривается только колонка id.
+     * @param id идентификатор
+     * @return индекс записи или -1, если она не найдена
+     */
+    public int indexOfId(long id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод для подсчёта записей с меткой времени из диапазона [from, to); просматривается только колонка timestamp.
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @return количество записей
+     */
+    public int countTimestampsBetween(long from, long to) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            long timestamp = timestamps[i];
+            if (timestamp >= from && timestamp < to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Метод для вычисления суммы оценок; просматривается только колонка score.
+     * @return сумма оценок, 0 для пустого списка
+     */
+    public double sumScores() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += scores[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Метод для вычисления средней оценки.
+     * @return средняя оценка
+     * @throws NoSuchElementException если список пуст
+     */
+    public double averageScore() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return sumScores() / size;
+    }
+
+    /**
+     * Метод для поиска наибольшей оценки; просматривается только колонка score.
+     * @return наибольшая оценка (в порядке {@link Double#compare(double, double)})
+     * @throws NoSuchElementException если список пуст
+     */
+    public double maxScore() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        double max = scores[0];
+        for (int i = 1; i < size; i++) {
+            if (Double.compare(scores[i], max) > 0) {
+                max = scores[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Метод для вычисления суммы оценок записей с меткой времени из диапазона [from, to);
+     * просматриваются только колонки timestamp и score.
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @return сумма оценок
+     */
+    public double sumScoresBetween(long from, long to) {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            long timestamp = timestamps[i];
+            if (timestamp >= from && timestamp < to) {
+                sum += scores[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Метод для сортировки в естественном порядке {@link Row}: сравниваются значения колонок,
+     * объекты записей не создаются.
+     */
+    @Override
+    public void quickSort() {
+        sortByPermutation((i, j) -> {
+            int result = Long.compare(ids[i], ids[j]);
+            if (result == 0) {
+                result = Long.compare(timestamps[i], timestamps[j]);
+            }
+            return result != 0 ? result : Double.compare(scores[i], scores[j]);
+        });
+    }
+
+    /**
+     * Метод для сортировки по компаратору записей. Записи создаются один раз для каждой позиции,
+     * сортируется перестановка индексов.
+     * @param comparator компаратор; null означает естественный порядок
+     */
+    @Override
+    public void quickSort(Comparator<? super Row> comparator) {
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        Row[] rows = new Row[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new Row(ids[i], timestamps[i], scores[i]);
+        }
+        sortByPermutation((i, j) -> comparator.compare(rows[i], rows[j]));
+    }
+
+    /**
+     * Метод для сортировки по возрастанию метки времени; сравнивается только колонка timestamp.
+     */
+    public void sortByTimestamp() {
+        sortByPermutation((i, j) -> Long.compare(timestamps[i], timestamps[j]));
+    }
+
+    /**
+     * Метод для сортировки по возрастанию оценки; сравнивается только колонка score.
+     */
+    public void sortByScore() {
+        sortByPermutation((i, j) -> Double.compare(scores[i], scores[j]));
+    }
+
+    /**
+     * Сравнение записей по их исходным позициям.
+     */
+    @FunctionalInterface
+    private interface PositionComparator {
+        int compare(int i, int j);
+    }
+
+    /**
+     * Вспомогательный метод, который сортирует перестановку исходных позиций и применяет её ко всем колонкам.
+     */
+    private void sortByPermutation(PositionComparator comparator) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        new IndexedSorter() {
+            @Override
+            protected int compare(int i, int j) {
+                return comparator.compare(order[i], order[j]);
+            }
+
+            @Override
+            protected void swap(int i, int j) {
+                int temp = order[i];
+                order[i] = order[j];
+                order[j] = temp;
+            }
+        }.sort(0, size);
+        permute(order);
+    }
+
+    /**
+     * Вспомогательный метод, который на месте переставляет записи так, что на позицию i попадает запись
+     * с позиции order[i]. Перестановка обходится по циклам, все колонки записи перемещаются вместе;
+     * обработанные позиции отмечаются в order.
+     */
+    private void permute(int[] order) {
+        for (int start = 0; start < size; start++) {
+            if (order[start] == start) {
+                continue;
+            }
+            long id = ids[start];
+            long timestamp = timestamps[start];
+            double score = scores[start];
+            int current = start;
+            while (true) {
+                int next = order[current];
+                order[current] = current;
+                if (next == start) {
+                    ids[current] = id;
+                    timestamps[current] = timestamp;
+                    scores[current] = score;
+                    break;
+                }
+                ids[current] = ids[next];
+                timestamps[current] = timestamps[next];
+                scores[current] = scores[next];
+                current = next;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('(').append(ids[i]).append(", ").append(timestamps[i]).append(", ")
+                    .append(scores[i]).append(')');
+        }
+        return sb.append("]").toString();
+    }
+}
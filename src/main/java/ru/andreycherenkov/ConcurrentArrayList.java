@@ -0,0 +1,713 @@
+package ru.andreycherenkov;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Потокобезопасная реализация списка на основе массива.
+ * <ul>
+ *     <li>Чтение (get, size, indexOf, contains) выполняется в режиме оптимистичного чтения {@link StampedLock}
+ *     и не захватывает блокировку, если в это время не выполнялась структурная операция.</li>
+ *     <li>Добавление в конец не блокирует другие добавления: поток резервирует ячейку атомарным инкрементом,
+ *     записывает в неё элемент и публикует его, продвигая видимый размер через CAS. Продвигать размер
+ *     может любой добавляющий поток, поэтому никто не ждёт публикации чужих элементов. Добавляющие потоки
+ *     удерживают разделяемую (read) блокировку только для того, чтобы исключить одновременное выполнение
+ *     структурных операций.</li>
+ *     <li>Расширение контейнера выполняет поток, первым зарезервировавший ячейку за его пределами: он дожидается
+ *     записи всех предыдущих ячеек, копирует их в новый массив и подменяет ссылку на контейнер.
+ *     Старый массив при этом не изменяется, поэтому читатели продолжают работать с ним и не ждут расширения.</li>
+ *     <li>Остальные изменяющие операции (вставка и удаление по индексу, замена, очистка)
+ *     выполняются под эксклюзивной (write) блокировкой.</li>
+ *     <li>Операции, вызывающие пользовательский код (removeIf, сортировки, replaceAll), выполняют его
+ *     над снимком без блокировки и записывают результат под эксклюзивной блокировкой, если список
+ *     за это время не изменился, иначе повторяются; поэтому пользовательский код может читать этот же список.</li>
+ * </ul>
+ * Незаписанная ячейка контейнера содержит null, поэтому элементы, равные null, хранятся в виде специального
+ * маркера. Итераторы и сплитераторы работают над снимком списка на момент их создания.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class ConcurrentArrayList<T> implements MyList<T> {
+
+    /**
+     * Базовый размер контейнера.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Нулевой размер контейнера, необходим для проверки в конструкторе с параметром размерности списка.
+     */
+    private static final int ZERO_CAPACITY = 0;
+    /**
+     * Количество итераций активного ожидания, после которого ожидающий поток уступает процессор.
+     */
+    private static final int SPINS_BEFORE_YIELD = 64;
+    /**
+     * Маркер, которым в контейнере заменяется элемент null.
+     */
+    private static final Object NULL_ELEMENT = new Object();
+
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle SIZE;
+
+    static {
+        try {
+            SIZE = MethodHandles.lookup().findVarHandle(ConcurrentArrayList.class, "size", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final StampedLock lock = new StampedLock();
+    /**
+     * Контейнер, в котором хранятся элементы. Ссылка подменяется только целиком (при расширении).
+     */
+    private volatile Object[] container;
+    /**
+     * Опубликованный размер списка: все элементы с индексами меньше size записаны и видны читателям.
+     */
+    private volatile int size;
+    /**
+     * Индекс следующей свободной ячейки для добавления в конец. Превышает size, пока добавляющие потоки
+     * записывают элементы в зарезервированные ячейки.
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * Конструктор без параметров, создающий список с базовой размерностью (DEFAULT_CAPACITY)
+     */
+    public ConcurrentArrayList() {
+        this.container = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции.
+     * @param initSize размерность списка, необходимая для инициализации контейнера
+     * @throws IllegalArgumentException если указана отрицательная величина
+     */
+    public ConcurrentArrayList(int initSize) {
+        if (initSize < ZERO_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.container = new Object[initSize];
+    }
+
+    private static Object mask(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object element) {
+        return element == NULL_ELEMENT ? null : (T) element;
+    }
+
+    /**
+     * Метод для добавления элемента в конец списка без взаимной блокировки добавляющих потоков.
+     * @param element будет вставлен в конец списка
+     */
+    @Override
+    public void add(T element) {
+        long stamp = lock.readLock();
+        try {
+            int index = reserved.getAndIncrement();
+            Object[] elements = containerFor(index);
+            ELEMENTS.setVolatile(elements, index, mask(element));
+            advanceSize();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Вспомогательный метод, продвигающий опубликованный размер через все подряд записанные ячейки.
+     * Вызывается каждым добавляющим потоком после записи своей ячейки, поэтому элемент, записанный позже
+     * предыдущих, публикуется тем потоком, который закроет последний пропуск.
+     */
+    private void advanceSize() {
+        int current;
+        while ((current = size) < reserved.get()) {
+            Object[] elements = container;
+            if (current >= elements.length || ELEMENTS.getVolatile(elements, current) == null) {
+                return;
+            }
+            SIZE.compareAndSet(this, current, current + 1);
+        }
+    }
+
+    /**
+     * Вспомогательный метод, возвращающий контейнер, в котором есть ячейка с указанным индексом.
+     * Если индекс совпадает с размерностью текущего контейнера, вызывающий поток выполняет расширение:
+     * дожидается публикации всех предыдущих элементов, копирует их и подменяет контейнер.
+     * Потоки с большими индексами ожидают завершения расширения.
+     * @param index зарезервированный индекс
+     * @return контейнер, длина которого больше index
+     */
+    private Object[] containerFor(int index) {
+        for (int spins = 0; ; spins++) {
+            Object[] elements = container;
+            if (index < elements.length) {
+                return elements;
+            }
+            if (index == elements.length) {
+                for (int waits = 0; size != index; waits++) {
+                    advanceSize();
+                    backoff(waits);
+                }
+                Object[] grown = Arrays.copyOf(elements, Math.max(elements.length * 2, DEFAULT_CAPACITY));
+                container = grown;
+                return grown;
+            }
+            backoff(spins);
+        }
+    }
+
+    /**
+     * Вспомогательный метод ожидания: сначала активное ожидание, затем уступка процессора, чтобы поток,
+     * которого ожидают, мог продолжить работу даже при нехватке ядер.
+     */
+    private static void backoff(int spins) {
+        if (spins < SPINS_BEFORE_YIELD) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Метод для добавления всех элементов другого списка в конец под эксклюзивной блокировкой.
+     * @param elements список, элементы которого будут добавлены в конец
+     */
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        Object[] array = new Object[elements.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = elements.get(i);
+        }
+        appendAll(array);
+    }
+
+    /**
+     * Метод для добавления всех элементов коллекции в конец под эксклюзивной блокировкой.
+     * @param elements коллекция, элементы которой будут добавлены в конец
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        appendAll(elements.toArray());
+    }
+
+    private void appendAll(Object[] array) {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = mask(array[i]);
+        }
+        long stamp = lock.writeLock();
+        try {
+            int currentSize = size;
+            ensureCapacityLocked(currentSize + array.length);
+            System.arraycopy(array, 0, container, currentSize, array.length);
+            setSizeLocked(currentSize + array.length);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            int currentSize = size;
+            if (index < 0 || index > currentSize) {
+                throw new IndexOutOfBoundsException();
+            }
+            ensureCapacityLocked(currentSize + 1);
+            Object[] elements = container;
+            System.arraycopy(elements, index, elements, index + 1, currentSize - index);
+            elements[index] = mask(element);
+            setSizeLocked(currentSize + 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Метод для получения элемента без захвата блокировки (оптимистичное чтение). Если во время чтения
+     * выполнялась структурная операция, чтение повторяется под разделяемой блокировкой.
+     * @param index позиция, по которой будет получен элемент
+     * @return элемент по указанному индексу
+     * @throws IndexOutOfBoundsException если позиция превышает size или является отрицательной величиной
+     */
+    @Override
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        Object[] elements = container;
+        Object element = index >= 0 && index < currentSize && index < elements.length ? elements[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                element = index >= 0 && index < currentSize ? container[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unmask(element);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод для получения индекса первого вхождения элемента. Просмотр выполняется в режиме оптимистичного
+     * чтения и повторяется под разделяемой блокировкой, если во время просмотра список изменялся.
+     * @param element элемент, индекс которого необходимо получить
+     * @return индекс элемента при удачном исходе, -1 при отсутствии искомого элемента в коллекции
+     */
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        int result = indexOf(element, container, currentSize);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = indexOf(element, container, size);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    private static int indexOf(Object element, Object[] elements, int count) {
+        int bound = Math.min(count, elements.length);
+        for (int i = 0; i < bound; i++) {
+            if (element.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        if (element == null) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int index = indexOf(element, container, size);
+            if (index < 0) {
+                return false;
+            }
+            removeLocked(index);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            removeLocked(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void removeLocked(int index) {
+        int currentSize = size;
+        Object[] elements = container;
+        System.arraycopy(elements, index + 1, elements, index, currentSize - index - 1);
+        elements[currentSize - 1] = null;
+        setSizeLocked(currentSize - 1);
+    }
+
+    /**
+     * Метод для удаления элементов, удовлетворяющих условию. Условие проверяется над снимком списка без
+     * блокировки (см. {@link #update(UnaryOperator)}), поэтому может читать этот же список.
+     * @param filter условие удаления; может быть вызвано повторно для одного элемента
+     * @return true, если хотя бы один элемент был удалён
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        return update(snapshot -> {
+            int write = 0;
+            for (Object element : snapshot) {
+                if (!filter.test(unmask(element))) {
+                    snapshot[write++] = element;
+                }
+            }
+            return write == snapshot.length ? null : Arrays.copyOf(snapshot, write);
+        }) != null;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            int currentSize = size;
+            if (fromIndex < 0 || toIndex > currentSize || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException();
+            }
+            Object[] elements = container;
+            System.arraycopy(elements, toIndex, elements, fromIndex, currentSize - toIndex);
+            int newSize = currentSize - (toIndex - fromIndex);
+            Arrays.fill(elements, newSize, currentSize, null);
+            setSizeLocked(newSize);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void set(int index, T element) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            container[index] = mask(element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            Arrays.fill(container, 0, size, null);
+            setSizeLocked(0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void quickSort() {
+        update(snapshot -> {
+            Sorting.sortNatural(snapshot, 0, snapshot.length);
+            return snapshot;
+        });
+    }
+
+    /**
+     * Метод для сортировки по компаратору. Компаратор вызывается над снимком списка без блокировки
+     * (см. {@link #update(UnaryOperator)}), поэтому может читать этот же список.
+     * @param comparator компаратор; null означает естественный порядок
+     */
+    @Override
+    public void quickSort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        update(snapshot -> {
+            Sorting.introSort(snapshot, 0, snapshot.length, unmasking(comparator));
+            return snapshot;
+        });
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        update(snapshot -> {
+            Sorting.parallelSort(snapshot, 0, snapshot.length, effectiveComparator(snapshot, comparator), options);
+            return snapshot;
+        });
+    }
+
+    @Override
+    public void stableSort(Comparator<? super T> comparator) {
+        update(snapshot -> {
+            TimSort.sort(snapshot, 0, snapshot.length, effectiveComparator(snapshot, comparator), null);
+            return snapshot;
+        });
+    }
+
+    @Override
+    public T nthElement(int k, Comparator<? super T> comparator) {
+        Object[] selected = update(snapshot -> {
+            if (k < 0 || k >= snapshot.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            Sorting.select(snapshot, 0, snapshot.length, k, effectiveComparator(snapshot, comparator));
+            return snapshot;
+        });
+        return unmask(selected[k]);
+    }
+
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        update(snapshot -> {
+            if (k < 0 || k > snapshot.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            Sorting.partialSort(snapshot, 0, snapshot.length, k, effectiveComparator(snapshot, comparator));
+            return snapshot;
+        });
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        parallelReplaceAll(operator, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для замены каждого элемента результатом оператора. Оператор применяется к снимку списка
+     * без блокировки (см. {@link #update(UnaryOperator)}), а результат публикуется целиком, поэтому читатели
+     * не видят частично заменённый список.
+     * @param operator оператор, применяемый к каждому элементу; должен быть потокобезопасным и может быть
+     *                 вызван повторно для одного элемента
+     * @param options настройки параллельного выполнения
+     */
+    @Override
+    public void parallelReplaceAll(UnaryOperator<T> operator, ParallelOptions options) {
+        Objects.requireNonNull(operator);
+        update(snapshot -> {
+            BulkOps.replaceAll(snapshot, 0, snapshot.length, e -> mask(operator.apply(unmask(e))), options);
+            return snapshot;
+        });
+    }
+
+    /**
+     * Вспомогательный метод для изменяющих операций, вызывающих пользовательский код (условие, компаратор,
+     * оператор, compareTo). Такой код нельзя выполнять под эксклюзивной блокировкой: StampedLock
+     * не реентерабелен, и код, читающий этот же список, навсегда ждал бы блокировку своего же потока.
+     * Поэтому operation выполняется без блокировки над снимком контейнера, а её результат записывается
+     * под эксклюзивной блокировкой, только если после снимка список не изменялся; иначе operation
+     * повторяется над новым снимком.
+     * @param operation получает снимок (элементы null заменены маркером) и возвращает новое содержимое
+     *                  не длиннее снимка (можно сам снимок) или null, если список изменять не нужно
+     * @return результат operation, записанный в список
+     */
+    private Object[] update(UnaryOperator<Object[]> operation) {
+        for (;;) {
+            long stamp = lock.readLock();
+            Object[] snapshot;
+            try {
+                snapshot = Arrays.copyOf(container, size);
+            } finally {
+                stamp = lock.tryConvertToOptimisticRead(stamp);
+            }
+            Object[] result = operation.apply(snapshot);
+            if (result == null) {
+                return null;
+            }
+            long writeStamp;
+            for (int spins = 0; (writeStamp = lock.tryConvertToWriteLock(stamp)) == 0L && lock.validate(stamp);
+                 spins++) {
+                backoff(spins);
+            }
+            if (writeStamp == 0L) {
+                continue;
+            }
+            try {
+                int currentSize = size;
+                if (currentSize == snapshot.length) {
+                    Object[] elements = container;
+                    System.arraycopy(result, 0, elements, 0, result.length);
+                    Arrays.fill(elements, result.length, currentSize, null);
+                    setSizeLocked(result.length);
+                    return result;
+                }
+            } finally {
+                lock.unlockWrite(writeStamp);
+            }
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        parallelForEach(action, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для параллельного выполнения действия над снимком списка (см. {@link #toArray()}); действие
+     * не удерживает блокировку и может изменять список.
+     * @param action действие над элементом; должно быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+        Objects.requireNonNull(action);
+        Object[] snapshot = toArray();
+        BulkOps.forEach(snapshot, 0, snapshot.length, (Consumer<Object>) action, options);
+    }
+
+    @Override
+    public <R> MyList<R> map(Function<? super T, ? extends R> mapper) {
+        return parallelMap(mapper, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для получения нового списка из результатов функции над снимком списка.
+     * @param mapper функция преобразования элемента; должна быть потокобезопасной
+     * @param options настройки параллельного выполнения
+     * @param <R> тип элементов нового списка
+     * @return новый MyArrayList
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MyList<R> parallelMap(Function<? super T, ? extends R> mapper, ParallelOptions options) {
+        Objects.requireNonNull(mapper);
+        Object[] snapshot = toArray();
+        return MyArrayList.wrap(BulkOps.map(snapshot, 0, snapshot.length, (Function<Object, Object>) mapper, options));
+    }
+
+    @Override
+    public MyList<T> filter(Predicate<? super T> predicate) {
+        return parallelFilter(predicate, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для получения нового списка из элементов снимка списка, удовлетворяющих условию.
+     * @param predicate условие отбора; должно быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     * @return новый MyArrayList
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public MyList<T> parallelFilter(Predicate<? super T> predicate, ParallelOptions options) {
+        Objects.requireNonNull(predicate);
+        Object[] snapshot = toArray();
+        return MyArrayList.wrap(BulkOps.filter(snapshot, 0, snapshot.length, (Predicate<Object>) predicate, options));
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        return parallelReduce(identity, accumulator, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для параллельной свёртки снимка списка.
+     * @param identity нейтральный элемент accumulator, результат для пустого списка
+     * @param accumulator ассоциативная функция свёртки без побочных эффектов
+     * @param options настройки параллельного выполнения
+     * @return результат свёртки
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T parallelReduce(T identity, BinaryOperator<T> accumulator, ParallelOptions options) {
+        Objects.requireNonNull(accumulator);
+        Object[] snapshot = toArray();
+        return (T) BulkOps.reduce(snapshot, 0, snapshot.length, identity, (BinaryOperator<Object>) accumulator,
+                options);
+    }
+
+    /**
+     * Вспомогательный метод, возвращающий компаратор естественного порядка, если компаратор не передан.
+     */
+    private static <T> Comparator<Object> effectiveComparator(Object[] snapshot, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            Sorting.checkComparable(snapshot, 0, snapshot.length);
+            return Sorting.NATURAL_ORDER;
+        }
+        return unmasking(comparator);
+    }
+
+    /**
+     * Вспомогательный метод, возвращающий компаратор, который передаёт пользовательскому компаратору
+     * элементы null вместо маркера.
+     */
+    private static <T> Comparator<Object> unmasking(Comparator<? super T> comparator) {
+        return (a, b) -> comparator.compare(unmask(a), unmask(b));
+    }
+
+    /**
+     * Вспомогательный метод для расширения контейнера под эксклюзивной блокировкой.
+     */
+    private void ensureCapacityLocked(int minCapacity) {
+        Object[] elements = container;
+        if (minCapacity > elements.length) {
+            container = Arrays.copyOf(elements, Math.max(elements.length * 2, minCapacity));
+        }
+    }
+
+    /**
+     * Вспомогательный метод для изменения размера под эксклюзивной блокировкой. Так как добавляющие потоки
+     * в это время не работают, счётчик резервирования совпадает с опубликованным размером.
+     */
+    private void setSizeLocked(int newSize) {
+        size = newSize;
+        reserved.set(newSize);
+    }
+
+    /**
+     * Метод для получения согласованного снимка элементов списка.
+     * @return массив длиной size с элементами списка
+     */
+    public Object[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        Object[] snapshot = Arrays.copyOf(container, currentSize);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                snapshot = Arrays.copyOf(container, size);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = unmask(snapshot[i]);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Метод для получения итератора по снимку списка. Итератор не отражает последующие изменения
+     * и не поддерживает удаление.
+     * @return итератор по снимку элементов
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+        return (Iterator<T>) Arrays.asList(toArray()).iterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<T> spliterator() {
+        return (Spliterator<T>) Spliterators.spliterator(toArray(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,66 @@
+package ru.andreycherenkov;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Вспомогательные методы для работы с прямыми (off-heap) буферами. Память прямого буфера обычно
+ * освобождается только после сборки мусора, поэтому для явного освобождения используется
+ * {@code sun.misc.Unsafe#invokeCleaner} (модуль jdk.unsupported). Если он недоступен, освобождение
+ * откладывается до сборки мусора.
+ *
+ * @author Андрей Черенков
+ */
+final class DirectMemory {
+
+    /**
+     * Обработчик вызова Unsafe.invokeCleaner, привязанный к экземпляру Unsafe; null, если недоступен.
+     */
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectMemory() {
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().findVirtual(unsafeClass, "invokeCleaner",
+                    MethodType.methodType(void.class, ByteBuffer.class));
+            return handle.bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Выделяет прямой буфер с порядком байт платформы.
+     * @param bytes размер буфера в байтах
+     * @return новый прямой буфер
+     */
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Немедленно освобождает память прямого буфера. После вызова буфер использовать нельзя.
+     * @param buffer прямой буфер; null игнорируется
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (IllegalArgumentException e) {
+            // Буфер является представлением (slice/duplicate) - память освободит сборщик мусора.
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Специализированная реализация списка для примитивного типа double, не является потокобезопасной.
+ * Элементы хранятся в массиве double[], поэтому операции добавления и получения не требуют упаковки (boxing)
+ * в объекты Double. Коллекция содержит те же операции, что и {@link MyList}: addDouble, getDouble, setDouble, removeAt,
+ * removeDouble, indexOfDouble, containsDouble, clear, quickSort. Для передачи списка туда, где ожидается
+ * {@code MyList<Double>}, используется адаптер {@link #asMyList()}.
+ *
+ * @author Андрей Черенков
+ */
+public class DoubleList {
+
+    /**
+     * Базовый размер контейнера.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Нулевой размер контейнера, необходим для проверки в конструкторе с параметром размерности списка.
+     */
+    private static final int ZERO_CAPACITY = 0;
+
+    /**
+     * Контейнер (массив), в котором хранятся элементы.
+     */
+    private double[] container;
+    /**
+     * Размерность списка (число элементов, которые он содержит)
+     */
+    private int size;
+
+    /**
+     * Конструктор без параметров, создающий список с базовой размерностью (DEFAULT_CAPACITY)
+     */
+    public DoubleList() {
+        this.container = new double[DEFAULT_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции.
+     * @param initSize размерность списка, необходимая для инициализации контейнера
+     * @throws IllegalArgumentException если указана отрицательная величина
+     */
+    public DoubleList(int initSize) {
+        if (initSize < ZERO_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.container = new double[initSize];
+        this.size = 0;
+    }
+
+    /**
+     * Вспомогательный метод, который возвращает контейнер с увеличенной в 2 раза размерностью
+     * (пустой контейнер расширяется до DEFAULT_CAPACITY).
+     * @return контейнер с увеличенной размерностью
+     */
+    private double[] increaseCapacity() {
+        int newCapacity = Math.max(container.length * 2, DEFAULT_CAPACITY);
+        return Arrays.copyOf(container, newCapacity);
+    }
+
+    /**
+     * Вспомогательный метод для проверки границ массива.
+     * @param index проверяемая граница
+     * @throws IndexOutOfBoundsException если граница отрицательная или проверяемое значение превышает size
+     */
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Метод для добавления элемента в конец списка.
+     * @param element будет вставлен в конец списка
+     */
+    public void addDouble(double element) {
+        if (size == container.length) {
+            container = increaseCapacity();
+        }
+        container[size++] = element;
+    }
+
+    /**
+     * Метод для вставки элемента в произвольную позицию списка со сдвигом элементов справа.
+     * @param index позиция, куда будет вставлен элемент
+     * @param element элемент, который будет вставлен в указанную позицию
+     * @throws IndexOutOfBoundsException если позиция превышает size или является отрицательной величиной
+     */
+    public void addDouble(int index, double element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (size == container.length) {
+            container = increaseCapacity();
+        }
+        System.arraycopy(container, index, container, index + 1, size - index);
+        container[index] = element;
+        size++;
+    }
+
+    /**
+     * Метод для получения элемента списка на указанной позиции.
+     * @param index позиция, по которой будет получен элемент
+     * @return элемент по указанному индексу
+     * @throws IndexOutOfBoundsException если позиция превышает size или является отрицательной величиной
+     */
+    public double getDouble(int index) {
+        checkBounds(index);
+        return container[index];
+    }
+
+    /**
+     * Метод для замены одного элемента другим под указанным индексом.
+     * @param index индекс элемента, который будет заменён
+     * @param element элемент, который будет подставлен вместо старого
+     * @throws IndexOutOfBoundsException если индекс превышает size или является отрицательным значением
+     */
+    public void setDouble(int index, double element) {
+        checkBounds(index);
+        container[index] = element;
+    }
+
+    /**
+     * Метод для удаления элемента списка по индексу. При успешном удалении происходит сдвиг оставшихся элементов.
+     * @param index индекс элемента, который будет удалён
+     * @throws IndexOutOfBoundsException если индекс превышает size или является отрицательным значением
+     */
+    public void removeAt(int index) {
+        checkBounds(index);
+        int length = size - index - 1;
+        if (length > 0) {
+            System.arraycopy(container, index + 1, container, index, length);
+        }
+        size--;
+    }
+
+    /**
+     * Метод для удаления первого вхождения элемента списка.
+     * @param element элемент, который будет удалён из списка
+     * @return true при успешном удалении, false если такого элемента не было найдено в списке
+     */
+    public boolean removeDouble(double element) {
+        int index = indexOfDouble(element);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Метод для получения индекса первого вхождения элемента в списке. Элементы сравниваются так же, как
+     * в {@link Double#equals(Object)}: NaN равен NaN, а 0.0 и -0.0 считаются разными значениями.
+     * @param element элемент, индекс которого необходимо получить
+     * @return индекс элемента при удачном исходе, -1 при отсутствии искомого элемента в коллекции
+     */
+    public int indexOfDouble(double element) {
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(container[i]) == Double.doubleToLongBits(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Метод для проверки наличия элемента в коллекции.
+     * @param element элемент, наличие которого необходимо определить в списке
+     * @return true - при наличии элемента в списке, false - при отсутствии элемента в списке
+     */
+    public boolean containsDouble(double element) {
+        return indexOfDouble(element) >= 0;
+    }
+
+    /**
+     * Метод для получения количества добавленных элементов.
+     * @return количество элементов (size)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод для очистки списка. Так как элементы примитивные, обнулять контейнер не требуется.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Метод сортировки элементов по возрастанию. Сортировка выполняется непосредственно над контейнером
+     * без упаковки элементов.
+     */
+    public void quickSort() {
+        Arrays.sort(container, 0, size);
+    }
+
+    /**
+     * Метод для получения копии элементов списка.
+     * @return массив длиной size с элементами списка
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(container, size);
+    }
+
+    /**
+     * Метод для получения адаптера, позволяющего передать список туда, где ожидается {@code MyList<Double>}.
+     * Адаптер не копирует данные: все операции выполняются над этим же списком, упаковка происходит
+     * только на границе адаптера.
+     * @return представление списка в виде {@code MyList<Double>}
+     */
+    public MyList<Double> asMyList() {
+        return new Boxed();
+    }
+
+    /**
+     * Переопределенный метод для вывода списка.
+     * @return текстовое представление списка (String)
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(container[i]).append(", ");
+        }
+        sb.setLength(sb.length() - 2);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Переопределенный метод equals. Сравниваются только первые size элементов контейнера.
+     * @param o объект, с которым будет сравниваться другой объект
+     * @return true - если объекты одинаковые, false - если объекты не одинаковые
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DoubleList that = (DoubleList) o;
+        return size == that.size && Arrays.equals(container, 0, size, that.container, 0, size);
+    }
+
+    /**
+     * Переопределенный метод hashCode. Код генерируется на основе первых size элементов контейнера.
+     * @return хеш код списка
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(container[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Адаптер списка к интерфейсу {@code MyList<Double>}.
+     */
+    private class Boxed implements MyList<Double> {
+
+        @Override
+        public void add(Double element) {
+            addDouble(element);
+        }
+
+        @Override
+        public void add(int index, Double element) {
+            addDouble(index, element);
+        }
+
+        @Override
+        public Double get(int index) {
+            return getDouble(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int indexOf(Double element) {
+            return element == null ? -1 : indexOfDouble(element);
+        }
+
+        @Override
+        public boolean remove(Double element) {
+            return element != null && removeDouble(element);
+        }
+
+        @Override
+        public void remove(int index) {
+            removeAt(index);
+        }
+
+        @Override
+        public void set(int index, Double element) {
+            setDouble(index, element);
+        }
+
+        @Override
+        public void clear() {
+            DoubleList.this.clear();
+        }
+
+        @Override
+        public void quickSort() {
+            DoubleList.this.quickSort();
+        }
+
+        /**
+         * Сортировка с компаратором требует упаковки элементов, так как компаратор работает с объектами.
+         * @param comparator компаратор для сравнения элементов списка
+         */
+        @Override
+        public void quickSort(Comparator<? super Double> comparator) {
+            Double[] boxed = new Double[size];
+            for (int i = 0; i < size; i++) {
+                boxed[i] = container[i];
+            }
+            Arrays.sort(boxed, comparator);
+            for (int i = 0; i < size; i++) {
+                container[i] = boxed[i];
+            }
+        }
+
+        @Override
+        public boolean contains(Double element) {
+            return element != null && containsDouble(element);
+        }
+
+        @Override
+        public String toString() {
+            return DoubleList.this.toString();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package ru.andreycherenkov;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Кодек элементов для потоковой сериализации списков ({@link ListWriter}, {@link ListReader}).
+ * Кодек либо фиксированной ширины ({@link #fixedSize()} больше нуля), и тогда элементы записываются подряд
+ * без разметки, либо переменной ширины, и тогда перед каждым элементом записывается его длина.
+ * Методы записи и чтения работают с текущей позицией буфера; писатель и читатель гарантируют, что в буфере
+ * достаточно места или данных для одного элемента.
+ *
+ * @param <T> тип кодируемых элементов
+ *
+ * @author Андрей Черенков
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Признак пользовательского кодека в заголовке потока.
+     */
+    byte TAG_CUSTOM = 0;
+    /**
+     * Признак кодека {@link #ofInt()}.
+     */
+    byte TAG_INT = 1;
+    /**
+     * Признак кодека {@link #ofLong()}.
+     */
+    byte TAG_LONG = 2;
+    /**
+     * Признак кодека {@link #ofDouble()}.
+     */
+    byte TAG_DOUBLE = 3;
+    /**
+     * Признак кодека {@link #ofString()}.
+     */
+    byte TAG_STRING = 4;
+    /**
+     * Значение {@link #fixedSize()} для кодеков переменной ширины.
+     */
+    int VARIABLE_SIZE = -1;
+
+    /**
+     * @return признак кодека, записываемый в заголовок потока и проверяемый при чтении
+     */
+    default byte tag() {
+        return TAG_CUSTOM;
+    }
+
+    /**
+     * @return количество байт одного элемента или {@link #VARIABLE_SIZE}, если ширина зависит от элемента
+     */
+    int fixedSize();
+
+    /**
+     * @param element элемент (не null)
+     * @return количество байт, которое займёт закодированный элемент
+     */
+    int sizeOf(T element);
+
+    /**
+     * Записывает элемент с текущей позиции буфера и сдвигает позицию на {@link #sizeOf(Object)} байт.
+     * @param out буфер, в котором есть место для элемента
+     * @param element элемент (не null)
+     */
+    void write(ByteBuffer out, T element);
+
+    /**
+     * Читает элемент с текущей позиции буфера и сдвигает позицию на size байт.
+     * @param in буфер, в котором есть size байт элемента
+     * @param size длина закодированного элемента
+     * @return прочитанный элемент
+     */
+    T read(ByteBuffer in, int size);
+
+    /**
+     * @return кодек для значений Integer (4 байта); писатель и читатель поддерживают для него методы без упаковки
+     */
+    static ElementCodec<Integer> ofInt() {
+        return new ElementCodec<>() {
+            @Override
+            public byte tag() {
+                return TAG_INT;
+            }
+
+            @Override
+            public int fixedSize() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public int sizeOf(Integer element) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer out, Integer element) {
+                out.putInt(element);
+            }
+
+            @Override
+            public Integer read(ByteBuffer in, int size) {
+                return in.getInt();
+            }
+        };
+    }
+
+    /**
+     * @return кодек для значений Long (8 байт); писатель и читатель поддерживают для него методы без упаковки
+     */
+    static ElementCodec<Long> ofLong() {
+        return new ElementCodec<>() {
+            @Override
+            public byte tag() {
+                return TAG_LONG;
+            }
+
+            @Override
+            public int fixedSize() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public int sizeOf(Long element) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer out, Long element) {
+                out.putLong(element);
+            }
+
+            @Override
+            public Long read(ByteBuffer in, int size) {
+                return in.getLong();
+            }
+        };
+    }
+
+    /**
+     * @return кодек для значений Double (8 байт); писатель и читатель поддерживают для него методы без упаковки
+     */
+    static ElementCodec<Double> ofDouble() {
+        return new ElementCodec<>() {
+            @Override
+            public byte tag() {
+                return TAG_DOUBLE;
+            }
+
+            @Override
+            public int fixedSize() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public int sizeOf(Double element) {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer out, Double element) {
+                out.putDouble(element);
+            }
+
+            @Override
+            public Double read(ByteBuffer in, int size) {
+                return in.getDouble();
+            }
+        };
+    }
+
+    /**
+     * @return кодек для строк в UTF-8. Строка кодируется прямо в буфер без промежуточного массива байт,
+     * для строк из символов ASCII кодирование сводится к одной записи на символ. Непарный суррогат, как и
+     * в {@link StandardCharsets#UTF_8}, заменяется байтом '?'
+     */
+    static ElementCodec<String> ofString() {
+        return new ElementCodec<>() {
+            @Override
+            public byte tag() {
+                return TAG_STRING;
+            }
+
+            @Override
+            public int fixedSize() {
+                return VARIABLE_SIZE;
+            }
+
+            @Override
+            public int sizeOf(String element) {
+                int length = element.length();
+                int bytes = length;
+                for (int i = 0; i < length; i++) {
+                    char c = element.charAt(i);
+                    if (c >= 0x80) {
+                        if (c < 0x800) {
+                            bytes += 1;
+                        } else if (Character.isHighSurrogate(c) && i + 1 < length
+                                && Character.isLowSurrogate(element.charAt(i + 1))) {
+                            bytes += 2;
+                            i++;
+                        } else if (!Character.isSurrogate(c)) {
+                            bytes += 2;
+                        }
+                    }
+                }
+                return bytes;
+            }
+
+            @Override
+            public void write(ByteBuffer out, String element) {
+                int length = element.length();
+                int i = 0;
+                while (i < length && element.charAt(i) < 0x80) {
+                    out.put((byte) element.charAt(i++));
+                }
+                for (; i < length; i++) {
+                    char c = element.charAt(i);
+                    if (c < 0x80) {
+                        out.put((byte) c);
+                    } else if (c < 0x800) {
+                        out.put((byte) (0xC0 | c >> 6));
+                        out.put((byte) (0x80 | c & 0x3F));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < length
+                            && Character.isLowSurrogate(element.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, element.charAt(++i));
+                        out.put((byte) (0xF0 | codePoint >> 18));
+                        out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                        out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                        out.put((byte) (0x80 | codePoint & 0x3F));
+                    } else if (Character.isSurrogate(c)) {
+                        out.put((byte) '?');
+                    } else {
+                        out.put((byte) (0xE0 | c >> 12));
+                        out.put((byte) (0x80 | c >> 6 & 0x3F));
+                        out.put((byte) (0x80 | c & 0x3F));
+                    }
+                }
+            }
+
+            @Override
+            public String read(ByteBuffer in, int size) {
+                String element;
+                if (in.hasArray()) {
+                    element = new String(in.array(), in.arrayOffset() + in.position(), size, StandardCharsets.UTF_8);
+                    in.position(in.position() + size);
+                } else {
+                    byte[] bytes = new byte[size];
+                    in.get(bytes);
+                    element = new String(bytes, StandardCharsets.UTF_8);
+                }
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Метод для использования кодека фиксированной ширины списков вне кучи в потоковой сериализации.
+     * @param codec кодек фиксированной ширины
+     * @param <T> тип элементов
+     * @return кодек с той же шириной и тем же представлением элементов
+     */
+    static <T> ElementCodec<T> of(FixedWidthCodec<T> codec) {
+        int width = codec.width();
+        return new ElementCodec<>() {
+            @Override
+            public int fixedSize() {
+                return width;
+            }
+
+            @Override
+            public int sizeOf(T element) {
+                return width;
+            }
+
+            @Override
+            public void write(ByteBuffer out, T element) {
+                codec.write(out, out.position(), element);
+                out.position(out.position() + width);
+            }
+
+            @Override
+            public T read(ByteBuffer in, int size) {
+                T element = codec.read(in, in.position());
+                in.position(in.position() + width);
+                return element;
+            }
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+
+/**
+ * Вспомогательная хеш-таблица с открытой адресацией (линейное пробирование), отображающая элемент
+ * на индекс его первого вхождения в список. Ключи и значения хранятся в параллельных массивах,
+ * поэтому на каждую запись не создаются дополнительные объекты. Значения null не индексируются.
+ *
+ * @author Андрей Черенков
+ */
+final class ElementIndex {
+
+    /**
+     * Минимальная размерность таблицы.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Ключи таблицы; null означает свободную ячейку.
+     */
+    private Object[] keys;
+    /**
+     * Индексы первых вхождений ключей.
+     */
+    private int[] positions;
+    /**
+     * Количество занятых ячеек.
+     */
+    private int count;
+
+    ElementIndex(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Вспомогательный метод для подбора размерности таблицы: степень двойки, при которой
+     * коэффициент заполнения не превышает 0.5.
+     */
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        positions = new int[capacity];
+        count = 0;
+    }
+
+    /**
+     * Перемешивание хеш-кода (умножение Фибоначчи), чтобы соседние хеш-коды не образовывали кластеров.
+     */
+    private int slot(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (keys.length - 1);
+    }
+
+    /**
+     * Метод для получения индекса первого вхождения элемента.
+     * @param key элемент
+     * @return индекс первого вхождения или -1, если элемент не проиндексирован
+     */
+    int get(Object key) {
+        int mask = keys.length - 1;
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            Object current = keys[i];
+            if (current == null) {
+                return -1;
+            }
+            if (current.equals(key)) {
+                return positions[i];
+            }
+        }
+    }
+
+    /**
+     * Метод для записи индекса вхождения элемента. Если элемент уже есть в таблице, сохраняется меньший индекс,
+     * так как таблица хранит первое вхождение.
+     * @param key элемент
+     * @param position индекс вхождения элемента в списке
+     */
+    void putFirst(Object key, int position) {
+        int mask = keys.length - 1;
+        int i = slot(key);
+        for (Object current = keys[i]; current != null; current = keys[i]) {
+            if (current.equals(key)) {
+                if (position < positions[i]) {
+                    positions[i] = position;
+                }
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        positions[i] = position;
+        if (++count * 2 > keys.length) {
+            rehash();
+        }
+    }
+
+    /**
+     * Метод для удаления элемента из таблицы. Освободившаяся ячейка заполняется сдвигом последующих записей
+     * цепочки (backward shift), поэтому таблице не требуются «надгробия».
+     * @param key элемент
+     */
+    void remove(Object key) {
+        int mask = keys.length - 1;
+        int i = slot(key);
+        for (Object current = keys[i]; ; current = keys[i]) {
+            if (current == null) {
+                return;
+            }
+            if (current.equals(key)) {
+                break;
+            }
+            i = (i + 1) & mask;
+        }
+        int hole = i;
+        for (int j = (hole + 1) & mask; keys[j] != null; j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                positions[hole] = positions[j];
+                hole = j;
+            }
+        }
+        keys[hole] = null;
+        count--;
+    }
+
+    /**
+     * Метод для сдвига индексов вхождений после вставки или удаления элемента в середине списка.
+     * Выполняется одним проходом по таблице без вычисления хеш-кодов.
+     * @param from индексы, не меньшие from, сдвигаются
+     * @param delta величина сдвига
+     */
+    void shift(int from, int delta) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && positions[i] >= from) {
+                positions[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Метод для очистки таблицы без освобождения памяти.
+     */
+    void clear() {
+        Arrays.fill(keys, null);
+        count = 0;
+    }
+
+    /**
+     * Метод для полного перестроения таблицы по содержимому списка.
+     * @param list список, элементы которого индексируются
+     */
+    void rebuild(MyList<?> list) {
+        int size = list.size();
+        int capacity = tableSizeFor(size);
+        if (capacity > keys.length || capacity * 4 < keys.length) {
+            allocate(capacity);
+        } else {
+            clear();
+        }
+        for (int i = 0; i < size; i++) {
+            Object element = list.get(i);
+            if (element != null) {
+                putFirst(element, i);
+            }
+        }
+    }
+
+    private void rehash() {
+        Object[] oldKeys = keys;
+        int[] oldPositions = positions;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                putFirst(oldKeys[i], oldPositions[i]);
+            }
+        }
+    }
+}
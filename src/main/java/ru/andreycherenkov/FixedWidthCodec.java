@@ -0,0 +1,104 @@
+package ru.andreycherenkov;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов фиксированной ширины для списков, хранящих данные вне кучи ({@link OffHeapList}, {@link MappedList}).
+ * Каждый элемент занимает ровно {@link #width()} байт и записывается по абсолютному смещению в буфере.
+ * Кодирование должно быть однозначным: равные элементы обязаны кодироваться одинаковыми байтами,
+ * так как поиск элементов выполняется сравнением закодированных значений.
+ *
+ * @param <T> тип кодируемых элементов
+ *
+ * @author Андрей Черенков
+ */
+public interface FixedWidthCodec<T> {
+
+    /**
+     * @return количество байт, занимаемых одним элементом
+     */
+    int width();
+
+    /**
+     * Записывает элемент в буфер по указанному смещению.
+     * @param buffer буфер, в который записывается элемент
+     * @param offset смещение в байтах
+     * @param element элемент; значения null не поддерживаются
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Читает элемент из буфера по указанному смещению.
+     * @param buffer буфер, из которого читается элемент
+     * @param offset смещение в байтах
+     * @return прочитанный элемент
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    /**
+     * @return кодек для значений Integer (4 байта)
+     */
+    static FixedWidthCodec<Integer> ofInt() {
+        return new FixedWidthCodec<>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer element) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * @return кодек для значений Long (8 байт)
+     */
+    static FixedWidthCodec<Long> ofLong() {
+        return new FixedWidthCodec<>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long element) {
+                buffer.putLong(offset, element);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * @return кодек для значений Double (8 байт); значения сравниваются по битовому представлению,
+     * как в {@link Double#equals(Object)}
+     */
+    static FixedWidthCodec<Double> ofDouble() {
+        return new FixedWidthCodec<>() {
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double element) {
+                buffer.putLong(offset, Double.doubleToLongBits(element));
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return Double.longBitsToDouble(buffer.getLong(offset));
+            }
+        };
+    }
+}
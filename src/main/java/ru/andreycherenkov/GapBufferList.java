@@ -0,0 +1,317 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Реализация списка на основе буфера с разрывом (gap buffer), не является потокобезопасной.
+ * Свободные ячейки контейнера образуют один непрерывный разрыв, который перемещается к позиции вставки
+ * или удаления. Перемещение разрыва копирует только элементы между старой и новой позицией, поэтому
+ * серия правок рядом с курсором стоит O(1) на правку плюс O(d) на перемещение курсора на расстояние d,
+ * тогда как в {@link MyArrayList} каждая правка сдвигает весь хвост списка.
+ * <p>
+ * Для правок в случайных позициях преимущества нет: разрыв в среднем перемещается на треть списка.
+ * Операции, которым нужен непрерывный массив (сортировка, массовое удаление), сначала переносят
+ * разрыв в конец контейнера.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class GapBufferList<T> implements MyList<T> {
+
+    /**
+     * Базовый размер контейнера.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Нулевой размер контейнера, необходим для проверки в конструкторе с параметром размерности списка.
+     */
+    private static final int ZERO_CAPACITY = 0;
+
+    /**
+     * Контейнер, в котором хранятся элементы: [0, gapStart) - элементы до разрыва,
+     * [gapStart, gapEnd) - разрыв, [gapEnd, container.length) - элементы после разрыва.
+     */
+    private Object[] container;
+    /**
+     * Начало разрыва (включительно); совпадает с логическим индексом первого элемента после разрыва.
+     */
+    private int gapStart;
+    /**
+     * Конец разрыва (не включительно).
+     */
+    private int gapEnd;
+
+    /**
+     * Конструктор без параметров, создающий список с базовой размерностью (DEFAULT_CAPACITY)
+     */
+    public GapBufferList() {
+        this.container = new Object[DEFAULT_CAPACITY];
+        this.gapEnd = DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции.
+     * @param initSize размерность списка, необходимая для инициализации контейнера
+     * @throws IllegalArgumentException если указана отрицательная величина
+     */
+    public GapBufferList(int initSize) {
+        if (initSize < ZERO_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.container = new Object[initSize];
+        this.gapEnd = initSize;
+    }
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    /**
+     * Вспомогательный метод для перевода логического индекса в индекс контейнера.
+     */
+    private int physical(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Вспомогательный метод, перемещающий разрыв так, чтобы он начинался с логического индекса index.
+     * Копируются только элементы между старым и новым положением разрыва; освободившиеся ячейки
+     * обнуляются, чтобы не удерживать ссылки.
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            int newGapEnd = gapEnd - count;
+            System.arraycopy(container, index, container, newGapEnd, count);
+            Arrays.fill(container, index, Math.min(gapStart, newGapEnd), null);
+            gapStart = index;
+            gapEnd = newGapEnd;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            int newGapEnd = gapEnd + count;
+            System.arraycopy(container, gapEnd, container, gapStart, count);
+            Arrays.fill(container, Math.max(gapEnd, index), newGapEnd, null);
+            gapStart = index;
+            gapEnd = newGapEnd;
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который расширяет контейнер так, чтобы разрыв вмещал не меньше required ячеек.
+     * Размерность увеличивается не меньше чем в 2 раза, элементы после разрыва переносятся в конец.
+     */
+    private void ensureGap(int required) {
+        if (gapLength() >= required) {
+            return;
+        }
+        int size = size();
+        int newCapacity = Math.max(container.length * 2, size + required);
+        Object[] grown = new Object[newCapacity];
+        int tail = container.length - gapEnd;
+        System.arraycopy(container, 0, grown, 0, gapStart);
+        System.arraycopy(container, gapEnd, grown, newCapacity - tail, tail);
+        container = grown;
+        gapEnd = newCapacity - tail;
+    }
+
+    /**
+     * Вспомогательный метод, который переносит разрыв в конец контейнера, после чего элементы
+     * занимают ячейки [0, size).
+     */
+    private void compact() {
+        moveGap(size());
+    }
+
+    @Override
+    public void add(T element) {
+        add(size(), element);
+    }
+
+    /**
+     * Метод для вставки элемента. Разрыв перемещается к позиции index, после чего элемент записывается
+     * в первую ячейку разрыва.
+     * @param index позиция, на которую будет вставлен элемент
+     * @param element элемент, который будет вставлен
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureGap(1);
+        moveGap(index);
+        container[gapStart++] = element;
+    }
+
+    /**
+     * Метод для добавления всех элементов другого списка в конец. Контейнер расширяется не более одного раза.
+     * @param elements список, элементы которого будут добавлены
+     */
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        int count = elements.size();
+        ensureGap(count);
+        compact();
+        for (int i = 0; i < count; i++) {
+            container[gapStart++] = elements.get(i);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkBounds(index);
+        return (T) container[physical(index)];
+    }
+
+    @Override
+    public int size() {
+        return container.length - gapLength();
+    }
+
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+        for (int i = 0; i < gapStart; i++) {
+            if (element.equals(container[i])) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < container.length; i++) {
+            if (element.equals(container[i])) {
+                return i - gapLength();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Метод для удаления элемента по индексу. Разрыв перемещается к позиции index и поглощает элемент.
+     * @param index индекс удаляемого элемента
+     */
+    @Override
+    public void remove(int index) {
+        checkBounds(index);
+        moveGap(index);
+        container[gapEnd++] = null;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        moveGap(fromIndex);
+        int newGapEnd = gapEnd + (toIndex - fromIndex);
+        Arrays.fill(container, gapEnd, newGapEnd, null);
+        gapEnd = newGapEnd;
+    }
+
+    /**
+     * Метод для удаления элементов по условию за один проход после переноса разрыва в конец.
+     * @param filter условие, при выполнении которого элемент удаляется
+     * @return true, если был удалён хотя бы один элемент
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        compact();
+        int size = gapStart;
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                Object element = container[read];
+                if (!filter.test((T) element)) {
+                    container[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(container, read, container, write, size - read);
+            int newSize = write + size - read;
+            Arrays.fill(container, newSize, size, null);
+            gapStart = newSize;
+        }
+        return read != write;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkBounds(index);
+        container[physical(index)] = element;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(container, null);
+        gapStart = 0;
+        gapEnd = container.length;
+    }
+
+    @Override
+    public void quickSort() {
+        compact();
+        Sorting.sortNatural(container, 0, gapStart);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void quickSort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        compact();
+        Sorting.introSort(container, 0, gapStart, (Comparator<Object>) comparator);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        compact();
+        Comparator<Object> effective = (Comparator<Object>) comparator;
+        if (effective == null) {
+            Sorting.checkComparable(container, 0, gapStart);
+            effective = Sorting.NATURAL_ORDER;
+        }
+        Sorting.parallelSort(container, 0, gapStart, effective, options);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(container[physical(i)]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,114 @@
+package ru.andreycherenkov;
+
+/**
+ * Стратегия расширения контейнера {@link MyArrayList}. Подключается методом
+ * {@link MyArrayList#setGrowthPolicy(GrowthPolicy)}; по умолчанию используется {@link #doubling()}.
+ * <p>
+ * Умножение на коэффициент даёт амортизированное O(1) добавление ценой запаса до (factor - 1) * size ячеек;
+ * прибавление фиксированного шага ограничивает запас, но делает добавление n элементов квадратичным по
+ * количеству копирований. Ограничение {@link #capped(int)} задаёт наибольшую размерность контейнера.
+ *
+ * @author Андрей Черенков
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Наибольшая размерность массива, которую гарантированно может выделить виртуальная машина.
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Метод для вычисления новой размерности контейнера.
+     * @param capacity текущая размерность контейнера
+     * @param minCapacity необходимая размерность, всегда больше текущей
+     * @return новая размерность, не меньше minCapacity
+     * @throws IllegalStateException если minCapacity превышает допустимую размерность
+     */
+    int grow(int capacity, int minCapacity);
+
+    /**
+     * Метод для получения наибольшей размерности, которую допускает стратегия.
+     * @return наибольшая размерность контейнера; {@link #MAX_ARRAY_SIZE}, если стратегия не ограничена
+     */
+    default int maxCapacity() {
+        return MAX_ARRAY_SIZE;
+    }
+
+    /**
+     * Метод для получения стратегии по умолчанию: контейнер увеличивается в 2 раза.
+     * @return стратегия удвоения
+     */
+    static GrowthPolicy doubling() {
+        return (capacity, minCapacity) -> clamp(capacity * 2L, minCapacity);
+    }
+
+    /**
+     * Метод для получения стратегии, умножающей размерность на коэффициент.
+     * @param factor коэффициент роста, больше 1
+     * @return стратегия роста в factor раз
+     * @throws IllegalArgumentException если коэффициент не больше 1
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException();
+        }
+        return (capacity, minCapacity) -> clamp((long) (capacity * factor), minCapacity);
+    }
+
+    /**
+     * Метод для получения стратегии, прибавляющей к размерности фиксированный шаг.
+     * @param step шаг роста, положительный
+     * @return стратегия роста на step ячеек
+     * @throws IllegalArgumentException если шаг не положительный
+     */
+    static GrowthPolicy additive(int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return (capacity, minCapacity) -> clamp((long) capacity + step, minCapacity);
+    }
+
+    /**
+     * Метод для получения стратегии, которая ограничивает размерность, вычисленную этой стратегией.
+     * @param maxCapacity наибольшая размерность контейнера
+     * @return ограниченная стратегия
+     * @throws IllegalArgumentException если maxCapacity не положительный или больше {@link #MAX_ARRAY_SIZE}
+     */
+    default GrowthPolicy capped(int maxCapacity) {
+        if (maxCapacity <= 0 || maxCapacity > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        GrowthPolicy base = this;
+        int limit = Math.min(maxCapacity, base.maxCapacity());
+        return new GrowthPolicy() {
+            @Override
+            public int grow(int capacity, int minCapacity) {
+                if (minCapacity > limit) {
+                    throw new IllegalStateException();
+                }
+                return Math.min(base.grow(capacity, minCapacity), limit);
+            }
+
+            @Override
+            public int maxCapacity() {
+                return limit;
+            }
+        };
+    }
+
+    /**
+     * Вспомогательный метод, который приводит вычисленную размерность к диапазону [minCapacity, MAX_ARRAY_SIZE].
+     * @param newCapacity вычисленная размерность
+     * @param minCapacity необходимая размерность
+     * @return новая размерность
+     * @throws IllegalStateException если minCapacity превышает {@link #MAX_ARRAY_SIZE}
+     */
+    private static int clamp(long newCapacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException();
+        }
+        return (int) Math.max(minCapacity, Math.min(newCapacity, MAX_ARRAY_SIZE));
+    }
+}
+
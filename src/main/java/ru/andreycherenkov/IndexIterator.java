@@ -0,0 +1,70 @@
+package ru.andreycherenkov;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Итератор по индексам для произвольной реализации {@link MyList}, используемый реализацией iterator()
+ * по умолчанию. Элементы читаются методом get, удаление выполняется методом remove(int).
+ * Так как интерфейс не предоставляет счётчика модификаций, структурное изменение списка в обход
+ * итератора обнаруживается по изменению его размера.
+ *
+ * @param <T> тип элементов списка
+ *
+ * @author Андрей Черенков
+ */
+final class IndexIterator<T> implements Iterator<T> {
+
+    private final MyList<T> list;
+    /**
+     * Индекс следующего возвращаемого элемента.
+     */
+    private int cursor;
+    /**
+     * Индекс последнего возвращённого элемента; -1, если элемента нет или он уже удалён.
+     */
+    private int lastReturned = -1;
+    /**
+     * Размер списка, который ожидает итератор.
+     */
+    private int expectedSize;
+
+    IndexIterator(MyList<T> list) {
+        this.list = list;
+        this.expectedSize = list.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < expectedSize;
+    }
+
+    @Override
+    public T next() {
+        checkForComodification();
+        if (cursor >= expectedSize) {
+            throw new NoSuchElementException();
+        }
+        lastReturned = cursor;
+        return list.get(cursor++);
+    }
+
+    @Override
+    public void remove() {
+        if (lastReturned < 0) {
+            throw new IllegalStateException();
+        }
+        checkForComodification();
+        list.remove(lastReturned);
+        cursor = lastReturned;
+        lastReturned = -1;
+        expectedSize--;
+    }
+
+    private void checkForComodification() {
+        if (list.size() != expectedSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
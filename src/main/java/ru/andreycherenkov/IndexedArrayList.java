@@ -0,0 +1,408 @@
+package ru.andreycherenkov;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Реализация списка на основе {@link MyArrayList} с дополнительным хеш-индексом «элемент - индекс первого
+ * вхождения», не является потокобезопасной. Благодаря индексу методы indexOf и contains выполняются
+ * в среднем за O(1) вместо линейного просмотра.
+ * <p>
+ * Индекс поддерживается инкрементально при добавлении, замене и удалении элемента: вставка и удаление
+ * в середине сдвигают сохранённые индексы одним проходом по таблице без хеширования, а если удалённый
+ * или заменённый элемент был первым вхождением, следующее вхождение находится просмотром после него.
+ * Операции, переставляющие весь список (сортировка, массовое удаление, replaceAll), помечают индекс
+ * устаревшим, и он перестраивается за O(n) при следующем поиске. Для маленьких списков
+ * (меньше {@link #INDEX_THRESHOLD} элементов) индекс не используется, поиск выполняется просмотром.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class IndexedArrayList<T> implements MyList<T> {
+
+    /**
+     * Размер списка, начиная с которого для поиска используется хеш-индекс.
+     */
+    public static final int INDEX_THRESHOLD = 32;
+
+    /**
+     * Список, в котором хранятся элементы.
+     */
+    private final MyArrayList<T> list;
+    /**
+     * Хеш-индекс первых вхождений; создаётся при первом поиске в достаточно большом списке.
+     */
+    private ElementIndex index;
+    /**
+     * Признак того, что индекс соответствует содержимому списка.
+     */
+    private boolean indexValid;
+
+    /**
+     * Конструктор без параметров, создающий список с базовой размерностью.
+     */
+    public IndexedArrayList() {
+        this.list = new MyArrayList<>();
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции.
+     * @param initSize размерность списка, необходимая для инициализации контейнера
+     * @throws IllegalArgumentException если указана отрицательная величина
+     */
+    public IndexedArrayList(int initSize) {
+        this.list = new MyArrayList<>(initSize);
+    }
+
+    /**
+     * Вспомогательный метод, помечающий индекс устаревшим после сдвига элементов.
+     */
+    private void invalidateIndex() {
+        indexValid = false;
+    }
+
+    /**
+     * Вспомогательный метод, возвращающий актуальный индекс (при необходимости перестраивая его)
+     * или null, если список слишком мал для использования индекса.
+     */
+    private ElementIndex actualIndex() {
+        if (list.size() < INDEX_THRESHOLD) {
+            return null;
+        }
+        if (index == null) {
+            index = new ElementIndex(list.size());
+            index.rebuild(list);
+            indexValid = true;
+        } else if (!indexValid) {
+            index.rebuild(list);
+            indexValid = true;
+        }
+        return index;
+    }
+
+    @Override
+    public void add(T element) {
+        list.add(element);
+        if (indexValid && element != null) {
+            index.putFirst(element, list.size() - 1);
+        }
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index == list.size()) {
+            add(element);
+            return;
+        }
+        list.add(index, element);
+        if (indexValid) {
+            this.index.shift(index, 1);
+            if (element != null) {
+                this.index.putFirst(element, index);
+            }
+        }
+    }
+
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        int from = list.size();
+        list.addAll(elements);
+        indexAppended(from);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        int from = list.size();
+        list.addAll(elements);
+        indexAppended(from);
+    }
+
+    /**
+     * Вспомогательный метод, добавляющий в индекс элементы, добавленные в конец списка начиная с позиции from.
+     */
+    private void indexAppended(int from) {
+        if (!indexValid) {
+            return;
+        }
+        for (int i = from; i < list.size(); i++) {
+            T element = list.get(i);
+            if (element != null) {
+                index.putFirst(element, i);
+            }
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    /**
+     * Метод для получения индекса первого вхождения элемента. Для списков от {@link #INDEX_THRESHOLD} элементов
+     * выполняется поиском в хеш-индексе, для меньших - просмотром.
+     * @param element элемент, индекс которого необходимо получить
+     * @return индекс элемента при удачном исходе, -1 при отсутствии искомого элемента в коллекции
+     */
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+        ElementIndex actual = actualIndex();
+        return actual == null ? list.indexOf(element) : actual.get(element);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        int position = indexOf(element);
+        if (position < 0) {
+            return false;
+        }
+        remove(position);
+        return true;
+    }
+
+    /**
+     * Метод для удаления элемента по индексу. Индексы последующих элементов в хеш-индексе сдвигаются;
+     * если удалённый элемент был первым вхождением, в индекс записывается его следующее вхождение.
+     * @param index индекс удаляемого элемента
+     */
+    @Override
+    public void remove(int index) {
+        T removed = list.get(index);
+        list.remove(index);
+        if (!indexValid) {
+            return;
+        }
+        boolean first = removed != null && this.index.get(removed) == index;
+        if (index < list.size()) {
+            this.index.shift(index + 1, -1);
+        }
+        if (first) {
+            replaceFirstOccurrence(removed, index);
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который после удаления или замены первого вхождения элемента записывает в индекс
+     * его следующее вхождение (не раньше позиции from) или удаляет элемент из индекса.
+     */
+    private void replaceFirstOccurrence(T element, int from) {
+        index.remove(element);
+        for (int i = from; i < list.size(); i++) {
+            if (element.equals(list.get(i))) {
+                index.putFirst(element, i);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = list.removeIf(filter);
+        if (removed) {
+            invalidateIndex();
+        }
+        return removed;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        list.removeRange(fromIndex, toIndex);
+        if (fromIndex != toIndex) {
+            invalidateIndex();
+        }
+    }
+
+    /**
+     * Метод для замены элемента. Если заменяемый элемент был первым вхождением, в индекс записывается
+     * его следующее вхождение.
+     * @param index индекс элемента, который будет заменён
+     * @param element элемент, который будет подставлен вместо старого
+     */
+    @Override
+    public void set(int index, T element) {
+        T old = list.get(index);
+        list.set(index, element);
+        if (!indexValid) {
+            return;
+        }
+        if (old != null && this.index.get(old) == index) {
+            replaceFirstOccurrence(old, index + 1);
+        }
+        if (element != null) {
+            this.index.putFirst(element, index);
+        }
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        if (index != null) {
+            index.clear();
+        }
+        indexValid = index != null;
+    }
+
+    @Override
+    public void quickSort() {
+        list.quickSort();
+        invalidateIndex();
+    }
+
+    @Override
+    public void quickSort(Comparator<? super T> comparator) {
+        list.quickSort(comparator);
+        invalidateIndex();
+    }
+
+    @Override
+    public void radixSort() {
+        list.radixSort();
+        invalidateIndex();
+    }
+
+    @Override
+    public void sortByIntKey(ToIntFunction<? super T> key) {
+        list.sortByIntKey(key);
+        invalidateIndex();
+    }
+
+    @Override
+    public void sortByLongKey(ToLongFunction<? super T> key) {
+        list.sortByLongKey(key);
+        invalidateIndex();
+    }
+
+    @Override
+    public T nthElement(int k, Comparator<? super T> comparator) {
+        T element = list.nthElement(k, comparator);
+        invalidateIndex();
+        return element;
+    }
+
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        list.partialSort(k, comparator);
+        invalidateIndex();
+    }
+
+    @Override
+    public void stableSort(Comparator<? super T> comparator) {
+        list.stableSort(comparator);
+        invalidateIndex();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        list.parallelSort(comparator, options);
+        invalidateIndex();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        list.forEach(action);
+    }
+
+    @Override
+    public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+        list.parallelForEach(action, options);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        list.replaceAll(operator);
+        invalidateIndex();
+    }
+
+    @Override
+    public void parallelReplaceAll(UnaryOperator<T> operator, ParallelOptions options) {
+        list.parallelReplaceAll(operator, options);
+        invalidateIndex();
+    }
+
+    @Override
+    public <R> MyList<R> map(Function<? super T, ? extends R> mapper) {
+        return list.map(mapper);
+    }
+
+    @Override
+    public <R> MyList<R> parallelMap(Function<? super T, ? extends R> mapper, ParallelOptions options) {
+        return list.parallelMap(mapper, options);
+    }
+
+    @Override
+    public MyList<T> filter(Predicate<? super T> predicate) {
+        return list.filter(predicate);
+    }
+
+    @Override
+    public MyList<T> parallelFilter(Predicate<? super T> predicate, ParallelOptions options) {
+        return list.parallelFilter(predicate, options);
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        return list.reduce(identity, accumulator);
+    }
+
+    @Override
+    public T parallelReduce(T identity, BinaryOperator<T> accumulator, ParallelOptions options) {
+        return list.parallelReduce(identity, accumulator, options);
+    }
+
+    /**
+     * Сплитератор над контейнером внутреннего списка; используется потоками stream() и parallelStream().
+     * @return сплитератор по элементам списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return list.spliterator();
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+
+    /**
+     * Переопределенный метод equals. Сравнение происходит по содержимому списков.
+     * @param o объект, с которым будет сравниваться другой объект
+     * @return true - если объекты одинаковые, false - если объекты не одинаковые
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IndexedArrayList<?> that = (IndexedArrayList<?>) o;
+        return list.equals(that.list);
+    }
+
+    @Override
+    public int hashCode() {
+        return list.hashCode();
+    }
+}
@@ -0,0 +1,129 @@
+package ru.andreycherenkov;
+
+/**
+ * Интроспективная сортировка для хранилищ, которые не являются массивом объектов (off-heap память,
+ * отображённые в память файлы, сегментированные контейнеры). Хранилище предоставляет только сравнение
+ * и обмен элементов по индексам, поэтому алгоритм работает на месте, не копируя данные в кучу.
+ * Как и {@link Sorting}, использует медиану трёх, сортировку вставками на маленьких диапазонах
+ * и пирамидальную сортировку при превышении допустимой глубины рекурсии.
+ *
+ * @author Андрей Черенков
+ */
+abstract class IndexedSorter {
+
+    /**
+     * Сравнивает элементы с индексами i и j.
+     * @return отрицательное число, ноль или положительное число, если элемент i меньше, равен или больше элемента j
+     */
+    protected abstract int compare(int i, int j);
+
+    /**
+     * Меняет местами элементы с индексами i и j.
+     */
+    protected abstract void swap(int i, int j);
+
+    /**
+     * Сортирует диапазон [from, to).
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     */
+    final void sort(int from, int to) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        sort(from, to - 1, Sorting.depthLimit(length));
+    }
+
+    private void sort(int low, int high, int depthLimit) {
+        while (high - low >= Sorting.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(low, high);
+                return;
+            }
+            int pivot = partition(low, high);
+            if (pivot - low < high - pivot) {
+                sort(low, pivot - 1, depthLimit);
+                low = pivot + 1;
+            } else {
+                sort(pivot + 1, high, depthLimit);
+                high = pivot - 1;
+            }
+        }
+        insertionSort(low, high);
+    }
+
+    /**
+     * Разбиение Седжвика: опорный элемент (медиана трёх) переносится в начало диапазона, указатели движутся
+     * навстречу друг другу и останавливаются на равных опорному элементах, поэтому серии одинаковых
+     * элементов делятся пополам.
+     * @return итоговая позиция опорного элемента
+     */
+    private int partition(int low, int high) {
+        swap(low, medianOfThree(low, (low + high) >>> 1, high));
+        int i = low + 1;
+        int j = high;
+        while (true) {
+            while (i <= high && compare(i, low) < 0) {
+                i++;
+            }
+            while (compare(j, low) > 0) {
+                j--;
+            }
+            if (i >= j) {
+                break;
+            }
+            swap(i++, j--);
+        }
+        swap(low, j);
+        return j;
+    }
+
+    private int medianOfThree(int i, int j, int k) {
+        if (compare(i, j) < 0) {
+            if (compare(j, k) < 0) {
+                return j;
+            }
+            return compare(i, k) < 0 ? k : i;
+        }
+        if (compare(k, j) < 0) {
+            return j;
+        }
+        return compare(k, i) < 0 ? k : i;
+    }
+
+    private void insertionSort(int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(j - 1, j) > 0; j--) {
+                swap(j - 1, j);
+            }
+        }
+    }
+
+    private void heapSort(int low, int high) {
+        int length = high - low + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(low, i, length);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(low, low + end);
+            siftDown(low, 0, end);
+        }
+    }
+
+    private void siftDown(int offset, int index, int length) {
+        int half = length >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < length && compare(offset + child, offset + right) < 0) {
+                child = right;
+            }
+            if (compare(offset + index, offset + child) >= 0) {
+                return;
+            }
+            swap(offset + index, offset + child);
+            index = child;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package ru.andreycherenkov;
+
+import ru.andreycherenkov.ListMetrics.Operation;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Декоратор, измеряющий задержку каждой операции произвольного {@link MyList} и передающий её в
+ * {@link ListMetrics#timed}. Если оборачиваемый список является {@link MyArrayList}, к нему также
+ * подключается тот же приёмник, поэтому счётчики горячих путей и задержки собираются в одном месте.
+ * <p>
+ * При отключённых метриках ({@code setMetrics(null)}) каждый вызов сводится к проверке на null
+ * и делегированию. Потокобезопасность совпадает с потокобезопасностью оборачиваемого списка.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class InstrumentedList<T> implements MyList<T> {
+
+    private final MyList<T> delegate;
+    private ListMetrics metrics;
+
+    /**
+     * Конструктор, оборачивающий список.
+     * @param delegate оборачиваемый список
+     * @param metrics приёмник метрик; null отключает измерения
+     */
+    public InstrumentedList(MyList<T> delegate, ListMetrics metrics) {
+        this.delegate = delegate;
+        setMetrics(metrics);
+    }
+
+    /**
+     * Метод для подключения или отключения приёмника метрик (в том числе у оборачиваемого MyArrayList).
+     * @param metrics приёмник метрик; null отключает измерения
+     */
+    public void setMetrics(ListMetrics metrics) {
+        this.metrics = metrics;
+        if (delegate instanceof MyArrayList<?> list) {
+            list.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * @return оборачиваемый список
+     */
+    public MyList<T> delegate() {
+        return delegate;
+    }
+
+    /**
+     * Вспомогательный метод для начала замера. Приёмник читается вызывающим один раз на операцию
+     * и передаётся в {@link #stop}, поэтому смена приёмника во время операции не искажает замер.
+     *
+     * @param sink приёмник метрик текущей операции
+     * @return момент начала операции или 0, если приёмник не задан
+     */
+    private static long start(ListMetrics sink) {
+        return sink == null ? 0 : System.nanoTime();
+    }
+
+    private static void stop(ListMetrics sink, Operation operation, long start) {
+        if (sink != null) {
+            sink.timed(operation, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.add(element);
+        stop(sink, Operation.ADD, start);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.add(index, element);
+        stop(sink, Operation.ADD_AT, start);
+    }
+
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.addAll(elements);
+        stop(sink, Operation.ADD_ALL, start);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.addAll(elements);
+        stop(sink, Operation.ADD_ALL, start);
+    }
+
+    @Override
+    public T get(int index) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        T element = delegate.get(index);
+        stop(sink, Operation.GET, start);
+        return element;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int indexOf(T element) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        int index = delegate.indexOf(element);
+        stop(sink, Operation.INDEX_OF, start);
+        return index;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        boolean found = delegate.contains(element);
+        stop(sink, Operation.CONTAINS, start);
+        return found;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        boolean removed = delegate.remove(element);
+        stop(sink, Operation.REMOVE, start);
+        return removed;
+    }
+
+    @Override
+    public void remove(int index) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.remove(index);
+        stop(sink, Operation.REMOVE_AT, start);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        boolean removed = delegate.removeIf(filter);
+        stop(sink, Operation.REMOVE_IF, start);
+        return removed;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.removeRange(fromIndex, toIndex);
+        stop(sink, Operation.REMOVE_RANGE, start);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.set(index, element);
+        stop(sink, Operation.SET, start);
+    }
+
+    @Override
+    public void clear() {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.clear();
+        stop(sink, Operation.CLEAR, start);
+    }
+
+    @Override
+    public void quickSort() {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.quickSort();
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public void quickSort(Comparator<? super T> comparator) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.quickSort(comparator);
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public void radixSort() {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.radixSort();
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public void sortByIntKey(ToIntFunction<? super T> key) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.sortByIntKey(key);
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public void sortByLongKey(ToLongFunction<? super T> key) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.sortByLongKey(key);
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public T nthElement(int k, Comparator<? super T> comparator) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        T element = delegate.nthElement(k, comparator);
+        stop(sink, Operation.SORT, start);
+        return element;
+    }
+
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.partialSort(k, comparator);
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public void stableSort(Comparator<? super T> comparator) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.stableSort(comparator);
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.parallelSort(comparator, options);
+        stop(sink, Operation.SORT, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.forEach(action);
+        stop(sink, Operation.BULK, start);
+    }
+
+    @Override
+    public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.parallelForEach(action, options);
+        stop(sink, Operation.BULK, start);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.replaceAll(operator);
+        stop(sink, Operation.BULK, start);
+    }
+
+    @Override
+    public void parallelReplaceAll(UnaryOperator<T> operator, ParallelOptions options) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        delegate.parallelReplaceAll(operator, options);
+        stop(sink, Operation.BULK, start);
+    }
+
+    @Override
+    public <R> MyList<R> map(Function<? super T, ? extends R> mapper) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        MyList<R> result = delegate.map(mapper);
+        stop(sink, Operation.BULK, start);
+        return result;
+    }
+
+    @Override
+    public <R> MyList<R> parallelMap(Function<? super T, ? extends R> mapper, ParallelOptions options) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        MyList<R> result = delegate.parallelMap(mapper, options);
+        stop(sink, Operation.BULK, start);
+        return result;
+    }
+
+    @Override
+    public MyList<T> filter(Predicate<? super T> predicate) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        MyList<T> result = delegate.filter(predicate);
+        stop(sink, Operation.BULK, start);
+        return result;
+    }
+
+    @Override
+    public MyList<T> parallelFilter(Predicate<? super T> predicate, ParallelOptions options) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        MyList<T> result = delegate.parallelFilter(predicate, options);
+        stop(sink, Operation.BULK, start);
+        return result;
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        T result = delegate.reduce(identity, accumulator);
+        stop(sink, Operation.BULK, start);
+        return result;
+    }
+
+    @Override
+    public T parallelReduce(T identity, BinaryOperator<T> accumulator, ParallelOptions options) {
+        ListMetrics sink = metrics;
+        long start = start(sink);
+        T result = delegate.parallelReduce(identity, accumulator, options);
+        stop(sink, Operation.BULK, start);
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return delegate.spliterator();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package ru.andreycherenkov;
+
+/**
+ * Приёмник метрик горячих путей списков. Подключается к {@link MyArrayList} методом
+ * {@link MyArrayList#setMetrics(ListMetrics)} (счётчики расширений, уменьшений, сдвигов, просмотров и сортировок)
+ * и к декоратору {@link InstrumentedList} (задержки операций). Все методы имеют пустую реализацию
+ * по умолчанию, поэтому приёмник может обрабатывать только нужные ему события.
+ * <p>
+ * Методы вызываются в потоке, выполняющем операцию, и должны быть быстрыми. Готовая реализация
+ * с экспортом через JMX - {@link ListMetricsRecorder}.
+ *
+ * @author Андрей Черенков
+ */
+public interface ListMetrics {
+
+    /**
+     * Операции списка, для которых измеряется задержка.
+     */
+    enum Operation {
+        ADD, ADD_AT, ADD_ALL, GET, SET, REMOVE, REMOVE_AT, REMOVE_IF, REMOVE_RANGE, INDEX_OF, CONTAINS, CLEAR, SORT, BULK
+    }
+
+    /**
+     * Контейнер был расширен.
+     * @param oldCapacity прежняя размерность контейнера
+     * @param newCapacity новая размерность контейнера
+     * @param copiedElements количество скопированных в новый контейнер элементов
+     */
+    default void grown(int oldCapacity, int newCapacity, int copiedElements) {
+    }
+
+    /**
+     * Контейнер был уменьшен (trimToSize, стратегия уменьшения).
+     * @param oldCapacity прежняя размерность контейнера
+     * @param newCapacity новая размерность контейнера
+     * @param copiedElements количество скопированных в новый контейнер элементов
+     */
+    default void shrunk(int oldCapacity, int newCapacity, int copiedElements) {
+    }
+
+    /**
+     * Элементы были сдвинуты при вставке или удалении.
+     * @param elements количество сдвинутых элементов
+     */
+    default void shifted(int elements) {
+    }
+
+    /**
+     * Выполнен линейный поиск (indexOf, contains, remove по значению).
+     * @param elements количество просмотренных элементов
+     */
+    default void scanned(int elements) {
+    }
+
+    /**
+     * Выполнена сортировка. Поразрядная сортировка сообщает о себе с нулевыми comparisons, swaps и depth.
+     * @param length количество отсортированных элементов
+     * @param comparisons количество сравнений
+     * @param swaps количество перестановок (обменов и сдвигов элементов)
+     * @param depth достигнутая глубина разбиений
+     */
+    default void sorted(int length, long comparisons, long swaps, int depth) {
+    }
+
+    /**
+     * Измерена задержка операции.
+     * @param operation операция
+     * @param nanos длительность в наносекундах
+     */
+    default void timed(Operation operation, long nanos) {
+    }
+}
@@ -0,0 +1,226 @@
+package ru.andreycherenkov;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Потокобезопасная реализация {@link ListMetrics}, накапливающая счётчики в {@link LongAdder} и задержки
+ * в {@link LatencyHistogram}. Один экземпляр можно подключить к нескольким спискам; значения доступны
+ * через геттеры и через JMX после вызова {@link #register(String)}.
+ *
+ * @author Андрей Черенков
+ */
+public class ListMetricsRecorder implements ListMetrics, ListMetricsRecorderMXBean {
+
+    /**
+     * Размер ссылки на объект в байтах: 4 при сжатых указателях, иначе 8.
+     */
+    static final int REFERENCE_BYTES = referenceBytes();
+
+    private final LongAdder growCount = new LongAdder();
+    private final LongAdder growElementsCopied = new LongAdder();
+    private final LongAdder shrinkCount = new LongAdder();
+    private final LongAdder shrinkElementsReleased = new LongAdder();
+    private final LongAdder shiftedElements = new LongAdder();
+    private final LongAdder scanCount = new LongAdder();
+    private final LongAdder scannedElements = new LongAdder();
+    private final LongAdder sortCount = new LongAdder();
+    private final LongAdder sortComparisons = new LongAdder();
+    private final LongAdder sortSwaps = new LongAdder();
+    private final LongAccumulator maxSortDepth = new LongAccumulator(Math::max, 0);
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+    /**
+     * Конструктор, создающий нулевые счётчики и пустые гистограммы для всех операций.
+     */
+    public ListMetricsRecorder() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    private static int referenceBytes() {
+        try {
+            com.sun.management.HotSpotDiagnosticMXBean diagnostic =
+                    ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+            return Boolean.parseBoolean(diagnostic.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+        } catch (RuntimeException | LinkageError e) {
+            return 8;
+        }
+    }
+
+    /**
+     * Метод для регистрации в платформенном MBeanServer.
+     * @param name имя объекта, например "ru.andreycherenkov:type=ListMetrics,name=orders"
+     * @return зарегистрированное имя
+     * @throws IllegalStateException если регистрация не удалась
+     */
+    public ObjectName register(String name) {
+        try {
+            ObjectName objectName = new ObjectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Метод для снятия регистрации в платформенном MBeanServer.
+     * @param name имя, возвращённое {@link #register(String)}
+     */
+    public void unregister(ObjectName name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void grown(int oldCapacity, int newCapacity, int copiedElements) {
+        growCount.increment();
+        growElementsCopied.add(copiedElements);
+    }
+
+    @Override
+    public void shrunk(int oldCapacity, int newCapacity, int copiedElements) {
+        shrinkCount.increment();
+        shrinkElementsReleased.add(oldCapacity - newCapacity);
+    }
+
+    @Override
+    public void shifted(int elements) {
+        shiftedElements.add(elements);
+    }
+
+    @Override
+    public void scanned(int elements) {
+        scanCount.increment();
+        scannedElements.add(elements);
+    }
+
+    @Override
+    public void sorted(int length, long comparisons, long swaps, int depth) {
+        sortCount.increment();
+        sortComparisons.add(comparisons);
+        sortSwaps.add(swaps);
+        maxSortDepth.accumulate(depth);
+    }
+
+    @Override
+    public void timed(Operation operation, long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    /**
+     * @param operation операция
+     * @return гистограмма задержек операции
+     */
+    public LatencyHistogram latency(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    @Override
+    public long getGrowCount() {
+        return growCount.sum();
+    }
+
+    @Override
+    public long getGrowBytesCopied() {
+        return growElementsCopied.sum() * REFERENCE_BYTES;
+    }
+
+    @Override
+    public long getShrinkCount() {
+        return shrinkCount.sum();
+    }
+
+    @Override
+    public long getShrinkBytesReleased() {
+        return shrinkElementsReleased.sum() * REFERENCE_BYTES;
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftedElements.sum();
+    }
+
+    @Override
+    public long getScanCount() {
+        return scanCount.sum();
+    }
+
+    @Override
+    public long getScannedElements() {
+        return scannedElements.sum();
+    }
+
+    @Override
+    public long getSortCount() {
+        return sortCount.sum();
+    }
+
+    @Override
+    public long getSortComparisons() {
+        return sortComparisons.sum();
+    }
+
+    @Override
+    public long getSortSwaps() {
+        return sortSwaps.sum();
+    }
+
+    @Override
+    public long getMaxSortDepth() {
+        return maxSortDepth.get();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(LatencyHistogram::count);
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Nanos() {
+        return byOperation(histogram -> histogram.percentile(0.5));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Nanos() {
+        return byOperation(histogram -> histogram.percentile(0.99));
+    }
+
+    private Map<String, Long> byOperation(ToLongFunction<LatencyHistogram> statistic) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        latencies.forEach((operation, histogram) -> {
+            if (histogram.count() > 0) {
+                result.put(operation.name(), statistic.applyAsLong(histogram));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        growCount.reset();
+        growElementsCopied.reset();
+        shrinkCount.reset();
+        shrinkElementsReleased.reset();
+        shiftedElements.reset();
+        scanCount.reset();
+        scannedElements.reset();
+        sortCount.reset();
+        sortComparisons.reset();
+        sortSwaps.reset();
+        maxSortDepth.reset();
+        latencies.values().forEach(LatencyHistogram::reset);
+    }
+}
@@ -0,0 +1,86 @@
+package ru.andreycherenkov;
+
+import java.util.Map;
+
+/**
+ * Интерфейс управления {@link ListMetricsRecorder} для экспорта метрик через JMX.
+ *
+ * @author Андрей Черенков
+ */
+public interface ListMetricsRecorderMXBean {
+
+    /**
+     * @return количество расширений контейнера
+     */
+    long getGrowCount();
+
+    /**
+     * @return оценка количества байт, скопированных при расширениях (размер ссылки * количество элементов)
+     */
+    long getGrowBytesCopied();
+
+    /**
+     * @return количество уменьшений контейнера
+     */
+    long getShrinkCount();
+
+    /**
+     * @return оценка количества байт, освобождённых при уменьшениях (размер ссылки * количество ячеек)
+     */
+    long getShrinkBytesReleased();
+
+    /**
+     * @return количество элементов, сдвинутых при вставках и удалениях
+     */
+    long getShiftedElements();
+
+    /**
+     * @return количество линейных поисков
+     */
+    long getScanCount();
+
+    /**
+     * @return суммарное количество элементов, просмотренных при линейных поисках
+     */
+    long getScannedElements();
+
+    /**
+     * @return количество сортировок
+     */
+    long getSortCount();
+
+    /**
+     * @return суммарное количество сравнений при сортировках
+     */
+    long getSortComparisons();
+
+    /**
+     * @return суммарное количество перестановок при сортировках
+     */
+    long getSortSwaps();
+
+    /**
+     * @return наибольшая достигнутая глубина разбиений при сортировке
+     */
+    long getMaxSortDepth();
+
+    /**
+     * @return количество измеренных вызовов по операциям
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * @return медиана задержки по операциям, нс (с точностью до степени двойки)
+     */
+    Map<String, Long> getLatencyP50Nanos();
+
+    /**
+     * @return 99-й перцентиль задержки по операциям, нс (с точностью до степени двойки)
+     */
+    Map<String, Long> getLatencyP99Nanos();
+
+    /**
+     * Сбрасывает все счётчики и гистограммы.
+     */
+    void reset();
+}
@@ -0,0 +1,312 @@
+package ru.andreycherenkov;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+
+/**
+ * Потоковый читатель списка, записанного {@link ListWriter}, не является потокобезопасным.
+ * Заголовок читается и проверяется в конструкторе; элементы читаются по одному или пачкой в целевой список
+ * через один переиспользуемый буфер, поэтому для чтения не требуется держать в памяти весь поток.
+ * Читатель может прочитать из канала данные наперёд, в пределах буфера; канал не закрывается.
+ *
+ * @param <T> тип читаемых элементов
+ *
+ * @author Андрей Черенков
+ */
+public class ListReader<T> {
+
+    private final ReadableByteChannel channel;
+    private final ElementCodec<T> codec;
+    private final int fixedSize;
+    private final long count;
+    private ByteBuffer buffer;
+    private long read;
+
+    /**
+     * Конструктор, читающий заголовок потока с буфером размера {@link ListWriter#DEFAULT_BUFFER_SIZE}.
+     * @param channel канал, из которого читается поток
+     * @param codec кодек элементов; должен совпадать с кодеком, которым поток был записан
+     * @throws IOException если поток не является потоком списка или записан другим кодеком
+     */
+    public ListReader(ReadableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        this(channel, codec, ListWriter.DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Конструктор, читающий заголовок потока.
+     * @param channel канал, из которого читается поток
+     * @param codec кодек элементов; должен совпадать с кодеком, которым поток был записан
+     * @param bufferSize размер буфера в байтах
+     * @throws IllegalArgumentException если буфер меньше заголовка
+     * @throws IOException если поток не является потоком списка или записан другим кодеком
+     */
+    public ListReader(ReadableByteChannel channel, ElementCodec<T> codec, int bufferSize) throws IOException {
+        if (bufferSize < ListWriter.HEADER_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        this.channel = channel;
+        this.codec = codec;
+        this.fixedSize = codec.fixedSize();
+        this.buffer = ByteBuffer.allocate(bufferSize).flip();
+        fill(ListWriter.HEADER_SIZE);
+        if (buffer.getInt() != ListWriter.MAGIC || buffer.get() != ListWriter.VERSION) {
+            throw new IOException("Not a list stream");
+        }
+        byte tag = buffer.get();
+        int width = buffer.getInt();
+        if (tag != codec.tag() || width != fixedSize) {
+            throw new IOException("Codec mismatch: stream tag " + tag + ", width " + width
+                    + "; codec tag " + codec.tag() + ", width " + fixedSize);
+        }
+        this.count = buffer.getLong();
+        if (count < 0) {
+            throw new IOException("Corrupted list header");
+        }
+    }
+
+    /**
+     * Метод для чтения списка из канала целиком в новый MyArrayList. Количество элементов из заголовка
+     * не проверено, пока элементы не прочитаны, поэтому список заранее резервирует не больше элементов,
+     * чем помещается в буфер, и расширяется по мере чтения: повреждённый заголовок приводит к EOFException,
+     * а не к выделению огромного контейнера.
+     * @param channel канал, из которого читается поток
+     * @param codec кодек элементов
+     * @param <T> тип элементов
+     * @return прочитанный список
+     * @throws IOException если чтение не удалось или список не помещается в MyArrayList
+     */
+    public static <T> MyArrayList<T> read(ReadableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        ListReader<T> reader = new ListReader<>(channel, codec);
+        if (reader.count > Integer.MAX_VALUE - 8) {
+            throw new IOException("List is too large: " + reader.count);
+        }
+        int capacity = (int) Math.min(reader.count, reader.buffer.capacity() / Math.max(reader.fixedSize, 1));
+        MyArrayList<T> list = new MyArrayList<>(capacity);
+        reader.readAll(list);
+        return list;
+    }
+
+    /**
+     * Вспомогательный метод, который дочитывает из канала данные, пока в буфере не окажется bytes байт.
+     * Если элемент больше буфера, буфер увеличивается вдвое (но не больше bytes) только по мере того,
+     * как канал действительно заполняет его данными: длина из повреждённого потока приводит к EOFException,
+     * а не к выделению огромного буфера.
+     * @throws EOFException если поток закончился раньше
+     */
+    private void fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (!buffer.hasRemaining()) {
+                int capacity = (int) Math.min(bytes, 2L * buffer.capacity());
+                buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+            }
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+    }
+
+    /**
+     * @return количество элементов, указанное в заголовке
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return количество ещё не прочитанных элементов
+     */
+    public long remaining() {
+        return count - read;
+    }
+
+    /**
+     * @return true, если остались непрочитанные элементы
+     */
+    public boolean hasNext() {
+        return read < count;
+    }
+
+    /**
+     * Вспомогательный метод, который проверяет, что остался непрочитанный элемент.
+     * @throws NoSuchElementException если все элементы прочитаны
+     */
+    private void checkHasNext() {
+        if (read >= count) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Метод для чтения очередного элемента.
+     * @return прочитанный элемент
+     * @throws NoSuchElementException если все элементы прочитаны
+     * @throws IOException если поток повреждён или закончился раньше
+     */
+    public T next() throws IOException {
+        checkHasNext();
+        T element;
+        if (fixedSize > 0) {
+            fill(fixedSize);
+            element = codec.read(buffer, fixedSize);
+        } else {
+            int size = getVarint() - 1;
+            if (size < 0) {
+                element = null;
+            } else {
+                fill(size);
+                element = codec.read(buffer, size);
+            }
+        }
+        read++;
+        return element;
+    }
+
+    /**
+     * Вспомогательный метод для чтения неотрицательного числа в формате varint.
+     */
+    private int getVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 7 * ListWriter.MAX_VARINT_BYTES; shift += 7) {
+            fill(1);
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Corrupted element length");
+    }
+
+    /**
+     * Метод для чтения всех оставшихся элементов в конец списка.
+     * @param target список, в который добавляются элементы
+     * @throws IOException если поток повреждён или закончился раньше
+     */
+    public void readAll(MyList<? super T> target) throws IOException {
+        while (read < count) {
+            target.add(next());
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который проверяет, что читатель создан с указанным кодеком примитивов.
+     */
+    private void checkTag(byte tag) {
+        if (codec.tag() != tag) {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Метод для чтения значения int без упаковки.
+     * @return прочитанное значение
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofInt()}
+     * @throws NoSuchElementException если все элементы прочитаны
+     * @throws IOException если поток закончился раньше
+     */
+    public int nextInt() throws IOException {
+        checkTag(ElementCodec.TAG_INT);
+        checkHasNext();
+        fill(Integer.BYTES);
+        read++;
+        return buffer.getInt();
+    }
+
+    /**
+     * Метод для чтения значения long без упаковки.
+     * @return прочитанное значение
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofLong()}
+     * @throws NoSuchElementException если все элементы прочитаны
+     * @throws IOException если поток закончился раньше
+     */
+    public long nextLong() throws IOException {
+        checkTag(ElementCodec.TAG_LONG);
+        checkHasNext();
+        fill(Long.BYTES);
+        read++;
+        return buffer.getLong();
+    }
+
+    /**
+     * Метод для чтения значения double без упаковки.
+     * @return прочитанное значение
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofDouble()}
+     * @throws NoSuchElementException если все элементы прочитаны
+     * @throws IOException если поток закончился раньше
+     */
+    public double nextDouble() throws IOException {
+        checkTag(ElementCodec.TAG_DOUBLE);
+        checkHasNext();
+        fill(Double.BYTES);
+        read++;
+        return buffer.getDouble();
+    }
+
+    /**
+     * Метод для чтения всех оставшихся элементов в IntList без упаковки: элементы разбираются блоками,
+     * доступными в буфере.
+     * @param target список, в который добавляются элементы
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofInt()}
+     * @throws IOException если поток закончился раньше
+     */
+    public void readAll(IntList target) throws IOException {
+        checkTag(ElementCodec.TAG_INT);
+        while (read < count) {
+            fill(Integer.BYTES);
+            long block = Math.min(count - read, buffer.remaining() / Integer.BYTES);
+            for (long i = 0; i < block; i++) {
+                target.addInt(buffer.getInt());
+            }
+            read += block;
+        }
+    }
+
+    /**
+     * Метод для чтения всех оставшихся элементов в LongList без упаковки: элементы разбираются блоками,
+     * доступными в буфере.
+     * @param target список, в который добавляются элементы
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofLong()}
+     * @throws IOException если поток закончился раньше
+     */
+    public void readAll(LongList target) throws IOException {
+        checkTag(ElementCodec.TAG_LONG);
+        while (read < count) {
+            fill(Long.BYTES);
+            long block = Math.min(count - read, buffer.remaining() / Long.BYTES);
+            for (long i = 0; i < block; i++) {
+                target.addLong(buffer.getLong());
+            }
+            read += block;
+        }
+    }
+
+    /**
+     * Метод для чтения всех оставшихся элементов в DoubleList без упаковки: элементы разбираются блоками,
+     * доступными в буфере.
+     * @param target список, в который добавляются элементы
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofDouble()}
+     * @throws IOException если поток закончился раньше
+     */
+    public void readAll(DoubleList target) throws IOException {
+        checkTag(ElementCodec.TAG_DOUBLE);
+        while (read < count) {
+            fill(Double.BYTES);
+            long block = Math.min(count - read, buffer.remaining() / Double.BYTES);
+            for (long i = 0; i < block; i++) {
+                target.addDouble(buffer.getDouble());
+            }
+            read += block;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package ru.andreycherenkov;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Потоковый писатель списка в компактном двоичном формате, не является потокобезопасным.
+ * Поток начинается с заголовка (сигнатура, версия, признак и ширина кодека, количество элементов),
+ * за которым следуют элементы, закодированные {@link ElementCodec}: для кодеков фиксированной ширины
+ * подряд, для кодеков переменной ширины с длиной в формате varint перед каждым элементом.
+ * <p>
+ * Элементы накапливаются в одном переиспользуемом буфере и отправляются в канал при его заполнении,
+ * поэтому список любого размера записывается без второй полной копии в памяти. Количество элементов
+ * указывается заранее; {@link #close()} проверяет, что записано ровно столько. Канал не закрывается:
+ * им управляет вызывающий код.
+ *
+ * @param <T> тип записываемых элементов
+ *
+ * @author Андрей Черенков
+ */
+public class ListWriter<T> implements Flushable, AutoCloseable {
+
+    /**
+     * Сигнатура потока ("MLSB").
+     */
+    static final int MAGIC = 0x4D4C5342;
+    static final byte VERSION = 1;
+    /**
+     * Размер заголовка в байтах.
+     */
+    static final int HEADER_SIZE = 18;
+    /**
+     * Размер буфера по умолчанию.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /**
+     * Наибольшая длина varint для значения int.
+     */
+    static final int MAX_VARINT_BYTES = 5;
+
+    private final WritableByteChannel channel;
+    private final ElementCodec<T> codec;
+    private final int fixedSize;
+    private final long count;
+    private ByteBuffer buffer;
+    private long written;
+
+    /**
+     * Конструктор, записывающий заголовок потока с буфером размера {@link #DEFAULT_BUFFER_SIZE}.
+     * @param channel канал, в который записывается поток
+     * @param codec кодек элементов
+     * @param count количество элементов, которое будет записано
+     * @throws IOException если не удалось записать заголовок
+     */
+    public ListWriter(WritableByteChannel channel, ElementCodec<T> codec, long count) throws IOException {
+        this(channel, codec, count, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Конструктор, записывающий заголовок потока.
+     * @param channel канал, в который записывается поток
+     * @param codec кодек элементов
+     * @param count количество элементов, которое будет записано
+     * @param bufferSize размер буфера в байтах
+     * @throws IllegalArgumentException если count отрицательный или буфер меньше заголовка
+     * @throws IOException если не удалось записать заголовок
+     */
+    public ListWriter(WritableByteChannel channel, ElementCodec<T> codec, long count, int bufferSize)
+            throws IOException {
+        if (count < 0 || bufferSize < HEADER_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        this.channel = channel;
+        this.codec = codec;
+        this.fixedSize = codec.fixedSize();
+        this.count = count;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        buffer.putInt(MAGIC)
+                .put(VERSION)
+                .put(codec.tag())
+                .putInt(fixedSize)
+                .putLong(count);
+    }
+
+    /**
+     * Метод для записи списка в канал целиком.
+     * @param list записываемый список
+     * @param codec кодек элементов
+     * @param channel канал, в который записывается поток
+     * @param <T> тип элементов
+     * @throws IOException если запись не удалась
+     */
+    public static <T> void write(MyList<? extends T> list, ElementCodec<T> codec, WritableByteChannel channel)
+            throws IOException {
+        try (ListWriter<T> writer = new ListWriter<>(channel, codec, list.size())) {
+            writer.writeAll(list);
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который проверяет, что можно записать ещё elements элементов.
+     * @throws IllegalStateException если будет превышено количество, указанное в заголовке
+     */
+    private void checkCount(int elements) {
+        if (count - written < elements) {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Вспомогательный метод, освобождающий в буфере место под bytes байт. Если элемент больше буфера,
+     * буфер заменяется большим.
+     */
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+            if (buffer.capacity() < bytes) {
+                buffer = ByteBuffer.allocate(bytes);
+            }
+        }
+    }
+
+    /**
+     * Метод для записи очередного элемента.
+     * @param element элемент; null допускается только для кодеков переменной ширины
+     * @throws IllegalStateException если все элементы, указанные в заголовке, уже записаны
+     * @throws IOException если запись в канал не удалась
+     */
+    public void write(T element) throws IOException {
+        checkCount(1);
+        if (fixedSize > 0) {
+            ensureRemaining(fixedSize);
+            codec.write(buffer, element);
+        } else if (element == null) {
+            ensureRemaining(1);
+            buffer.put((byte) 0);
+        } else {
+            int size = codec.sizeOf(element);
+            ensureRemaining(MAX_VARINT_BYTES + size);
+            putVarint(size + 1);
+            codec.write(buffer, element);
+        }
+        written++;
+    }
+
+    /**
+     * Вспомогательный метод для записи неотрицательного числа в формате varint.
+     */
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Метод для записи всех элементов списка.
+     * @param list записываемый список
+     * @throws IllegalStateException если будет превышено количество, указанное в заголовке
+     * @throws IOException если запись в канал не удалась
+     */
+    public void writeAll(MyList<? extends T> list) throws IOException {
+        checkCount(list.size());
+        for (T element : list) {
+            write(element);
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который проверяет, что писатель создан с указанным кодеком примитивов.
+     */
+    private void checkTag(byte tag) {
+        if (codec.tag() != tag) {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Метод для записи значения int без упаковки.
+     * @param element значение
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofInt()} или все элементы уже записаны
+     * @throws IOException если запись в канал не удалась
+     */
+    public void writeInt(int element) throws IOException {
+        checkTag(ElementCodec.TAG_INT);
+        checkCount(1);
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(element);
+        written++;
+    }
+
+    /**
+     * Метод для записи значения long без упаковки.
+     * @param element значение
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofLong()} или все элементы уже записаны
+     * @throws IOException если запись в канал не удалась
+     */
+    public void writeLong(long element) throws IOException {
+        checkTag(ElementCodec.TAG_LONG);
+        checkCount(1);
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(element);
+        written++;
+    }
+
+    /**
+     * Метод для записи значения double без упаковки.
+     * @param element значение
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofDouble()} или все элементы уже записаны
+     * @throws IOException если запись в канал не удалась
+     */
+    public void writeDouble(double element) throws IOException {
+        checkTag(ElementCodec.TAG_DOUBLE);
+        checkCount(1);
+        ensureRemaining(Double.BYTES);
+        buffer.putDouble(element);
+        written++;
+    }
+
+    /**
+     * Метод для записи всех элементов IntList без упаковки: буфер заполняется блоками.
+     * @param list записываемый список
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofInt()} или будет превышено количество
+     * @throws IOException если запись в канал не удалась
+     */
+    public void writeAll(IntList list) throws IOException {
+        checkTag(ElementCodec.TAG_INT);
+        int size = list.size();
+        checkCount(size);
+        int i = 0;
+        while (i < size) {
+            ensureRemaining(Integer.BYTES);
+            int end = Math.min(size, i + buffer.remaining() / Integer.BYTES);
+            for (; i < end; i++) {
+                buffer.putInt(list.getInt(i));
+            }
+        }
+        written += size;
+    }
+
+    /**
+     * Метод для записи всех элементов LongList без упаковки: буфер заполняется блоками.
+     * @param list записываемый список
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofLong()} или будет превышено количество
+     * @throws IOException если запись в канал не удалась
+     */
+    public void writeAll(LongList list) throws IOException {
+        checkTag(ElementCodec.TAG_LONG);
+        int size = list.size();
+        checkCount(size);
+        int i = 0;
+        while (i < size) {
+            ensureRemaining(Long.BYTES);
+            int end = Math.min(size, i + buffer.remaining() / Long.BYTES);
+            for (; i < end; i++) {
+                buffer.putLong(list.getLong(i));
+            }
+        }
+        written += size;
+    }
+
+    /**
+     * Метод для записи всех элементов DoubleList без упаковки: буфер заполняется блоками.
+     * @param list записываемый список
+     * @throws IllegalStateException если кодек не {@link ElementCodec#ofDouble()} или будет превышено количество
+     * @throws IOException если запись в канал не удалась
+     */
+    public void writeAll(DoubleList list) throws IOException {
+        checkTag(ElementCodec.TAG_DOUBLE);
+        int size = list.size();
+        checkCount(size);
+        int i = 0;
+        while (i < size) {
+            ensureRemaining(Double.BYTES);
+            int end = Math.min(size, i + buffer.remaining() / Double.BYTES);
+            for (; i < end; i++) {
+                buffer.putDouble(list.getDouble(i));
+            }
+        }
+        written += size;
+    }
+
+    /**
+     * @return количество уже записанных элементов
+     */
+    public long written() {
+        return written;
+    }
+
+    /**
+     * Метод для отправки накопленных в буфере данных в канал.
+     * @throws IOException если запись в канал не удалась
+     */
+    @Override
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Метод для завершения записи: отправляет оставшиеся данные в канал. Канал не закрывается.
+     * @throws IllegalStateException если записано меньше элементов, чем указано в заголовке
+     * @throws IOException если запись в канал не удалась
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (written != count) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package ru.andreycherenkov;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Реализация списка, хранящая элементы в отображённом в память файле ({@link FileChannel#map}),
+ * не является потокобезопасной. Файл начинается с заголовка (сигнатура, версия, ширина элемента, размер
+ * и размерность списка), за которым подряд располагаются элементы, закодированные {@link FixedWidthCodec}.
+ * <p>
+ * Открытие существующего файла не копирует данные: файл отображается в память, и элементы читаются
+ * из него по требованию, поэтому список доступен сразу после создания объекта. Размер в заголовке
+ * обновляется при каждом изменении списка. Изменения попадают в файл средствами операционной системы;
+ * для гарантированной записи на диск используется {@link #force()}. При нехватке места файл
+ * расширяется и отображается заново: удвоением, но не более чем на {@link #MAX_GROWTH_BYTES} за раз,
+ * с выравниванием по странице.
+ * <p>
+ * Данные хранятся в порядке байт big-endian, поэтому файл переносим между платформами. Размер файла
+ * ограничен 2 ГБ (ограничение MappedByteBuffer). Значения null не поддерживаются.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class MappedList<T> extends AbstractBufferList<T> {
+
+    /**
+     * Сигнатура файла ("MLST").
+     */
+    private static final int MAGIC = 0x4D4C5354;
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WIDTH_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int CAPACITY_OFFSET = 16;
+    /**
+     * Размер заголовка в байтах (с резервом для будущих полей).
+     */
+    static final int HEADER_SIZE = 32;
+    /**
+     * Размер страницы, по которому выравнивается длина файла.
+     */
+    private static final int PAGE_SIZE = 4096;
+    /**
+     * Максимальный прирост файла при одном расширении.
+     */
+    public static final int MAX_GROWTH_BYTES = 64 << 20;
+    /**
+     * Базовый размер контейнера (в элементах).
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Нулевой размер контейнера, необходим для проверки в конструкторе с параметром размерности списка.
+     */
+    private static final int ZERO_CAPACITY = 0;
+
+    private final FileChannel channel;
+
+    /**
+     * Конструктор, открывающий существующий файл списка или создающий новый с базовой размерностью.
+     * @param file путь к файлу
+     * @param codec кодек элементов; его ширина должна совпадать с шириной, записанной в файле
+     * @throws IOException если файл не удалось открыть или он не является файлом списка
+     */
+    public MappedList(Path file, FixedWidthCodec<T> codec) throws IOException {
+        this(file, codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор, открывающий существующий файл списка или создающий новый с указанной размерностью.
+     * Для существующего файла размерность берётся из заголовка.
+     * @param file путь к файлу
+     * @param codec кодек элементов; его ширина должна совпадать с шириной, записанной в файле
+     * @param initSize размерность нового списка в элементах
+     * @throws IOException если файл не удалось открыть или он не является файлом списка
+     * @throws IllegalArgumentException если указана неположительная размерность или ширина кодека
+     */
+    public MappedList(Path file, FixedWidthCodec<T> codec, int initSize) throws IOException {
+        super(codec, HEADER_SIZE);
+        if (initSize <= ZERO_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                create(initSize);
+            } else {
+                load(file);
+            }
+        } catch (IOException | RuntimeException e) {
+            DirectMemory.free(buffer);
+            buffer = null;
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void create(int initSize) throws IOException {
+        map(initSize);
+        buffer.putInt(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(WIDTH_OFFSET, width);
+        sizeChanged();
+    }
+
+    private void load(Path file) throws IOException {
+        long length = channel.size();
+        if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+            throw new IOException("Not a list file: " + file);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        attach(mapped, 0);
+        if (mapped.getInt(MAGIC_OFFSET) != MAGIC || mapped.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Not a list file: " + file);
+        }
+        if (mapped.getInt(WIDTH_OFFSET) != width) {
+            throw new IOException("Element width mismatch: file " + mapped.getInt(WIDTH_OFFSET)
+                    + ", codec " + width);
+        }
+        int storedCapacity = mapped.getInt(CAPACITY_OFFSET);
+        int storedSize = mapped.getInt(SIZE_OFFSET);
+        if (storedSize < 0 || storedSize > storedCapacity || bytesFor(storedCapacity) > length) {
+            throw new IOException("Corrupted list header: " + file);
+        }
+        capacity = storedCapacity;
+        size = storedSize;
+    }
+
+    /**
+     * Отображает файл заново так, чтобы в нём поместилось не меньше minCapacity элементов; длина файла
+     * выравнивается по странице, а получившийся запас также используется под элементы.
+     */
+    private void map(int minCapacity) throws IOException {
+        long bytes = (bytesFor(minCapacity) + PAGE_SIZE - 1L) / PAGE_SIZE * PAGE_SIZE;
+        bytes = Math.min(bytes, Integer.MAX_VALUE);
+        int newCapacity = (int) ((bytes - base) / width);
+        MappedByteBuffer old = (MappedByteBuffer) buffer;
+        attach(channel.map(FileChannel.MapMode.READ_WRITE, 0, bytesFor(newCapacity)), newCapacity);
+        buffer.putInt(CAPACITY_OFFSET, newCapacity);
+        DirectMemory.free(old);
+    }
+
+    /**
+     * Расширяет файл: удвоением для небольших файлов и шагами по {@link #MAX_GROWTH_BYTES} для больших.
+     */
+    @Override
+    void grow(int minCapacity) {
+        long step = Math.max(1, Math.min((long) capacity * width, MAX_GROWTH_BYTES) / width);
+        long limit = (Integer.MAX_VALUE - base) / width;
+        int newCapacity = (int) Math.max(minCapacity, Math.min(capacity + step, limit));
+        try {
+            map(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void sizeChanged() {
+        buffer.putInt(SIZE_OFFSET, size);
+    }
+
+    /**
+     * Метод для принудительной записи изменений на диск.
+     */
+    public void force() {
+        checkOpen();
+        ((MappedByteBuffer) buffer).force();
+    }
+
+    /**
+     * Метод для закрытия файла. Отображение снимается сразу; изменения, не записанные методом
+     * {@link #force()}, будут записаны операционной системой. Повторный вызов ничего не делает.
+     * @throws IOException если не удалось закрыть файл
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            DirectMemory.free(buffer);
+            buffer = null;
+            size = 0;
+            channel.close();
+        }
+    }
+}
@@ -1,12 +1,28 @@
 package ru.andreycherenkov;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
 
 /**
  * Собственная реализация коллекции ArrayList, не является потокобезопасной.
- * Коллекция содержит следующие публичные методы для работы с коллекцией: add, get, size, indexOf, remove, set, clear
- * quickSort, contains
+ * Коллекция содержит следующие публичные методы для работы с коллекцией: add, addAll, get, size, indexOf, remove,
+ * removeIf, removeAll, retainAll, removeRange, set, clear, quickSort, radixSort, sortByIntKey, sortByLongKey,
+ * stableSort, parallelSort, nthElement, partialSort, topK, forEach, replaceAll, map, filter, reduce (и их параллельные
+ * варианты), contains, subList, ensureCapacity, trimToSize, capacity, setGrowthPolicy, setShrinkPolicy, reset, release,
+ * setMetrics
  *
  * @param <T> тип элементов, хранимых в коллекции
  *
@@ -23,6 +39,14 @@ public class MyArrayList<T> implements MyList<T> {
      * Нулевой размер контейнера, необходим для проверки в конструкторе с параметром размерности списка.
      */
     private static final int ZERO_CAPACITY = 0;
+    /**
+     * Стратегия расширения по умолчанию.
+     */
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicy.doubling();
+    /**
+     * Пустой контейнер списка, вернувшего свой контейнер в пул.
+     */
+    private static final Object[] EMPTY_CONTAINER = {};
 
     /**
      * Контейнер (массив), в котором собственном хранятся элементы.
@@ -33,6 +57,36 @@ public class MyArrayList<T> implements MyList<T> {
      * Размерность ArrayList (число элементов, которые он содержит)
      */
     private int size;
+    /**
+     * Временный буфер слияний устойчивой сортировки, переиспользуемый между вызовами stableSort.
+     */
+    private Object[] sortBuffer;
+    /**
+     * Счётчик структурных модификаций (изменений размера и порядка элементов). Используется итераторами
+     * и сплитераторами, чтобы обнаружить изменение списка во время обхода.
+     */
+    private int modCount;
+    /**
+     * Приёмник метрик горячих путей; null (по умолчанию) отключает сбор метрик, и каждая точка
+     * измерения сводится к одной проверке на null.
+     */
+    private ListMetrics metrics;
+    /**
+     * Стратегия расширения контейнера.
+     */
+    private GrowthPolicy growthPolicy = DEFAULT_GROWTH_POLICY;
+    /**
+     * Стратегия автоматического уменьшения контейнера; null (по умолчанию) - контейнер не уменьшается.
+     */
+    private ShrinkPolicy shrinkPolicy;
+    /**
+     * Пул, из которого берутся и в который возвращаются контейнеры; null - контейнеры выделяются обычным образом.
+     */
+    private final ArrayPool pool;
+    /**
+     * Размерность, указанная при создании; до неё контейнер возвращается методом {@link #reset()}.
+     */
+    private final int initialCapacity;
 
     /**
      * Конструктор без параметров, создающий список с базовой размерностью (DEFAULT_CAPACITY)
@@ -40,28 +94,223 @@ public class MyArrayList<T> implements MyList<T> {
     public MyArrayList() {
         this.container = new Object[DEFAULT_CAPACITY];
         this.size = 0;
+        this.pool = null;
+        this.initialCapacity = DEFAULT_CAPACITY;
     }
 
     /**
      * Конструктор, позволяющий указать базовую размерность коллекции.
+     * Нулевая размерность допустима: контейнер будет выделен при первом добавлении.
      * @param initSize размерность списка, необходимая для инициализации контейнера
      * @throws IllegalArgumentException если указана отрицательная величина
      */
     public MyArrayList(int initSize) {
-        if (initSize <= ZERO_CAPACITY) {
+        if (initSize < ZERO_CAPACITY) {
             throw new IllegalArgumentException();
         }
         this.container = new Object[initSize];
         this.size = 0;
+        this.pool = null;
+        this.initialCapacity = initSize;
+    }
+
+    /**
+     * Конструктор, создающий список с базовой размерностью (DEFAULT_CAPACITY), контейнеры которого берутся
+     * из пула при создании и расширении и возвращаются в него при замене, {@link #reset()} и {@link #release()}.
+     * Размерность контейнера округляется вверх до класса размеров пула.
+     * @param pool пул контейнеров
+     */
+    public MyArrayList(ArrayPool pool) {
+        this(DEFAULT_CAPACITY, pool);
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции и пул контейнеров.
+     * @param initSize размерность списка, необходимая для инициализации контейнера
+     * @param pool пул контейнеров
+     * @throws IllegalArgumentException если указана отрицательная величина
+     */
+    public MyArrayList(int initSize, ArrayPool pool) {
+        if (initSize < ZERO_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.pool = Objects.requireNonNull(pool);
+        this.container = pool.acquire(initSize);
+        this.size = 0;
+        this.initialCapacity = initSize;
+    }
+
+    /**
+     * Конструктор, использующий готовый массив в качестве контейнера без копирования.
+     * @param elements контейнер, которым список будет владеть
+     * @param size количество элементов в начале контейнера
+     */
+    private MyArrayList(Object[] elements, int size) {
+        this.container = elements;
+        this.size = size;
+        this.pool = null;
+        this.initialCapacity = elements.length;
+    }
+
+    /**
+     * Метод для получения списка, контейнером которого становится переданный массив (без копирования).
+     * Используется массовыми операциями, результат которых уже собран в массиве точного размера.
+     * @param elements массив элементов, которым список будет владеть
+     * @param <T> тип элементов списка
+     * @return новый список размера elements.length
+     */
+    static <T> MyArrayList<T> wrap(Object[] elements) {
+        return new MyArrayList<>(elements, elements.length);
+    }
+
+    /**
+     * Вспомогательный метод, который возвращает размерность контейнера, выделяемого для capacity элементов:
+     * с подключенным пулом она округляется до класса размеров, если класс не превышает наибольшую размерность
+     * стратегии расширения; иначе контейнер выделяется точного размера вне пула.
+     */
+    private int roundCapacity(int capacity) {
+        if (pool == null) {
+            return capacity;
+        }
+        int rounded = pool.lengthFor(capacity);
+        return rounded > growthPolicy.maxCapacity() ? capacity : rounded;
+    }
+
+    /**
+     * Вспомогательный метод, который выделяет пустой контейнер размерности {@link #roundCapacity(int)}:
+     * из пула, если он подключен и размерность совпадает с классом размеров.
+     * @param capacity необходимая размерность
+     * @return контейнер размерности не меньше capacity
+     */
+    private Object[] newContainer(int capacity) {
+        int length = roundCapacity(capacity);
+        return pool != null && length == pool.lengthFor(capacity) ? pool.acquire(capacity) : new Object[length];
+    }
+
+    /**
+     * Вспомогательный метод, который очищает первые used ячеек старого контейнера и возвращает его в пул,
+     * если он подключен. Ячейки после used уже содержат null.
+     * @param old контейнер, который больше не используется списком
+     * @param used количество ячеек, которые могли быть заняты
+     */
+    private void recycle(Object[] old, int used) {
+        if (pool != null) {
+            Arrays.fill(old, 0, used, null);
+            pool.release(old);
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который расширяет контейнер так, чтобы в него поместилось minCapacity элементов.
+     * Новая размерность вычисляется стратегией расширения (по умолчанию не меньше удвоенной), поэтому
+     * при массовом добавлении расширение выполняется один раз.
+     * @param minCapacity необходимая размерность контейнера
+     * @throws IllegalStateException если стратегия не допускает такой размерности
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > container.length || minCapacity < 0) {
+            resize(growthPolicy.grow(container.length, minCapacity));
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который заменяет контейнер копией размерности newCapacity и сообщает
+     * о расширении или уменьшении приёмнику метрик. Буфер устойчивой сортировки при уменьшении освобождается.
+     * @param newCapacity новая размерность контейнера, не меньше size
+     */
+    private void resize(int newCapacity) {
+        int oldCapacity = container.length;
+        newCapacity = roundCapacity(newCapacity);
+        if (newCapacity == oldCapacity) {
+            return;
+        }
+        if (newCapacity > oldCapacity) {
+            if (metrics != null) {
+                metrics.grown(oldCapacity, newCapacity, oldCapacity);
+            }
+        } else {
+            if (metrics != null) {
+                metrics.shrunk(oldCapacity, newCapacity, newCapacity);
+            }
+            sortBuffer = null;
+        }
+        if (pool == null) {
+            container = Arrays.copyOf(container, newCapacity);
+        } else {
+            Object[] old = container;
+            container = newContainer(newCapacity);
+            System.arraycopy(old, 0, container, 0, size);
+            recycle(old, size);
+        }
     }
 
     /**
-     * Вспомогательный метод, который возвращает контейнер с увеличенной в 2 раза размерностью.
-     * @return контейнер с увеличенной размерностью
+     * Вспомогательный метод, который уменьшает контейнер после удаления элементов, если подключена
+     * стратегия уменьшения и заполненность контейнера опустилась ниже её порога.
      */
-    private Object[] increaseCapacity() {
-        int newCapacity = container.length * 2;
-        return Arrays.copyOf(container, newCapacity);
+    private void shrinkIfNeeded() {
+        if (shrinkPolicy != null) {
+            int newCapacity = roundCapacity(shrinkPolicy.shrink(size, container.length));
+            if (newCapacity < container.length) {
+                resize(newCapacity);
+            }
+        }
+    }
+
+    /**
+     * Метод для резервирования места: после вызова в контейнер помещается minCapacity элементов без расширений.
+     * Размерность устанавливается ровно в minCapacity (с подключенным пулом - в его класс размеров), без запаса
+     * стратегии расширения, поэтому перед массовой загрузкой известного объёма лишняя память не выделяется.
+     * @param minCapacity необходимая размерность контейнера; если она не больше текущей, ничего не происходит
+     * @throws IllegalArgumentException если minCapacity больше {@link GrowthPolicy#MAX_ARRAY_SIZE}
+     * @throws IllegalStateException если minCapacity больше наибольшей размерности стратегии расширения
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > GrowthPolicy.MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        if (minCapacity > growthPolicy.maxCapacity()) {
+            throw new IllegalStateException();
+        }
+        if (minCapacity > container.length) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Метод для уменьшения размерности контейнера до размера списка. Также освобождается буфер устойчивой
+     * сортировки. Если подключен пул, размерность округляется вверх до его класса размеров.
+     */
+    public void trimToSize() {
+        if (size < container.length) {
+            resize(size);
+        }
+        sortBuffer = null;
+    }
+
+    /**
+     * @return размерность контейнера (количество выделенных ячеек)
+     */
+    public int capacity() {
+        return container.length;
+    }
+
+    /**
+     * Метод для подключения стратегии расширения контейнера.
+     * @param growthPolicy стратегия расширения; null восстанавливает стратегию по умолчанию (удвоение)
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = growthPolicy == null ? DEFAULT_GROWTH_POLICY : growthPolicy;
+    }
+
+    /**
+     * Метод для подключения стратегии автоматического уменьшения контейнера. Стратегия проверяется после
+     * каждого удаления и очистки, а также сразу при подключении.
+     * @param shrinkPolicy стратегия уменьшения; null отключает автоматическое уменьшение
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+        shrinkIfNeeded();
     }
 
     /**
@@ -83,11 +332,47 @@ public class MyArrayList<T> implements MyList<T> {
     @Override
     public void add(T element) {
         if (size == container.length) {
-            container = increaseCapacity();
+            ensureCapacityInternal(size + 1);
         }
+        modCount++;
         container[size++] = element;
     }
 
+    /**
+     * Метод для добавления всех элементов другого списка в конец этого списка. Контейнер расширяется
+     * не более одного раза; если переданный список тоже является MyArrayList, элементы копируются
+     * одним вызовом System.arraycopy.
+     * @param elements список, элементы которого будут добавлены в конец
+     */
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        int count = elements.size();
+        ensureCapacityInternal(size + count);
+        if (elements instanceof MyArrayList<?> other) {
+            System.arraycopy(other.container, 0, container, size, count);
+        } else {
+            for (int i = 0; i < count; i++) {
+                container[size + i] = elements.get(i);
+            }
+        }
+        size += count;
+        modCount++;
+    }
+
+    /**
+     * Метод для добавления всех элементов коллекции в конец списка. Элементы извлекаются одним вызовом
+     * toArray, контейнер расширяется не более одного раза, копирование выполняется одним System.arraycopy.
+     * @param elements коллекция, элементы которой будут добавлены в конец
+     */
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        Object[] array = elements.toArray();
+        ensureCapacityInternal(size + array.length);
+        System.arraycopy(array, 0, container, size, array.length);
+        size += array.length;
+        modCount++;
+    }
+
     /**
      * Метод для вставки элемента в проивольную позицию списка. Если в указанной позиции уже есть элемент, то будет
      * произведён сдвиг элементов справа. Таким образом, данный метод не позволяет заменить уже существующие элементы.
@@ -100,11 +385,15 @@ public class MyArrayList<T> implements MyList<T> {
             throw new IndexOutOfBoundsException();
         }
         if (size == container.length) {
-            container = increaseCapacity();
+            ensureCapacityInternal(size + 1);
         }
         System.arraycopy(container, index, container, index + 1, size - index);
+        if (metrics != null) {
+            metrics.shifted(size - index);
+        }
         container[index] = element;
         size++;
+        modCount++;
     }
 
     /**
@@ -137,7 +426,12 @@ public class MyArrayList<T> implements MyList<T> {
         if (length >= 0) {
             System.arraycopy(container, index + 1, container, index, length);
         }
+        if (metrics != null) {
+            metrics.shifted(length);
+        }
         container[--size] = null;
+        modCount++;
+        shrinkIfNeeded();
         return true;
     }
 
@@ -153,7 +447,72 @@ public class MyArrayList<T> implements MyList<T> {
         if (length > 0) {
             System.arraycopy(container, index + 1, container, index, length);
         }
+        if (metrics != null) {
+            metrics.shifted(length);
+        }
         container[--size] = null;
+        modCount++;
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Метод для удаления всех элементов, удовлетворяющих условию. Контейнер уплотняется за один проход:
+     * сохраняемые элементы сдвигаются на освободившиеся места, поэтому удаление любого количества элементов
+     * выполняется за O(n). Если условие выбросит исключение, список останется в согласованном состоянии:
+     * элементы, которые ещё не были проверены, сохраняются.
+     * @param filter условие, при выполнении которого элемент удаляется
+     * @return true, если был удалён хотя бы один элемент
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int write = 0;
+        int read = 0;
+        int removed;
+        try {
+            for (; read < size; read++) {
+                Object element = container[read];
+                if (!filter.test((T) element)) {
+                    container[write++] = element;
+                }
+            }
+        } finally {
+            if (read < size) {
+                System.arraycopy(container, read, container, write, size - read);
+                write += size - read;
+            }
+            Arrays.fill(container, write, size, null);
+            removed = size - write;
+            size = write;
+            if (removed > 0) {
+                modCount++;
+                shrinkIfNeeded();
+            }
+        }
+        return removed > 0;
+    }
+
+    /**
+     * Метод для удаления элементов с индексами из диапазона [fromIndex, toIndex).
+     * Хвост списка сдвигается одним вызовом System.arraycopy.
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex индекс, следующий за последним удаляемым элементом
+     * @throws IndexOutOfBoundsException если fromIndex отрицательный, toIndex превышает size или fromIndex > toIndex
+     */
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(container, toIndex, container, fromIndex, size - toIndex);
+        if (metrics != null) {
+            metrics.shifted(size - toIndex);
+        }
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(container, newSize, size, null);
+        size = newSize;
+        modCount++;
+        shrinkIfNeeded();
     }
 
     /**
@@ -170,11 +529,58 @@ public class MyArrayList<T> implements MyList<T> {
 
     /**
      * Метод для полной очистки списка, все объекты заменяются на null, size присваивается значение 0.
+     * Если подключена стратегия уменьшения, большой контейнер не очищается, а заменяется новым
+     * наименьшей допустимой размерности.
      */
     @Override
     public void clear() {
-        Arrays.fill(container, null);
+        int newCapacity = shrinkPolicy == null
+                ? container.length : roundCapacity(shrinkPolicy.shrink(0, container.length));
+        if (newCapacity < container.length) {
+            if (metrics != null) {
+                metrics.shrunk(container.length, newCapacity, 0);
+            }
+            Object[] old = container;
+            container = newContainer(newCapacity);
+            recycle(old, size);
+            sortBuffer = null;
+        } else {
+            Arrays.fill(container, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Метод для возврата списка в исходное состояние для повторного использования: список очищается,
+     * а контейнер, расширенный сверх начальной размерности, возвращается в пул и заменяется контейнером
+     * начальной размерности из пула. Стратегии и приёмник метрик сохраняются. При подключенном и
+     * прогретом пуле цикл "заполнение - сортировка - reset" не выделяет память.
+     */
+    public void reset() {
+        if (container.length > roundCapacity(initialCapacity)) {
+            Object[] old = container;
+            container = newContainer(initialCapacity);
+            recycle(old, size);
+        } else {
+            Arrays.fill(container, 0, size, null);
+        }
+        sortBuffer = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Метод для освобождения памяти списка: список очищается, контейнер возвращается в пул (если он подключен)
+     * и заменяется пустым. Список можно продолжать использовать: контейнер будет выделен при добавлении.
+     */
+    public void release() {
+        Object[] old = container;
+        container = EMPTY_CONTAINER;
+        recycle(old, size);
+        sortBuffer = null;
         size = 0;
+        modCount++;
     }
 
     /**
@@ -193,102 +599,429 @@ public class MyArrayList<T> implements MyList<T> {
      */
     @Override
     public boolean contains(T element) {
-        for (Object o: container) {
-            if (o != null && o.equals(element)) {
-                return true;
-            }
-        }
-        return false;
+        return indexOf(element) >= 0;
     }
 
     /**
      * Метод для получения индекса первого вхождения элемента в списке. Например, ["a", "a"] вернёт 0.
-     * При отсутсвии элемента в списке возвращается значение -1.
+     * При отсутсвии элемента в списке возвращается значение -1. Просматриваются только первые size ячеек
+     * контейнера, а не весь контейнер.
      * * @param element элемент, индекс которого необходимо получить
      * @return индекс элемента при удачном исходе, -1 при отсутствии искомого элемента в коллекции
      */
     @Override
     public int indexOf(T element) {
-        for (int i = 0; i < container.length; i++) {
-            if (container[i] != null && container[i].equals(element)) {
+        if (element == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (element.equals(container[i])) {
+                if (metrics != null) {
+                    metrics.scanned(i + 1);
+                }
                 return i;
             }
         }
+        if (metrics != null) {
+            metrics.scanned(size);
+        }
         return -1;
     }
 
     /**
      * Метод быстрой сортировки (обёртка).
      * Данная реализация метода требует реализации интерфейса Comparable от хранимых объектов.
+     * Сортировка выполняется движком {@link Sorting} (introsort) непосредственно над контейнером,
+     * поэтому время работы в худшем случае O(n log n), в том числе на уже отсортированных данных.
+     * Списки из Integer, Long или String длиной не меньше {@link RadixSort#RADIX_THRESHOLD} сортируются
+     * поразрядно; выбор алгоритма не зависит от подключённых метрик.
      * @throws UnsupportedOperationException если не реализован интерфейс Comparable у класса хранимых объектов.
      */
     public void quickSort() {
-        quickSort(0, this.size() - 1, null);
+        if (RadixSort.trySortNatural(container, 0, size)) {
+            radixSorted();
+            return;
+        }
+        Sorting.checkComparable(container, 0, size);
+        sort(Sorting.NATURAL_ORDER);
     }
 
     /**
      * Метод быстрой сортировки, позволяющий передать свою реализацию компаратора.
      * @param comparator необходим для создания собственной логики сортировки хранимых объектов.
+     *                   Если передан null, используется естественный порядок элементов.
      * @throws UnsupportedOperationException если не реализован интерфейс Comparable у класса хранимых объектов.
      */
+    @SuppressWarnings("unchecked")
     public void quickSort(Comparator<? super T> comparator) {
-        quickSort(0, this.size() - 1, comparator);
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        sort((Comparator<Object>) comparator);
     }
 
     /**
-     * Вспомогательный метод для реализации публичных методов быстрой сортировки.
-     * Метод рекурсивно вызывает себя для левой и правой частей массива,
-     * используя результат partition в качестве опорного элемента.
-     * После разделения массива метод рекурсивно вызывает себя для
-     * левой (от low до pivot - 1) и правой (от pivot + 1 до high) частей массива.
-     * @param low нижняя граница массива, который нужно разделить
-     * @param high верхняя граница массива, который нужно разделить
-     * @param comparator компаратор, необходимый для сравнения элементов массива
+     * Метод устойчивой сортировки (TimSort) над контейнером: естественные возрастающие и убывающие серии
+     * сливаются с галопом, поэтому почти отсортированный список сортируется почти за линейное время.
+     * Временный буфер слияний сохраняется в списке и переиспользуется следующими сортировками.
+     * @param comparator компаратор для сравнения элементов; null означает естественный порядок
+     * @throws UnsupportedOperationException если компаратор не передан и элементы не реализуют Comparable
      */
-    private void quickSort(int low, int high, Comparator<? super T> comparator) {
-        if (low < high) {
-            int pivot = partition(low, high, comparator);
+    @Override
+    public void stableSort(Comparator<? super T> comparator) {
+        Comparator<Object> effective = effectiveComparator(comparator);
+        if (metrics == null) {
+            sortBuffer = TimSort.sort(container, 0, size, effective, sortBuffer);
+        } else {
+            long[] comparisons = new long[1];
+            sortBuffer = TimSort.sort(container, 0, size, (a, b) -> {
+                comparisons[0]++;
+                return effective.compare(a, b);
+            }, sortBuffer);
+            metrics.sorted(size, comparisons[0], 0, 0);
+        }
+        modCount++;
+    }
 
-            quickSort(low, pivot - 1, comparator);
-            quickSort(pivot + 1, high, comparator);
+    /**
+     * Метод поразрядной сортировки в естественном порядке для списков из Integer, Long или String.
+     * Для остальных типов элементов выполняется {@link #quickSort()}.
+     * @throws UnsupportedOperationException если не реализован интерфейс Comparable у класса хранимых объектов.
+     */
+    @Override
+    public void radixSort() {
+        if (RadixSort.sortNatural(container, 0, size)) {
+            radixSorted();
+        } else {
+            quickSort();
         }
     }
 
     /**
-     * Вспомогательный метод для реализации быстрой сортировки. Отвечает за раздлеление элементов в массиве.
-     * @param low нижняя граница массива, который нужно разделить
-     * @param high верхняя граница массива, который нужно разделить
-     * @param comparator компаратор, необходимый для сравнения элементов массива
-     * @return индекс опорного элемента
+     * Метод устойчивой поразрядной сортировки по int-ключу элементов.
+     * @param key функция, извлекающая ключ элемента; вызывается ровно один раз для каждого элемента
      */
+    @Override
     @SuppressWarnings("unchecked")
-    private int partition(int low, int high, Comparator<? super T> comparator) {
-        T pivot = this.get(high);
-        int i = (low - 1);
-        for (int j = low; j < high; j++) {
-            if (comparator != null) {
-                if (comparator.compare(this.get(j), pivot) <= 0) {
-                    i++;
-                    T temp = this.get(i);
-                    this.set(i, this.get(j));
-                    this.set(j, temp);
-                }
-            } else if (this.get(j) instanceof Comparable) {
-                if (((Comparable<T>) this.get(j)).compareTo(pivot) <= 0) {
-                    i++;
-                    T temp = this.get(i);
-                    this.set(i, this.get(j));
-                    this.set(j, temp);
-                }
-            } else {
-                throw new UnsupportedOperationException("Objects must implement Comparable or use a custom Comparator");
-            }
+    public void sortByIntKey(ToIntFunction<? super T> key) {
+        RadixSort.sortByIntKey(container, 0, size, (ToIntFunction<Object>) key);
+        radixSorted();
+    }
+
+    /**
+     * Метод устойчивой поразрядной сортировки по long-ключу элементов.
+     * @param key функция, извлекающая ключ элемента; вызывается ровно один раз для каждого элемента
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sortByLongKey(ToLongFunction<? super T> key) {
+        RadixSort.sortByLongKey(container, 0, size, (ToLongFunction<Object>) key);
+        radixSorted();
+    }
+
+    /**
+     * Вспомогательный метод, завершающий поразрядную сортировку: сообщает о ней приёмнику метрик
+     * (сравнений, перестановок и разбиений она не выполняет) и увеличивает счётчик модификаций.
+     */
+    private void radixSorted() {
+        if (metrics != null) {
+            metrics.sorted(size, 0, 0, 0);
+        }
+        modCount++;
+    }
+
+    /**
+     * Вспомогательный метод сортировки контейнера; при подключённых метриках собирает статистику сортировки.
+     */
+    private void sort(Comparator<Object> comparator) {
+        if (metrics == null) {
+            Sorting.introSort(container, 0, size, comparator);
+        } else {
+            Sorting.Stats stats = new Sorting.Stats();
+            Sorting.introSort(container, 0, size, comparator, stats);
+            metrics.sorted(size, stats.comparisons, stats.swaps, stats.maxDepth);
+        }
+        modCount++;
+    }
+
+    /**
+     * Метод для подключения приёмника метрик: счётчиков расширений контейнера, сдвигов элементов,
+     * длин линейного поиска и статистики сортировки quickSort.
+     * @param metrics приёмник метрик; null отключает сбор метрик
+     */
+    public void setMetrics(ListMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Метод параллельной сортировки. Контейнер делится на диапазоны, которые сортируются задачами fork/join
+     * в пуле из настроек и затем сливаются. Диапазоны не больше порога из настроек сортируются последовательно.
+     * @param comparator компаратор для сравнения элементов; null означает естественный порядок
+     * @param options настройки параллельного выполнения
+     * @throws UnsupportedOperationException если компаратор не передан и элементы не реализуют Comparable
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        Comparator<Object> effective = (Comparator<Object>) comparator;
+        if (effective == null) {
+            Sorting.checkComparable(container, 0, size);
+            effective = Sorting.NATURAL_ORDER;
+        }
+        Sorting.parallelSort(container, 0, size, effective, options);
+        modCount++;
+    }
+
+    /**
+     * Метод выбора k-го элемента (introselect) над контейнером: быстрый выбор с тем же разбиением, что и
+     * в quickSort, с переходом на медиану медиан, поэтому время работы линейно и в худшем случае.
+     * @param k индекс искомого элемента в отсортированном порядке
+     * @param comparator компаратор для сравнения элементов; null означает естественный порядок
+     * @return элемент на позиции k
+     * @throws IndexOutOfBoundsException если k отрицательный или не меньше size
+     * @throws UnsupportedOperationException если компаратор не передан и элементы не реализуют Comparable
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T nthElement(int k, Comparator<? super T> comparator) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Sorting.select(container, 0, size, k, effectiveComparator(comparator));
+        modCount++;
+        return (T) container[k];
+    }
+
+    /**
+     * Метод частичной сортировки: выбор k-го элемента и сортировка только первых k элементов, O(n + k log k).
+     * @param k количество упорядочиваемых элементов
+     * @param comparator компаратор для сравнения элементов; null означает естественный порядок
+     * @throws IndexOutOfBoundsException если k отрицательный или больше size
+     * @throws UnsupportedOperationException если компаратор не передан и элементы не реализуют Comparable
+     */
+    @Override
+    public void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0 || k > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Sorting.partialSort(container, 0, size, k, effectiveComparator(comparator));
+        modCount++;
+    }
+
+    /**
+     * Вспомогательный метод, возвращающий компаратор естественного порядка, если компаратор не передан.
+     * @throws UnsupportedOperationException если компаратор не передан и элементы не реализуют Comparable
+     */
+    @SuppressWarnings("unchecked")
+    private Comparator<Object> effectiveComparator(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            Sorting.checkComparable(container, 0, size);
+            return Sorting.NATURAL_ORDER;
+        }
+        return (Comparator<Object>) comparator;
+    }
+
+    /**
+     * Вспомогательный метод, который проверяет, что список не был структурно изменён во время массовой операции.
+     * @throws ConcurrentModificationException если счётчик модификаций изменился
+     */
+    private void checkModCount(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Метод для выполнения действия над каждым элементом по порядку, непосредственно по контейнеру.
+     * @param action действие над элементом
+     * @throws ConcurrentModificationException если список был структурно изменён во время обхода
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        parallelForEach(action, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для параллельного выполнения действия над элементами: контейнер делится на блоки по порогу
+     * из настроек, которые обрабатываются задачами fork/join.
+     * @param action действие над элементом; должно быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     * @throws ConcurrentModificationException если список был структурно изменён во время обхода
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        BulkOps.forEach(container, 0, size, (Consumer<Object>) action, options);
+        checkModCount(expectedModCount);
+    }
+
+    /**
+     * Метод для замены каждого элемента результатом оператора непосредственно в контейнере.
+     * @param operator оператор, применяемый к каждому элементу
+     * @throws ConcurrentModificationException если список был структурно изменён во время замены
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        parallelReplaceAll(operator, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для параллельной замены каждого элемента результатом оператора: блоки контейнера обрабатываются
+     * задачами fork/join, каждая записывает только в свой блок.
+     * @param operator оператор, применяемый к каждому элементу; должен быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     * @throws ConcurrentModificationException если список был структурно изменён во время замены
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void parallelReplaceAll(UnaryOperator<T> operator, ParallelOptions options) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        BulkOps.replaceAll(container, 0, size, (UnaryOperator<Object>) operator, options);
+        checkModCount(expectedModCount);
+    }
+
+    /**
+     * Метод для получения нового списка из результатов функции. Контейнер результата выделяется один раз
+     * размера size, без расширений.
+     * @param mapper функция преобразования элемента
+     * @param <R> тип элементов нового списка
+     * @return новый MyArrayList
+     */
+    @Override
+    public <R> MyList<R> map(Function<? super T, ? extends R> mapper) {
+        return parallelMap(mapper, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для получения нового списка из результатов функции, вычисленных параллельно блоками контейнера;
+     * каждая задача записывает результаты своего блока в заранее выделенный контейнер результата.
+     * @param mapper функция преобразования элемента; должна быть потокобезопасной
+     * @param options настройки параллельного выполнения
+     * @param <R> тип элементов нового списка
+     * @return новый MyArrayList
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MyList<R> parallelMap(Function<? super T, ? extends R> mapper, ParallelOptions options) {
+        Objects.requireNonNull(mapper);
+        int expectedModCount = modCount;
+        Object[] result = BulkOps.map(container, 0, size, (Function<Object, Object>) mapper, options);
+        checkModCount(expectedModCount);
+        return wrap(result);
+    }
+
+    /**
+     * Метод для получения нового списка из элементов, удовлетворяющих условию. Условие проверяется один раз
+     * для каждого элемента, контейнер результата выделяется точного размера.
+     * @param predicate условие отбора
+     * @return новый MyArrayList
+     */
+    @Override
+    public MyList<T> filter(Predicate<? super T> predicate) {
+        return parallelFilter(predicate, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для получения нового списка из элементов, удовлетворяющих условию, в два параллельных прохода:
+     * первый проверяет условие и считает подходящие элементы каждого блока, второй копирует их в контейнер
+     * результата точного размера по смещениям блоков.
+     * @param predicate условие отбора; должно быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     * @return новый MyArrayList
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public MyList<T> parallelFilter(Predicate<? super T> predicate, ParallelOptions options) {
+        Objects.requireNonNull(predicate);
+        int expectedModCount = modCount;
+        Object[] result = BulkOps.filter(container, 0, size, (Predicate<Object>) predicate, options);
+        checkModCount(expectedModCount);
+        return wrap(result);
+    }
+
+    /**
+     * Метод для свёртки элементов по порядку непосредственно по контейнеру.
+     * @param identity начальное значение, результат для пустого списка
+     * @param accumulator функция свёртки
+     * @return результат свёртки
+     */
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        return parallelReduce(identity, accumulator, BulkOps.SEQUENTIAL);
+    }
+
+    /**
+     * Метод для параллельной свёртки: блоки контейнера сворачиваются задачами fork/join, начиная с identity,
+     * результаты блоков объединяются по порядку.
+     * @param identity нейтральный элемент accumulator, результат для пустого списка
+     * @param accumulator ассоциативная функция свёртки без побочных эффектов
+     * @param options настройки параллельного выполнения
+     * @return результат свёртки
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T parallelReduce(T identity, BinaryOperator<T> accumulator, ParallelOptions options) {
+        Objects.requireNonNull(accumulator);
+        int expectedModCount = modCount;
+        Object result = BulkOps.reduce(container, 0, size, identity, (BinaryOperator<Object>) accumulator, options);
+        checkModCount(expectedModCount);
+        return (T) result;
+    }
+
+    /**
+     * Метод для получения представления диапазона [fromIndex, toIndex) без копирования: представление
+     * работает непосредственно с контейнером списка со смещением, проверяет счётчик модификаций
+     * и сортирует только свой диапазон контейнера. Представления могут быть вложенными.
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex конец диапазона (не включительно)
+     * @return представление диапазона
+     * @throws IndexOutOfBoundsException если fromIndex отрицательный, toIndex превышает size или fromIndex > toIndex
+     */
+    @Override
+    public MyList<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
         }
-        T temp = this.get(i + 1);
-        this.set(i + 1, this.get(high));
-        this.set(high, temp);
+        return new ArraySubList(null, fromIndex, toIndex - fromIndex);
+    }
 
-        return i + 1;
+    /**
+     * Вспомогательный метод для вставки массива элементов в позицию index одним сдвигом хвоста.
+     */
+    private void addAllAt(int index, Object[] array) {
+        ensureCapacityInternal(size + array.length);
+        System.arraycopy(container, index, container, index + array.length, size - index);
+        if (metrics != null) {
+            metrics.shifted(size - index);
+        }
+        System.arraycopy(array, 0, container, index, array.length);
+        size += array.length;
+        modCount++;
+    }
+
+    /**
+     * Метод для получения итератора по элементам списка. Итератор читает контейнер напрямую, без проверки
+     * границ на каждом элементе, и выбрасывает ConcurrentModificationException, если список был структурно
+     * изменён в обход итератора.
+     * @return итератор по элементам списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Метод для получения сплитератора над контейнером. Сплитератор имеет характеристики ORDERED, SIZED и
+     * SUBSIZED и делит диапазон пополам, поэтому параллельные потоки обрабатывают контейнер без копирования.
+     * @return сплитератор по элементам списка
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
     }
 
     /**
@@ -314,7 +1047,8 @@ public class MyArrayList<T> implements MyList<T> {
     }
 
     /**
-     * Переопределенный метод equals. Сравнение происходит по содержимому конейнера и размерности (size).
+     * Переопределенный метод equals. Сравнение происходит по элементам списка и размерности (size);
+     * размерность контейнера не учитывается.
      * @param o объект, с которым будет сравниваться другой объект
      * @return true - если объекты одинаковые, false - если объекты не одинаковые
      */
@@ -327,17 +1061,394 @@ public class MyArrayList<T> implements MyList<T> {
             return false;
         }
         MyArrayList<?> that = (MyArrayList<?>) o;
-        return Arrays.equals(container, that.container) && size == that.size;
+        return size == that.size && Arrays.equals(container, 0, size, that.container, 0, that.size);
     }
 
     /**
-     * Переопеделенный метод hashCode. Код генерируется на основе контейнера и размерности (size) списка.
+     * Переопеделенный метод hashCode. Код генерируется на основе элементов и размерности (size) списка.
      * @return хеш код списка
      */
     @Override
     public int hashCode() {
-        int result = Arrays.hashCode(container);
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + (container[i] == null ? 0 : container[i].hashCode());
+        }
         result = 32 * result + size;
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Итератор по контейнеру с проверкой счётчика модификаций (fail-fast).
+     */
+    private class Itr implements Iterator<T> {
+
+        /**
+         * Индекс следующего возвращаемого элемента.
+         */
+        private int cursor;
+        /**
+         * Индекс последнего возвращённого элемента; -1, если элемента нет или он уже удалён.
+         */
+        private int lastReturned = -1;
+        /**
+         * Значение счётчика модификаций, которое ожидает итератор.
+         */
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            Object[] elements = container;
+            if (i >= elements.length) {
+                throw new ConcurrentModificationException();
+            }
+            cursor = i + 1;
+            lastReturned = i;
+            return (T) elements[i];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            MyArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Сплитератор над диапазоном контейнера [index, fence). Граница fence и ожидаемое значение счётчика
+     * модификаций фиксируются при первом использовании (late-binding), изменение списка во время обхода
+     * обнаруживается после обработки элементов.
+     */
+    private class ArraySpliterator implements Spliterator<T> {
+
+        /**
+         * Текущий индекс; увеличивается при обходе и разделении.
+         */
+        private int index;
+        /**
+         * Граница диапазона (не включительно); -1 до первого использования.
+         */
+        private int fence;
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = fence;
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ArraySpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.accept((T) container[i]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            int hi = getFence();
+            Object[] elements = container;
+            if (hi > elements.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (int i = index; i < hi; i++) {
+                action.accept((T) elements[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Представление диапазона контейнера [offset, offset + size). Структурные изменения выполняются методами
+     * списка, после чего размер и ожидаемый счётчик модификаций обновляются у этого представления и у всех
+     * представлений, из которых оно получено.
+     */
+    private class ArraySubList implements MyList<T> {
+
+        /**
+         * Представление, из которого получено это представление; null, если оно получено из самого списка.
+         */
+        private final ArraySubList parent;
+        /**
+         * Индекс первого элемента представления в контейнере.
+         */
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        ArraySubList(ArraySubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void checkBounds(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        private void checkRange(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        /**
+         * Обновляет размер и ожидаемый счётчик модификаций у этого представления и его родителей.
+         */
+        private void updateSizeAndModCount(int delta) {
+            for (ArraySubList view = this; view != null; view = view.parent) {
+                view.size += delta;
+                view.expectedModCount = modCount;
+            }
+        }
+
+        @Override
+        public void add(T element) {
+            add(size, element);
+        }
+
+        @Override
+        public void add(int index, T element) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            MyArrayList.this.add(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public void addAll(MyList<? extends T> elements) {
+            Object[] array = new Object[elements.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = elements.get(i);
+            }
+            addAll(array);
+        }
+
+        @Override
+        public void addAll(Collection<? extends T> elements) {
+            addAll(elements.toArray());
+        }
+
+        private void addAll(Object[] array) {
+            checkForComodification();
+            addAllAt(offset + size, array);
+            updateSizeAndModCount(array.length);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            checkForComodification();
+            checkBounds(index);
+            return (T) container[offset + index];
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public int indexOf(T element) {
+            checkForComodification();
+            if (element == null) {
+                return -1;
+            }
+            for (int i = 0; i < size; i++) {
+                if (element.equals(container[offset + i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(T element) {
+            return indexOf(element) >= 0;
+        }
+
+        @Override
+        public boolean remove(T element) {
+            int index = indexOf(element);
+            if (index < 0) {
+                return false;
+            }
+            remove(index);
+            return true;
+        }
+
+        @Override
+        public void remove(int index) {
+            checkForComodification();
+            checkBounds(index);
+            MyArrayList.this.remove(offset + index);
+            updateSizeAndModCount(-1);
+        }
+
+        @Override
+        public void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkRange(fromIndex, toIndex);
+            MyArrayList.this.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public void set(int index, T element) {
+            checkForComodification();
+            checkBounds(index);
+            container[offset + index] = element;
+        }
+
+        @Override
+        public void clear() {
+            removeRange(0, size);
+        }
+
+        @Override
+        public void quickSort() {
+            checkForComodification();
+            Sorting.sortNatural(container, offset, offset + size);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void quickSort(Comparator<? super T> comparator) {
+            if (comparator == null) {
+                quickSort();
+                return;
+            }
+            checkForComodification();
+            Sorting.introSort(container, offset, offset + size, (Comparator<Object>) comparator);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void stableSort(Comparator<? super T> comparator) {
+            checkForComodification();
+            Comparator<Object> effective = (Comparator<Object>) comparator;
+            if (effective == null) {
+                Sorting.checkComparable(container, offset, offset + size);
+                effective = Sorting.NATURAL_ORDER;
+            }
+            sortBuffer = TimSort.sort(container, offset, offset + size, effective, sortBuffer);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+            checkForComodification();
+            Comparator<Object> effective = (Comparator<Object>) comparator;
+            if (effective == null) {
+                Sorting.checkComparable(container, offset, offset + size);
+                effective = Sorting.NATURAL_ORDER;
+            }
+            Sorting.parallelSort(container, offset, offset + size, effective, options);
+        }
+
+        @Override
+        public MyList<T> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            checkRange(fromIndex, toIndex);
+            return new ArraySubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            checkForComodification();
+            return new ArraySpliterator(offset, offset + size, modCount);
+        }
+
+        @Override
+        public String toString() {
+            checkForComodification();
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(container[offset + i]);
+            }
+            return sb.append("]").toString();
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package ru.andreycherenkov;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
  * Интерфейс MyList представляет собой интерфейс для списка элементов,
  * поддерживающий различные операции добавления, доступа, удаления и сортировки.
  * Этот интерфейс позволяет работать с элементами списка обобщенного типа T.
+ * Список является {@link Iterable} и может служить источником для {@link Stream}.
  *
  * @param <T> тип элементов, хранимых в коллекции
  *
  * @author Андрей Черенков
  */
-public interface MyList<T> {
+public interface MyList<T> extends Iterable<T> {
 
     /**
      * Добавляет элемент в конец списка.
@@ -27,6 +41,29 @@ public interface MyList<T> {
      */
     void add(int index, T element);
 
+    /**
+     * Добавляет все элементы другого списка в конец этого списка.
+     * Реализация по умолчанию добавляет элементы по одному через {@link #add(Object)}.
+     * @param elements список, элементы которого необходимо добавить
+     */
+    default void addAll(MyList<? extends T> elements) {
+        int count = elements.size();
+        for (int i = 0; i < count; i++) {
+            add(elements.get(i));
+        }
+    }
+
+    /**
+     * Добавляет все элементы коллекции в конец списка в порядке её итератора.
+     * Реализация по умолчанию добавляет элементы по одному через {@link #add(Object)}.
+     * @param elements коллекция, элементы которой необходимо добавить
+     */
+    default void addAll(Collection<? extends T> elements) {
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
     /**
      * Возвращает элемент списка по указанному индексу.
      * @param index индекс элемента, который нужно вернуть
@@ -60,6 +97,66 @@ public interface MyList<T> {
      */
     void remove(int index);
 
+    /**
+     * Удаляет все элементы, удовлетворяющие условию. Оставшиеся элементы сохраняют свой порядок.
+     * Реализация по умолчанию уплотняет список за один проход через {@link #get(int)} и {@link #set(int, Object)},
+     * после чего отбрасывает хвост методом {@link #removeRange(int, int)}.
+     * @param filter условие, при выполнении которого элемент удаляется
+     * @return true, если был удалён хотя бы один элемент
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        int count = size();
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            T element = get(read);
+            if (!filter.test(element)) {
+                if (write != read) {
+                    set(write, element);
+                }
+                write++;
+            }
+        }
+        if (write == count) {
+            return false;
+        }
+        removeRange(write, count);
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы, содержащиеся в указанной коллекции.
+     * @param elements коллекция элементов, которые необходимо удалить
+     * @return true, если был удалён хотя бы один элемент
+     */
+    default boolean removeAll(Collection<?> elements) {
+        return removeIf(elements::contains);
+    }
+
+    /**
+     * Оставляет в списке только элементы, содержащиеся в указанной коллекции.
+     * @param elements коллекция элементов, которые необходимо сохранить
+     * @return true, если был удалён хотя бы один элемент
+     */
+    default boolean retainAll(Collection<?> elements) {
+        return removeIf(element -> !elements.contains(element));
+    }
+
+    /**
+     * Удаляет из списка элементы с индексами из диапазона [fromIndex, toIndex).
+     * Реализация по умолчанию удаляет элементы по одному, начиная с конца диапазона.
+     * @param fromIndex индекс первого удаляемого элемента
+     * @param toIndex индекс, следующий за последним удаляемым элементом
+     * @throws IndexOutOfBoundsException если fromIndex отрицательный, toIndex превышает size или fromIndex > toIndex
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+
     /**
      * Заменяет элемент в списке по указанному индексу.
      * @param index индекс элемента, который нужно заменить
@@ -83,10 +180,382 @@ public interface MyList<T> {
      */
     void quickSort(Comparator<? super T> comparator);
 
+    /**
+     * Устойчиво сортирует список в естественном порядке: равные элементы сохраняют взаимный порядок.
+     */
+    default void stableSort() {
+        stableSort(null);
+    }
+
+    /**
+     * Устойчиво сортирует список адаптивной сортировкой слиянием (TimSort): равные по компаратору элементы
+     * сохраняют взаимный порядок, что позволяет сортировать по нескольким ключам последовательными вызовами.
+     * На почти отсортированных данных время работы близко к линейному. Реализация по умолчанию копирует
+     * элементы во временный массив и записывает результат обратно методом {@link #set(int, Object)}.
+     * @param comparator компаратор для сравнения элементов списка; null означает естественный порядок
+     * @throws UnsupportedOperationException если компаратор не передан и элементы не реализуют Comparable
+     */
+    @SuppressWarnings("unchecked")
+    default void stableSort(Comparator<? super T> comparator) {
+        int size = size();
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = get(i);
+        }
+        Comparator<Object> effective = (Comparator<Object>) comparator;
+        if (effective == null) {
+            Sorting.checkComparable(elements, 0, size);
+            effective = Sorting.NATURAL_ORDER;
+        }
+        TimSort.sort(elements, 0, size, effective, null);
+        for (int i = 0; i < size; i++) {
+            set(i, (T) elements[i]);
+        }
+    }
+
+    /**
+     * Сортирует список в естественном порядке без сравнений: поразрядной сортировкой LSD для Integer и Long
+     * и MSD для String, независимо от размера списка. Реализации, хранящие элементы в массиве, также выбирают
+     * поразрядную сортировку в {@link #quickSort()} автоматически, если список достаточно велик.
+     * Реализация по умолчанию выполняет {@link #quickSort()}.
+     */
+    default void radixSort() {
+        quickSort();
+    }
+
+    /**
+     * Сортирует список по возрастанию int-ключа элементов. Реализации, хранящие элементы в массиве,
+     * выполняют устойчивую поразрядную сортировку LSD и вызывают функцию ключа ровно один раз на элемент.
+     * Реализация по умолчанию сортирует сравнением ключей.
+     * @param key функция, извлекающая ключ элемента
+     */
+    default void sortByIntKey(ToIntFunction<? super T> key) {
+        quickSort(Comparator.comparingInt(key));
+    }
+
+    /**
+     * Сортирует список по возрастанию long-ключа элементов. Реализации, хранящие элементы в массиве,
+     * выполняют устойчивую поразрядную сортировку LSD и вызывают функцию ключа ровно один раз на элемент.
+     * Реализация по умолчанию сортирует сравнением ключей.
+     * @param key функция, извлекающая ключ элемента
+     */
+    default void sortByLongKey(ToLongFunction<? super T> key) {
+        quickSort(Comparator.comparingLong(key));
+    }
+
+    /**
+     * Сортирует список параллельно в естественном порядке элементов с настройками по умолчанию.
+     * Реализация по умолчанию выполняет последовательную сортировку {@link #quickSort()}.
+     */
+    default void parallelSort() {
+        parallelSort(null, ParallelOptions.defaults());
+    }
+
+    /**
+     * Сортирует список параллельно с использованием компаратора и настройками по умолчанию.
+     * @param comparator компаратор для сравнения элементов списка; null означает естественный порядок
+     */
+    default void parallelSort(Comparator<? super T> comparator) {
+        parallelSort(comparator, ParallelOptions.defaults());
+    }
+
+    /**
+     * Сортирует список параллельно с использованием компаратора и указанных настроек (пул потоков, порог
+     * последовательной сортировки). Реализация по умолчанию выполняет последовательную сортировку.
+     * @param comparator компаратор для сравнения элементов списка; null означает естественный порядок
+     * @param options настройки параллельного выполнения
+     */
+    default void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        if (comparator == null) {
+            quickSort();
+        } else {
+            quickSort(comparator);
+        }
+    }
+
+    /**
+     * Переставляет элементы так, что на позиции k оказывается элемент, который стоял бы на ней в отсортированном
+     * списке; элементы левее не больше него, правее не меньше. Реализация по умолчанию сортирует список целиком,
+     * списки на основе массива выполняют выбор за линейное время.
+     * @param k индекс искомого элемента в отсортированном порядке
+     * @param comparator компаратор для сравнения элементов списка; null означает естественный порядок
+     * @return элемент на позиции k (например, медиана при k = size() / 2)
+     * @throws IndexOutOfBoundsException если k отрицательный или не меньше size
+     */
+    default T nthElement(int k, Comparator<? super T> comparator) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (comparator == null) {
+            quickSort();
+        } else {
+            quickSort(comparator);
+        }
+        return get(k);
+    }
+
+    /**
+     * Упорядочивает k наименьших элементов в начале списка; порядок остальных элементов не определён.
+     * Реализация по умолчанию сортирует список целиком, списки на основе массива выполняют выбор
+     * и сортируют только первые k элементов.
+     * @param k количество упорядочиваемых элементов
+     * @param comparator компаратор для сравнения элементов списка; null означает естественный порядок
+     * @throws IndexOutOfBoundsException если k отрицательный или больше size
+     */
+    default void partialSort(int k, Comparator<? super T> comparator) {
+        if (k < 0 || k > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (comparator == null) {
+            quickSort();
+        } else {
+            quickSort(comparator);
+        }
+    }
+
+    /**
+     * Возвращает новый список из k наименьших по компаратору элементов в отсортированном порядке (для k наибольших
+     * передаётся обратный компаратор). Элементы отбираются ограниченной кучей размера k за один проход,
+     * исходный список не изменяется.
+     * @param k наибольшее количество возвращаемых элементов; если k больше size, возвращаются все элементы
+     * @param comparator компаратор для сравнения элементов списка; null означает естественный порядок
+     * @return новый список не более чем из k элементов
+     * @throws IllegalArgumentException если k отрицательный
+     * @throws UnsupportedOperationException если компаратор не передан и элементы не реализуют Comparable
+     */
+    @SuppressWarnings("unchecked")
+    default MyList<T> topK(int k, Comparator<? super T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException();
+        }
+        Object[] smallest = Sorting.smallest(this, Math.min(k, size()), (Comparator<Object>) comparator);
+        MyArrayList<T> result = new MyArrayList<>(smallest.length);
+        for (Object element : smallest) {
+            result.add((T) element);
+        }
+        return result;
+    }
+
+    /**
+     * Выполняет действие для каждого элемента списка параллельно с настройками по умолчанию.
+     * @param action действие над элементом; должно быть потокобезопасным
+     */
+    default void parallelForEach(Consumer<? super T> action) {
+        parallelForEach(action, ParallelOptions.defaults());
+    }
+
+    /**
+     * Выполняет действие для каждого элемента списка параллельно с указанными настройками; порядок вызовов
+     * не определён. Реализация по умолчанию выполняет {@link #forEach(Consumer)} последовательно.
+     * @param action действие над элементом; должно быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     */
+    default void parallelForEach(Consumer<? super T> action, ParallelOptions options) {
+        forEach(action);
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом применения к нему оператора.
+     * Реализация по умолчанию обращается к элементам через get и set.
+     * @param operator оператор, применяемый к каждому элементу
+     */
+    default void replaceAll(UnaryOperator<T> operator) {
+        int count = size();
+        for (int i = 0; i < count; i++) {
+            set(i, operator.apply(get(i)));
+        }
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом оператора параллельно с настройками по умолчанию.
+     * @param operator оператор, применяемый к каждому элементу; должен быть потокобезопасным
+     */
+    default void parallelReplaceAll(UnaryOperator<T> operator) {
+        parallelReplaceAll(operator, ParallelOptions.defaults());
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом оператора параллельно с указанными настройками.
+     * Реализация по умолчанию выполняет {@link #replaceAll(UnaryOperator)} последовательно.
+     * @param operator оператор, применяемый к каждому элементу; должен быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     */
+    default void parallelReplaceAll(UnaryOperator<T> operator, ParallelOptions options) {
+        replaceAll(operator);
+    }
+
+    /**
+     * Возвращает новый список из результатов применения функции к элементам этого списка (в том же порядке).
+     * Исходный список не изменяется.
+     * @param mapper функция преобразования элемента
+     * @param <R> тип элементов нового списка
+     * @return новый список размера size()
+     */
+    default <R> MyList<R> map(Function<? super T, ? extends R> mapper) {
+        MyArrayList<R> result = new MyArrayList<>(size());
+        for (T element : this) {
+            result.add(mapper.apply(element));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает новый список из результатов функции, вычисленных параллельно с настройками по умолчанию.
+     * @param mapper функция преобразования элемента; должна быть потокобезопасной
+     * @param <R> тип элементов нового списка
+     * @return новый список размера size()
+     */
+    default <R> MyList<R> parallelMap(Function<? super T, ? extends R> mapper) {
+        return parallelMap(mapper, ParallelOptions.defaults());
+    }
+
+    /**
+     * Возвращает новый список из результатов функции, вычисленных параллельно с указанными настройками;
+     * порядок элементов сохраняется. Реализация по умолчанию выполняет {@link #map(Function)} последовательно.
+     * @param mapper функция преобразования элемента; должна быть потокобезопасной
+     * @param options настройки параллельного выполнения
+     * @param <R> тип элементов нового списка
+     * @return новый список размера size()
+     */
+    default <R> MyList<R> parallelMap(Function<? super T, ? extends R> mapper, ParallelOptions options) {
+        return map(mapper);
+    }
+
+    /**
+     * Возвращает новый список из элементов, удовлетворяющих условию (в том же порядке).
+     * Исходный список не изменяется.
+     * @param predicate условие отбора
+     * @return новый список
+     */
+    default MyList<T> filter(Predicate<? super T> predicate) {
+        MyArrayList<T> result = new MyArrayList<>();
+        for (T element : this) {
+            if (predicate.test(element)) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает новый список из элементов, удовлетворяющих условию, проверяя условие параллельно
+     * с настройками по умолчанию.
+     * @param predicate условие отбора; должно быть потокобезопасным
+     * @return новый список
+     */
+    default MyList<T> parallelFilter(Predicate<? super T> predicate) {
+        return parallelFilter(predicate, ParallelOptions.defaults());
+    }
+
+    /**
+     * Возвращает новый список из элементов, удовлетворяющих условию, проверяя условие параллельно
+     * с указанными настройками; порядок элементов сохраняется. Реализация по умолчанию выполняет
+     * {@link #filter(Predicate)} последовательно.
+     * @param predicate условие отбора; должно быть потокобезопасным
+     * @param options настройки параллельного выполнения
+     * @return новый список
+     */
+    default MyList<T> parallelFilter(Predicate<? super T> predicate, ParallelOptions options) {
+        return filter(predicate);
+    }
+
+    /**
+     * Сворачивает элементы списка по порядку: accumulator(...accumulator(accumulator(identity, e0), e1)..., en).
+     * @param identity начальное значение, результат для пустого списка
+     * @param accumulator функция свёртки
+     * @return результат свёртки
+     */
+    default T reduce(T identity, BinaryOperator<T> accumulator) {
+        T result = identity;
+        for (T element : this) {
+            result = accumulator.apply(result, element);
+        }
+        return result;
+    }
+
+    /**
+     * Сворачивает элементы списка параллельно с настройками по умолчанию.
+     * @param identity нейтральный элемент accumulator, результат для пустого списка
+     * @param accumulator ассоциативная функция свёртки без побочных эффектов
+     * @return результат свёртки
+     */
+    default T parallelReduce(T identity, BinaryOperator<T> accumulator) {
+        return parallelReduce(identity, accumulator, ParallelOptions.defaults());
+    }
+
+    /**
+     * Сворачивает элементы списка параллельно с указанными настройками: части списка сворачиваются
+     * независимо, начиная с identity, и их результаты объединяются по порядку, поэтому результат совпадает
+     * с {@link #reduce(Object, BinaryOperator)}, только если accumulator ассоциативен, а identity - его
+     * нейтральный элемент. Реализация по умолчанию выполняет свёртку последовательно.
+     * @param identity нейтральный элемент accumulator, результат для пустого списка
+     * @param accumulator ассоциативная функция свёртки без побочных эффектов
+     * @param options настройки параллельного выполнения
+     * @return результат свёртки
+     */
+    default T parallelReduce(T identity, BinaryOperator<T> accumulator, ParallelOptions options) {
+        return reduce(identity, accumulator);
+    }
+
     /**
      * Проверяет, содержит ли список указанный элемент.
      * @param element элемент, наличие которого нужно проверить
      * @return true, если список содержит указанный элемент; false в противном случае
      */
     boolean contains(T element);
+
+    /**
+     * Возвращает представление диапазона [fromIndex, toIndex) этого списка без копирования элементов.
+     * Чтение и запись через представление отражаются в исходном списке и наоборот; структурное изменение
+     * исходного списка в обход представления делает его недействительным (последующие операции выбрасывают
+     * {@link java.util.ConcurrentModificationException}). Сортировка представления сортирует только диапазон.
+     * Реализация по умолчанию обращается к исходному списку через get, set, add(int, T) и remove(int).
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex конец диапазона (не включительно)
+     * @return представление диапазона
+     * @throws IndexOutOfBoundsException если fromIndex отрицательный, toIndex превышает size или fromIndex > toIndex
+     */
+    default MyList<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new SubList<>(this, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Возвращает итератор по элементам списка в порядке индексов. Итератор поддерживает удаление
+     * и выбрасывает {@link java.util.ConcurrentModificationException}, если список структурно изменён
+     * в обход итератора. Реализация по умолчанию читает элементы методом {@link #get(int)}.
+     * @return итератор по элементам списка
+     */
+    @Override
+    default Iterator<T> iterator() {
+        return new IndexIterator<>(this);
+    }
+
+    /**
+     * Возвращает сплитератор по элементам списка с известным размером.
+     * Реализация по умолчанию основана на {@link #iterator()}.
+     * @return сплитератор по элементам списка
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     * @return последовательный поток элементов
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток элементов списка.
+     * @return параллельный поток элементов
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,75 @@
+package ru.andreycherenkov;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Реализация списка, хранящая элементы вне кучи (в прямом буфере {@link ByteBuffer#allocateDirect}),
+ * не является потокобезопасной. Элементы кодируются в байты подключаемым кодеком фиксированной ширины
+ * ({@link FixedWidthCodec}), поэтому сборщик мусора не просматривает данные списка, а в куче живут только
+ * объекты, возвращаемые методом get. Сортировка выполняется на месте, без копирования данных в кучу.
+ * <p>
+ * Память освобождается явно методом {@link #close()}; после закрытия любые операции, кроме size и close,
+ * выбрасывают IllegalStateException. Размер одного буфера ограничен 2 ГБ (ограничение ByteBuffer).
+ * Значения null не поддерживаются.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class OffHeapList<T> extends AbstractBufferList<T> {
+
+    /**
+     * Базовый размер контейнера (в элементах).
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * Нулевой размер контейнера, необходим для проверки в конструкторе с параметром размерности списка.
+     */
+    private static final int ZERO_CAPACITY = 0;
+
+    /**
+     * Конструктор, создающий список с базовой размерностью (DEFAULT_CAPACITY).
+     * @param codec кодек элементов
+     */
+    public OffHeapList(FixedWidthCodec<T> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции.
+     * @param codec кодек элементов
+     * @param initSize размерность списка в элементах
+     * @throws IllegalArgumentException если указана отрицательная размерность или неположительная ширина кодека
+     */
+    public OffHeapList(FixedWidthCodec<T> codec, int initSize) {
+        super(codec, 0);
+        if (initSize < ZERO_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        attach(DirectMemory.allocate(bytesFor(initSize)), initSize);
+    }
+
+    /**
+     * Расширяет буфер: содержимое копируется в новый прямой буфер, старый буфер сразу освобождается.
+     */
+    @Override
+    void grow(int minCapacity) {
+        int newCapacity = grownCapacity(minCapacity);
+        ByteBuffer grown = DirectMemory.allocate(bytesFor(newCapacity));
+        grown.put(0, buffer, 0, size * width);
+        DirectMemory.free(buffer);
+        attach(grown, newCapacity);
+    }
+
+    /**
+     * Метод для освобождения памяти вне кучи. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            DirectMemory.free(buffer);
+            buffer = null;
+            size = 0;
+        }
+    }
+}
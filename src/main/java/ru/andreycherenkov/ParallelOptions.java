@@ -0,0 +1,110 @@
+package ru.andreycherenkov;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Неизменяемые настройки параллельных операций над списком: пул потоков fork/join, в котором выполняются
+ * задачи, и порог размера диапазона, ниже которого операция выполняется последовательно.
+ * По умолчанию используется общий пул {@link ForkJoinPool#commonPool()}.
+ *
+ * @author Андрей Черенков
+ */
+public final class ParallelOptions {
+
+    /**
+     * Порог по умолчанию: диапазоны меньшего размера обрабатываются последовательно.
+     */
+    public static final int DEFAULT_THRESHOLD = 8192;
+
+    private static final ParallelOptions DEFAULTS = new ParallelOptions(null, DEFAULT_THRESHOLD);
+    /**
+     * Пулы, созданные {@link #withParallelism(int)}, по уровню параллелизма. Пул создаётся один раз и живёт
+     * до завершения программы; его простаивающие потоки (демоны) завершаются сами.
+     */
+    private static final ConcurrentMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    /**
+     * Пул, в котором выполняются задачи; null означает общий пул.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * Порог размера диапазона для перехода к последовательной обработке.
+     */
+    private final int threshold;
+
+    private ParallelOptions(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Метод для получения настроек по умолчанию: общий пул и порог {@link #DEFAULT_THRESHOLD}.
+     * @return настройки по умолчанию
+     */
+    public static ParallelOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Метод для получения настроек с указанным порогом последовательной обработки.
+     * @param threshold размер диапазона, ниже которого операция выполняется последовательно
+     * @return новые настройки
+     * @throws IllegalArgumentException если порог не положительный
+     */
+    public ParallelOptions withThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new ParallelOptions(pool, threshold);
+    }
+
+    /**
+     * Метод для получения настроек, использующих переданный пул вместо общего.
+     * @param pool пул, в котором будут выполняться задачи
+     * @return новые настройки
+     */
+    public ParallelOptions withPool(ForkJoinPool pool) {
+        return new ParallelOptions(Objects.requireNonNull(pool), threshold);
+    }
+
+    /**
+     * Метод для получения настроек с отдельным пулом заданного уровня параллелизма. Пул общий для всех
+     * настроек с тем же уровнем: он создаётся при первом вызове и затем переиспользуется. Для пула
+     * с управляемым временем жизни следует использовать {@link #withPool(ForkJoinPool)}.
+     * @param parallelism число потоков пула
+     * @return новые настройки
+     * @throws IllegalArgumentException если уровень параллелизма не положительный
+     */
+    public ParallelOptions withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new ParallelOptions(POOLS.computeIfAbsent(parallelism, ForkJoinPool::new), threshold);
+    }
+
+    /**
+     * @return пул, в котором выполняются задачи
+     */
+    public ForkJoinPool pool() {
+        return pool != null ? pool : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * @return порог размера диапазона для перехода к последовательной обработке
+     */
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Проверяет, имеет ли смысл распараллеливать обработку диапазона указанной длины.
+     * @param length длина диапазона
+     * @return true, если диапазон больше порога и в пуле больше одного потока
+     */
+    boolean isParallel(int length) {
+        return length > threshold && pool().getParallelism() > 1;
+    }
+}
@@ -0,0 +1,594 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+
+/**
+ * Неизменяемый персистентный список на основе 32-ичного префиксного дерева (vector trie), является
+ * потокобезопасным за счёт неизменяемости. Методы {@link #plus}, {@link #with} и {@link #pop} возвращают
+ * новую версию списка, которая разделяет с исходной все неизменённые узлы: обновление копирует только
+ * путь от корня к листу, то есть O(log32 n) узлов, а добавление в конец выполняется через буфер хвоста
+ * (до 32 последних элементов) и в среднем стоит O(1). Доступ по индексу выполняется за O(log32 n).
+ * <p>
+ * Изменяющие методы интерфейса {@link MyList} (add, set, remove, сортировки и т.д.) выбрасывают
+ * UnsupportedOperationException. Для пакетного построения без создания промежуточных версий используется
+ * {@link Builder}: он изменяет принадлежащие ему узлы на месте и копирует только узлы опубликованных версий.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public final class PersistentList<T> implements MyList<T> {
+
+    /**
+     * Количество бит индекса на один уровень дерева.
+     */
+    private static final int BITS = 5;
+    /**
+     * Ширина узла дерева.
+     */
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    /**
+     * Узел дерева. Узлы опубликованных версий никогда не изменяются; узел с непустым edit принадлежит
+     * построителю с тем же маркером и может изменяться им на месте до вызова {@link Builder#build()}.
+     */
+    private static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    private final int size;
+    /**
+     * Сдвиг индекса для корневого уровня (BITS * высота дерева).
+     */
+    private final int shift;
+    private final Node root;
+    /**
+     * Последние элементы списка (от 1 до 32), ещё не перенесённые в дерево.
+     */
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @return пустой список
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * @param elements элементы нового списка
+     * @return список из указанных элементов
+     */
+    @SafeVarargs
+    public static <T> PersistentList<T> of(T... elements) {
+        Builder<T> builder = builder();
+        for (T element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return построитель, начинающий с пустого списка
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(PersistentList.<T>empty());
+    }
+
+    /**
+     * Создаёт построитель, начинающий с текущей версии, за O(1). Текущая версия не изменяется.
+     * @return построитель с содержимым этого списка
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    /**
+     * Индекс первого элемента хвоста.
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Вспомогательный метод, возвращающий лист (или хвост), в котором находится элемент с индексом index.
+     */
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkBounds(index);
+        return (T) arrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод, возвращающий новую версию списка с элементом, добавленным в конец. Пока хвост не заполнен,
+     * копируется только хвост; заполненный хвост переносится в дерево как новый лист.
+     * @param element элемент, который будет добавлен
+     * @return новая версия списка
+     */
+    public PersistentList<T> plus(T element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(size, shift, root, tailNode);
+        }
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    private static Node pushTail(int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = new Node(null, parent.array.clone());
+        Node toInsert;
+        if (level == BITS) {
+            toInsert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            toInsert = child != null
+                    ? pushTail(size, level - BITS, child, tailNode)
+                    : newPath(null, level - BITS, tailNode);
+        }
+        result.array[subIndex] = toInsert;
+        return result;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(edit, new Object[WIDTH]);
+        result.array[0] = newPath(edit, level - BITS, node);
+        return result;
+    }
+
+    /**
+     * Метод, возвращающий новую версию списка с заменённым элементом. Копируется только путь от корня
+     * к листу, содержащему элемент.
+     * @param index индекс элемента, который будет заменён
+     * @param element элемент, который будет подставлен вместо старого
+     * @return новая версия списка
+     */
+    public PersistentList<T> with(int index, T element) {
+        checkBounds(index);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+        return new PersistentList<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    private static Node assoc(int level, Node node, int index, Object element) {
+        Node result = new Node(null, node.array.clone());
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Метод, возвращающий новую версию списка без последнего элемента.
+     * @return новая версия списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public PersistentList<T> pop() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    private static Node popTail(int size, int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(size, level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Node result = new Node(null, node.array.clone());
+            result.array[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = new Node(null, node.array.clone());
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+        for (int start = 0; start < size; start += WIDTH) {
+            Object[] array = arrayFor(start);
+            int length = Math.min(WIDTH, size - start);
+            for (int i = 0; i < length; i++) {
+                if (element.equals(array[i])) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Итератор, читающий элементы по листам: спуск по дереву выполняется один раз на 32 элемента.
+     * @return итератор по элементам списка
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private Object[] array;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((cursor & MASK) == 0 || array == null) {
+                    array = arrayFor(cursor);
+                }
+                return (T) array[cursor++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public void add(T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void set(int index, T element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void quickSort() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void quickSort(Comparator<? super T> comparator) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+            if (iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * Переопределенный метод equals. Сравнение происходит по содержимому списков.
+     * @param o объект, с которым будет сравниваться другой объект
+     * @return true - если объекты одинаковые, false - если объекты не одинаковые
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersistentList<?> that) || size != that.size) {
+            return false;
+        }
+        Iterator<T> mine = iterator();
+        Iterator<?> theirs = that.iterator();
+        while (mine.hasNext()) {
+            if (!Objects.equals(mine.next(), theirs.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (T element : this) {
+            result = 31 * result + (element == null ? 0 : element.hashCode());
+        }
+        return result;
+    }
+
+    /**
+     * Построитель (transient-режим) для пакетного создания и изменения списка. Узлы, созданные построителем,
+     * помечаются его маркером и изменяются на месте; узлы исходной версии копируются при первом изменении.
+     * После вызова {@link #build()} построитель использовать нельзя. Не является потокобезопасным.
+     *
+     * @param <T> тип элементов списка
+     */
+    public static final class Builder<T> {
+
+        /**
+         * Маркер узлов, принадлежащих построителю; null после вызова build.
+         */
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        /**
+         * Хвост всегда имеет размер WIDTH и принадлежит построителю.
+         */
+        private Object[] tail;
+
+        private Builder(PersistentList<T> source) {
+            this.size = source.size;
+            this.shift = source.shift;
+            this.root = source.root;
+            this.tail = Arrays.copyOf(source.tail, WIDTH);
+        }
+
+        private void checkEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Builder has already been built");
+            }
+        }
+
+        private Node editable(Node node) {
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        /**
+         * Метод для добавления элемента в конец без создания промежуточной версии.
+         * @param element элемент, который будет добавлен
+         * @return этот построитель
+         */
+        public Builder<T> add(T element) {
+            checkEditable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            Node result = editable(parent);
+            int subIndex = ((size - 1) >>> level) & MASK;
+            Node toInsert;
+            if (level == BITS) {
+                toInsert = tailNode;
+            } else {
+                Node child = (Node) result.array[subIndex];
+                toInsert = child != null
+                        ? pushTail(level - BITS, child, tailNode)
+                        : newPath(edit, level - BITS, tailNode);
+            }
+            result.array[subIndex] = toInsert;
+            return result;
+        }
+
+        /**
+         * Метод для замены элемента на месте.
+         * @param index индекс элемента, который будет заменён
+         * @param element элемент, который будет подставлен вместо старого
+         * @return этот построитель
+         */
+        public Builder<T> set(int index, T element) {
+            checkEditable();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(shift, root, index, element);
+            }
+            return this;
+        }
+
+        private Node assoc(int level, Node node, int index, Object element) {
+            Node result = editable(node);
+            if (level == 0) {
+                result.array[index & MASK] = element;
+            } else {
+                int subIndex = (index >>> level) & MASK;
+                result.array[subIndex] = assoc(level - BITS, (Node) result.array[subIndex], index, element);
+            }
+            return result;
+        }
+
+        /**
+         * @param index позиция элемента
+         * @return элемент по указанному индексу
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            checkEditable();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (index >= tailOffset(size)) {
+                return (T) tail[index & MASK];
+            }
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(index >>> level) & MASK];
+            }
+            return (T) node.array[index & MASK];
+        }
+
+        /**
+         * @return количество элементов
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Метод, публикующий построенный список. После вызова узлы больше не изменяются.
+         * @return неизменяемый список
+         */
+        public PersistentList<T> build() {
+            checkEditable();
+            edit = null;
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentList<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+    }
+}
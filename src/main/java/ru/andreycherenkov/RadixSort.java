@@ -0,0 +1,274 @@
+package ru.andreycherenkov;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Движок сортировки без сравнений, работающий непосредственно над массивом-контейнером списка.
+ * Для целочисленных ключей применяется поразрядная сортировка с младшего разряда (LSD) по байтам:
+ * ключи извлекаются один раз в примитивный массив, гистограммы всех разрядов строятся за один проход,
+ * а разряды, одинаковые у всех элементов (например, старшие байты небольших идентификаторов), пропускаются.
+ * Такая сортировка устойчива. Строки сортируются поразрядно со старшего разряда (MSD): каждый символ
+ * UTF-16 даёт два байтовых разряда, поэтому порядок совпадает с {@link String#compareTo(String)};
+ * маленькие группы досортировываются вставками.
+ *
+ * @author Андрей Черенков
+ */
+final class RadixSort {
+
+    /**
+     * Размер диапазона, начиная с которого сортировка в естественном порядке автоматически выполняется
+     * поразрядно, если все элементы имеют тип Integer, Long или String.
+     */
+    static final int RADIX_THRESHOLD = 1024;
+    /**
+     * Количество значений одного разряда (байта).
+     */
+    private static final int RADIX = 256;
+    /**
+     * Размер группы строк, начиная с которого вместо распределения применяется сортировка вставками.
+     */
+    private static final int STRING_INSERTION_THRESHOLD = 32;
+    /**
+     * Количество разрядов строки (по два на символ), после которого группа с общим префиксом
+     * досортировывается интроспективной сортировкой, чтобы ограничить глубину рекурсии.
+     */
+    private static final int MAX_STRING_DIGITS = 256;
+
+    private RadixSort() {
+    }
+
+    /**
+     * Сортирует диапазон в естественном порядке поразрядно, если это возможно и выгодно: диапазон не меньше
+     * {@link #RADIX_THRESHOLD} и все элементы одного из типов Integer, Long или String.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @return true, если диапазон отсортирован; false, если вызывающий код должен сортировать сравнениями
+     */
+    static boolean trySortNatural(Object[] a, int from, int to) {
+        return to - from >= RADIX_THRESHOLD && sortNatural(a, from, to);
+    }
+
+    /**
+     * Сортирует диапазон в естественном порядке поразрядно независимо от его длины, если все элементы
+     * одного из типов Integer, Long или String.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @return true, если диапазон отсортирован; false, если тип элементов не поддерживается
+     */
+    static boolean sortNatural(Object[] a, int from, int to) {
+        if (to - from < 2) {
+            return true;
+        }
+        Class<?> type = a[from] == null ? null : a[from].getClass();
+        if (type != Integer.class && type != Long.class && type != String.class) {
+            return false;
+        }
+        for (int i = from + 1; i < to; i++) {
+            if (a[i] == null || a[i].getClass() != type) {
+                return false;
+            }
+        }
+        if (type == Integer.class) {
+            sortByIntKey(a, from, to, element -> (Integer) element);
+        } else if (type == Long.class) {
+            sortByLongKey(a, from, to, element -> (Long) element);
+        } else {
+            sortStrings(a, from, to);
+        }
+        return true;
+    }
+
+    /**
+     * Устойчиво сортирует диапазон по возрастанию int-ключа поразрядной сортировкой LSD.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param key функция, извлекающая ключ элемента; вызывается ровно один раз для каждого элемента
+     */
+    static void sortByIntKey(Object[] a, int from, int to, ToIntFunction<Object> key) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        int[] keys = new int[length];
+        int[] count = new int[Integer.BYTES * RADIX];
+        for (int i = 0; i < length; i++) {
+            int k = key.applyAsInt(a[from + i]) ^ Integer.MIN_VALUE;
+            keys[i] = k;
+            for (int digit = 0; digit < Integer.BYTES; digit++) {
+                count[digit * RADIX + (k >>> (digit << 3) & 0xFF)]++;
+            }
+        }
+        int[] auxKeys = null;
+        Object[] aux = null;
+        Object[] source = a;
+        int sourceOffset = from;
+        for (int digit = 0; digit < Integer.BYTES; digit++) {
+            int shift = digit << 3;
+            int base = digit * RADIX;
+            if (count[base + (keys[0] >>> shift & 0xFF)] == length) {
+                continue;
+            }
+            if (aux == null) {
+                aux = new Object[length];
+                auxKeys = new int[length];
+            }
+            toOffsets(count, base);
+            Object[] target = source == a ? aux : a;
+            int targetOffset = source == a ? 0 : from;
+            for (int i = 0; i < length; i++) {
+                int k = keys[i];
+                int position = count[base + (k >>> shift & 0xFF)]++;
+                auxKeys[position] = k;
+                target[targetOffset + position] = source[sourceOffset + i];
+            }
+            int[] swapKeys = keys;
+            keys = auxKeys;
+            auxKeys = swapKeys;
+            source = target;
+            sourceOffset = targetOffset;
+        }
+        if (source != a) {
+            System.arraycopy(source, 0, a, from, length);
+        }
+    }
+
+    /**
+     * Устойчиво сортирует диапазон по возрастанию long-ключа поразрядной сортировкой LSD.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param key функция, извлекающая ключ элемента; вызывается ровно один раз для каждого элемента
+     */
+    static void sortByLongKey(Object[] a, int from, int to, ToLongFunction<Object> key) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        long[] keys = new long[length];
+        int[] count = new int[Long.BYTES * RADIX];
+        for (int i = 0; i < length; i++) {
+            long k = key.applyAsLong(a[from + i]) ^ Long.MIN_VALUE;
+            keys[i] = k;
+            for (int digit = 0; digit < Long.BYTES; digit++) {
+                count[digit * RADIX + (int) (k >>> (digit << 3) & 0xFF)]++;
+            }
+        }
+        long[] auxKeys = null;
+        Object[] aux = null;
+        Object[] source = a;
+        int sourceOffset = from;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            int shift = digit << 3;
+            int base = digit * RADIX;
+            if (count[base + (int) (keys[0] >>> shift & 0xFF)] == length) {
+                continue;
+            }
+            if (aux == null) {
+                aux = new Object[length];
+                auxKeys = new long[length];
+            }
+            toOffsets(count, base);
+            Object[] target = source == a ? aux : a;
+            int targetOffset = source == a ? 0 : from;
+            for (int i = 0; i < length; i++) {
+                long k = keys[i];
+                int position = count[base + (int) (k >>> shift & 0xFF)]++;
+                auxKeys[position] = k;
+                target[targetOffset + position] = source[sourceOffset + i];
+            }
+            long[] swapKeys = keys;
+            keys = auxKeys;
+            auxKeys = swapKeys;
+            source = target;
+            sourceOffset = targetOffset;
+        }
+        if (source != a) {
+            System.arraycopy(source, 0, a, from, length);
+        }
+    }
+
+    /**
+     * Превращает гистограмму разряда count[base, base + RADIX) в начальные позиции групп.
+     */
+    private static void toOffsets(int[] count, int base) {
+        int sum = 0;
+        for (int i = base; i < base + RADIX; i++) {
+            int c = count[i];
+            count[i] = sum;
+            sum += c;
+        }
+    }
+
+    /**
+     * Сортирует диапазон строк в порядке {@link String#compareTo(String)} поразрядной сортировкой MSD.
+     * @param a массив элементов, все элементы диапазона должны быть строками
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     */
+    static void sortStrings(Object[] a, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        sortStrings(a, new Object[to - from], from, to, 0);
+    }
+
+    private static void sortStrings(Object[] a, Object[] aux, int from, int to, int digit) {
+        while (true) {
+            int length = to - from;
+            if (length < STRING_INSERTION_THRESHOLD) {
+                if (length > 1) {
+                    Sorting.insertionSort(a, from, to - 1, Sorting.NATURAL_ORDER);
+                }
+                return;
+            }
+            if (digit >= MAX_STRING_DIGITS) {
+                Sorting.introSort(a, from, to, Sorting.NATURAL_ORDER);
+                return;
+            }
+            int[] count = new int[RADIX + 2];
+            for (int i = from; i < to; i++) {
+                count[digit((String) a[i], digit) + 1]++;
+            }
+            int single = digit((String) a[from], digit);
+            if (count[single + 1] == length) {
+                if (single == 0) {
+                    return;
+                }
+                digit++;
+                continue;
+            }
+            for (int r = 0; r <= RADIX; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = from; i < to; i++) {
+                aux[count[digit((String) a[i], digit)]++] = a[i];
+            }
+            System.arraycopy(aux, 0, a, from, length);
+            for (int r = 1; r <= RADIX; r++) {
+                int start = from + count[r - 1];
+                int end = from + count[r];
+                if (end - start > 1) {
+                    sortStrings(a, aux, start, end, digit + 1);
+                }
+            }
+            return;
+        }
+    }
+
+    /**
+     * Возвращает разряд строки: 0 после конца строки, иначе старший (для чётного номера) или младший
+     * (для нечётного) байт символа, увеличенный на единицу.
+     */
+    private static int digit(String s, int digit) {
+        int index = digit >> 1;
+        if (index >= s.length()) {
+            return 0;
+        }
+        char c = s.charAt(index);
+        return ((digit & 1) == 0 ? c >>> 8 : c & 0xFF) + 1;
+    }
+}
@@ -0,0 +1,405 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * Реализация списка на основе кольцевого буфера, не является потокобезопасной. Подходит для очередей
+ * и деков: добавление и удаление в начале и в конце выполняются за O(1), доступ по индексу - за O(1).
+ * Вставка и удаление в середине сдвигают меньшую из двух частей списка.
+ * <p>
+ * Размерность контейнера всегда является степенью двойки, поэтому индекс ячейки вычисляется
+ * маскированием ({@code (head + index) & mask}) вместо деления с остатком.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class RingBufferList<T> implements MyList<T> {
+
+    /**
+     * Базовый размер контейнера (степень двойки).
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Нулевой размер контейнера, необходим для проверки в конструкторе с параметром размерности списка.
+     */
+    private static final int ZERO_CAPACITY = 0;
+    /**
+     * Максимальная размерность контейнера (наибольшая степень двойки, допустимая для массива).
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Контейнер, размерность которого является степенью двойки.
+     */
+    private Object[] container;
+    /**
+     * Индекс ячейки, в которой находится первый элемент.
+     */
+    private int head;
+    /**
+     * Количество элементов в списке.
+     */
+    private int size;
+
+    /**
+     * Конструктор без параметров, создающий список с базовой размерностью (DEFAULT_CAPACITY)
+     */
+    public RingBufferList() {
+        this.container = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Конструктор, позволяющий указать базовую размерность коллекции. Размерность округляется вверх
+     * до степени двойки; нулевая размерность даёт контейнер из одной ячейки.
+     * @param initSize размерность списка, необходимая для инициализации контейнера
+     * @throws IllegalArgumentException если указана отрицательная величина или больше 2^30
+     */
+    public RingBufferList(int initSize) {
+        if (initSize < ZERO_CAPACITY || initSize > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        this.container = new Object[powerOfTwo(initSize)];
+    }
+
+    private static int powerOfTwo(int capacity) {
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private int mask() {
+        return container.length - 1;
+    }
+
+    /**
+     * Вспомогательный метод для перевода логического индекса в индекс контейнера.
+     */
+    private int physical(int index) {
+        return (head + index) & mask();
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который расширяет контейнер так, чтобы в него поместилось minCapacity элементов.
+     * Элементы переносятся в новый контейнер начиная с нулевой ячейки.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= container.length) {
+            return;
+        }
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Ring buffer capacity exceeded");
+        }
+        container = linearized(Math.max(container.length * 2, powerOfTwo(minCapacity)));
+        head = 0;
+    }
+
+    /**
+     * Вспомогательный метод, возвращающий новый контейнер указанной размерности, в котором элементы
+     * расположены подряд начиная с нулевой ячейки.
+     */
+    private Object[] linearized(int capacity) {
+        Object[] result = new Object[capacity];
+        int first = Math.min(size, container.length - head);
+        System.arraycopy(container, head, result, 0, first);
+        System.arraycopy(container, 0, result, first, size - first);
+        return result;
+    }
+
+    /**
+     * Вспомогательный метод, который располагает элементы подряд с нулевой ячейки, не меняя размерность;
+     * нужен операциям над непрерывным диапазоном (сортировка, массовое удаление).
+     */
+    private void normalize() {
+        if (head + size > container.length) {
+            container = linearized(container.length);
+        } else if (head != 0) {
+            System.arraycopy(container, head, container, 0, size);
+            Arrays.fill(container, Math.max(head, size), head + size, null);
+        }
+        head = 0;
+    }
+
+    /**
+     * Вспомогательный метод для сдвига count элементов, начиная с логического индекса from, на distance
+     * позиций (distance равен 1 или -1) с учётом перехода через границу контейнера.
+     */
+    private void shift(int from, int count, int distance) {
+        int mask = mask();
+        if (distance > 0) {
+            for (int i = from + count - 1; i >= from; i--) {
+                container[(head + i + distance) & mask] = container[(head + i) & mask];
+            }
+        } else {
+            for (int i = from; i < from + count; i++) {
+                container[(head + i + distance) & mask] = container[(head + i) & mask];
+            }
+        }
+    }
+
+    /**
+     * Метод для добавления элемента в начало списка за O(1).
+     * @param element элемент, который будет добавлен
+     */
+    public void addFirst(T element) {
+        ensureCapacity(size + 1);
+        head = (head - 1) & mask();
+        container[head] = element;
+        size++;
+    }
+
+    /**
+     * Метод для добавления элемента в конец списка за O(1).
+     * @param element элемент, который будет добавлен
+     */
+    public void addLast(T element) {
+        ensureCapacity(size + 1);
+        container[physical(size)] = element;
+        size++;
+    }
+
+    /**
+     * Метод для удаления первого элемента за O(1).
+     * @return удалённый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        T element = (T) container[head];
+        container[head] = null;
+        head = (head + 1) & mask();
+        size--;
+        return element;
+    }
+
+    /**
+     * Метод для удаления последнего элемента за O(1).
+     * @return удалённый элемент
+     * @throws NoSuchElementException если список пуст
+     */
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int last = physical(size - 1);
+        T element = (T) container[last];
+        container[last] = null;
+        size--;
+        return element;
+    }
+
+    /**
+     * @return первый элемент списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * @return последний элемент списка
+     * @throws NoSuchElementException если список пуст
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    @Override
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Метод для вставки элемента. Сдвигается меньшая из частей списка: до позиции index или после неё.
+     * @param index позиция, на которую будет вставлен элемент
+     * @param element элемент, который будет вставлен
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == 0) {
+            addFirst(element);
+            return;
+        }
+        ensureCapacity(size + 1);
+        if (index < size - index) {
+            head = (head - 1) & mask();
+            shift(1, index, -1);
+        } else {
+            shift(index, size - index, 1);
+        }
+        container[physical(index)] = element;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkBounds(index);
+        return (T) container[physical(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (element.equals(container[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Метод для удаления элемента по индексу. Удаление первого и последнего элемента выполняется за O(1),
+     * в остальных случаях сдвигается меньшая из частей списка.
+     * @param index индекс удаляемого элемента
+     */
+    @Override
+    public void remove(int index) {
+        checkBounds(index);
+        if (index < size - index - 1) {
+            shift(0, index, 1);
+            container[head] = null;
+            head = (head + 1) & mask();
+        } else {
+            shift(index + 1, size - index - 1, -1);
+            container[physical(size - 1)] = null;
+        }
+        size--;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        normalize();
+        System.arraycopy(container, toIndex, container, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(container, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Метод для удаления элементов по условию за один проход.
+     * @param filter условие, при выполнении которого элемент удаляется
+     * @return true, если был удалён хотя бы один элемент
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        normalize();
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                Object element = container[read];
+                if (!filter.test((T) element)) {
+                    container[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(container, read, container, write, size - read);
+            int newSize = write + size - read;
+            Arrays.fill(container, newSize, size, null);
+            size = newSize;
+        }
+        return read != write;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkBounds(index);
+        container[physical(index)] = element;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(container, null);
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public void quickSort() {
+        normalize();
+        Sorting.sortNatural(container, 0, size);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void quickSort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        normalize();
+        Sorting.introSort(container, 0, size, (Comparator<Object>) comparator);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        normalize();
+        Comparator<Object> effective = (Comparator<Object>) comparator;
+        if (effective == null) {
+            Sorting.checkComparable(container, 0, size);
+            effective = Sorting.NATURAL_ORDER;
+        }
+        Sorting.parallelSort(container, 0, size, effective, options);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(container[physical(i)]);
+        }
+        return sb.append("]").toString();
+    }
+}
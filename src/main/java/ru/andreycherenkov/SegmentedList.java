@@ -0,0 +1,345 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Реализация списка, хранящая элементы в сегментах одинакового размера (степень двойки), на которые
+ * ссылается небольшой массив-оглавление; не является потокобезопасной.
+ * <p>
+ * При росте добавляется новый сегмент, а уже записанные элементы не копируются: копируется только оглавление
+ * при его удвоении, а оно в chunkSize раз меньше списка. Поэтому у большого списка не бывает пиков памяти
+ * «старый контейнер + новый контейнер», а каждый сегмент (по умолчанию 4096 ссылок) намного меньше
+ * порога humongous-объектов G1. Доступ по индексу выполняется за O(1): номер сегмента и позиция в нём
+ * вычисляются сдвигом и маской.
+ * <p>
+ * Вставка и удаление в середине сдвигают хвост по сегментам блочным копированием. Пустые сегменты в конце
+ * освобождаются при удалении, кроме одного запасного, чтобы чередование добавлений и удалений на границе
+ * сегмента не выделяло память повторно. Сортировка выполняется на месте через {@link IndexedSorter},
+ * без копирования списка в один большой массив.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class SegmentedList<T> implements MyList<T> {
+
+    /**
+     * Размер сегмента по умолчанию (в элементах).
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+    /**
+     * Начальная размерность оглавления.
+     */
+    private static final int DEFAULT_SPINE_CAPACITY = 4;
+    /**
+     * Нулевой размер, необходим для проверки в конструкторе с параметром размера сегмента.
+     */
+    private static final int ZERO_CAPACITY = 0;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    /**
+     * Оглавление: ссылки на сегменты, первые chunkCount из которых выделены.
+     */
+    private Object[][] spine;
+    private int chunkCount;
+    private int size;
+
+    /**
+     * Конструктор без параметров, создающий список с размером сегмента DEFAULT_CHUNK_SIZE.
+     */
+    public SegmentedList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Конструктор, позволяющий указать размер сегмента.
+     * @param chunkSize количество элементов в сегменте, степень двойки
+     * @throws IllegalArgumentException если размер неположительный или не является степенью двойки
+     */
+    public SegmentedList(int chunkSize) {
+        if (chunkSize <= ZERO_CAPACITY || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+        this.spine = new Object[DEFAULT_SPINE_CAPACITY][];
+    }
+
+    /**
+     * @return размер сегмента в элементах
+     */
+    public int chunkSize() {
+        return chunkMask + 1;
+    }
+
+    /**
+     * @return количество выделенных сегментов
+     */
+    public int chunkCount() {
+        return chunkCount;
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который выделяет сегменты так, чтобы в них поместилось minCapacity элементов.
+     * Существующие сегменты не копируются.
+     */
+    private void ensureCapacity(int minCapacity) {
+        int chunks = (int) (((long) minCapacity + chunkMask) >>> chunkShift);
+        if (chunks <= chunkCount) {
+            return;
+        }
+        if (chunks > spine.length) {
+            spine = Arrays.copyOf(spine, Math.max(spine.length * 2, chunks));
+        }
+        for (; chunkCount < chunks; chunkCount++) {
+            spine[chunkCount] = new Object[chunkMask + 1];
+        }
+    }
+
+    /**
+     * Вспомогательный метод, который освобождает пустые сегменты в конце, оставляя один запасной.
+     */
+    private void releaseChunks() {
+        int needed = (size + chunkMask) >>> chunkShift;
+        for (; chunkCount > needed + 1; chunkCount--) {
+            spine[chunkCount - 1] = null;
+        }
+    }
+
+    /**
+     * Вспомогательный метод для копирования length элементов с логической позиции from на позицию to,
+     * в том числе при перекрытии диапазонов. Копирование выполняется блоками, не пересекающими границы
+     * сегментов.
+     */
+    private void copyWithin(int from, int to, int length) {
+        if (to < from) {
+            while (length > 0) {
+                int fromOffset = from & chunkMask;
+                int toOffset = to & chunkMask;
+                int block = Math.min(length, chunkMask + 1 - Math.max(fromOffset, toOffset));
+                System.arraycopy(spine[from >>> chunkShift], fromOffset, spine[to >>> chunkShift], toOffset, block);
+                from += block;
+                to += block;
+                length -= block;
+            }
+        } else {
+            int fromEnd = from + length;
+            int toEnd = to + length;
+            while (length > 0) {
+                int fromOffset = ((fromEnd - 1) & chunkMask) + 1;
+                int toOffset = ((toEnd - 1) & chunkMask) + 1;
+                int block = Math.min(length, Math.min(fromOffset, toOffset));
+                fromEnd -= block;
+                toEnd -= block;
+                System.arraycopy(spine[fromEnd >>> chunkShift], fromEnd & chunkMask,
+                        spine[toEnd >>> chunkShift], toEnd & chunkMask, block);
+                length -= block;
+            }
+        }
+    }
+
+    /**
+     * Вспомогательный метод для обнуления ссылок в диапазоне [from, to).
+     */
+    private void clearRange(int from, int to) {
+        while (from < to) {
+            int offset = from & chunkMask;
+            int block = Math.min(to - from, chunkMask + 1 - offset);
+            Arrays.fill(spine[from >>> chunkShift], offset, offset + block, null);
+            from += block;
+        }
+    }
+
+    @Override
+    public void add(T element) {
+        ensureCapacity(size + 1);
+        spine[size >>> chunkShift][size & chunkMask] = element;
+        size++;
+    }
+
+    /**
+     * Метод для вставки элемента; хвост списка сдвигается блоками по сегментам.
+     * @param index позиция, на которую будет вставлен элемент
+     * @param element элемент, который будет вставлен
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(size + 1);
+        copyWithin(index, index + 1, size - index);
+        spine[index >>> chunkShift][index & chunkMask] = element;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkBounds(index);
+        return (T) spine[index >>> chunkShift][index & chunkMask];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+        for (int chunk = 0, start = 0; start < size; chunk++, start += chunkMask + 1) {
+            Object[] elements = spine[chunk];
+            int length = Math.min(chunkMask + 1, size - start);
+            for (int i = 0; i < length; i++) {
+                if (element.equals(elements[i])) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void remove(int index) {
+        checkBounds(index);
+        copyWithin(index + 1, index, size - index - 1);
+        size--;
+        spine[size >>> chunkShift][size & chunkMask] = null;
+        releaseChunks();
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        copyWithin(toIndex, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        clearRange(newSize, size);
+        size = newSize;
+        releaseChunks();
+    }
+
+    /**
+     * Метод для удаления элементов по условию за один проход.
+     * @param filter условие, при выполнении которого элемент удаляется
+     * @return true, если был удалён хотя бы один элемент
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                Object element = spine[read >>> chunkShift][read & chunkMask];
+                if (!filter.test((T) element)) {
+                    spine[write >>> chunkShift][write & chunkMask] = element;
+                    write++;
+                }
+            }
+        } finally {
+            copyWithin(read, write, size - read);
+            int newSize = write + size - read;
+            clearRange(newSize, size);
+            size = newSize;
+            releaseChunks();
+        }
+        return read != write;
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkBounds(index);
+        spine[index >>> chunkShift][index & chunkMask] = element;
+    }
+
+    /**
+     * Метод для очистки списка: все сегменты освобождаются.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(spine, 0, chunkCount, null);
+        chunkCount = 0;
+        size = 0;
+    }
+
+    @Override
+    public void quickSort() {
+        for (int chunk = 0, start = 0; start < size; chunk++, start += chunkMask + 1) {
+            Sorting.checkComparable(spine[chunk], 0, Math.min(chunkMask + 1, size - start));
+        }
+        sort(Sorting.NATURAL_ORDER);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void quickSort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        sort((Comparator<Object>) comparator);
+    }
+
+    /**
+     * Вспомогательный метод сортировки на месте: сравнения и обмены выполняются по индексам сегментов.
+     */
+    private void sort(Comparator<Object> comparator) {
+        new IndexedSorter() {
+            @Override
+            protected int compare(int i, int j) {
+                return comparator.compare(spine[i >>> chunkShift][i & chunkMask],
+                        spine[j >>> chunkShift][j & chunkMask]);
+            }
+
+            @Override
+            protected void swap(int i, int j) {
+                Object[] first = spine[i >>> chunkShift];
+                Object[] second = spine[j >>> chunkShift];
+                Object temp = first[i & chunkMask];
+                first[i & chunkMask] = second[j & chunkMask];
+                second[j & chunkMask] = temp;
+            }
+        }.sort(0, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(spine[i >>> chunkShift][i & chunkMask]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,84 @@
+package ru.andreycherenkov;
+
+/**
+ * Неизменяемая стратегия автоматического уменьшения контейнера {@link MyArrayList} после удалений.
+ * Подключается методом {@link MyArrayList#setShrinkPolicy(ShrinkPolicy)}; по умолчанию контейнер
+ * не уменьшается.
+ * <p>
+ * Контейнер уменьшается, когда в нём занято не больше 1/ratio ячеек, и только до удвоенного размера списка,
+ * но не меньше minCapacity. Разрыв между порогом уменьшения и новой заполненностью (гистерезис) не даёт
+ * чередованию добавлений и удалений на границе каждый раз выделять и копировать контейнер: после уменьшения
+ * список должен либо вырасти вдвое, чтобы контейнер расширился, либо снова сократиться в ratio / 2 раза.
+ *
+ * @author Андрей Черенков
+ */
+public final class ShrinkPolicy {
+
+    /**
+     * Порог по умолчанию: контейнер уменьшается, когда занята четверть ячеек.
+     */
+    public static final int DEFAULT_RATIO = 4;
+    /**
+     * Размерность, меньше которой контейнер по умолчанию не уменьшается.
+     */
+    public static final int DEFAULT_MIN_CAPACITY = 16;
+
+    private final int ratio;
+    private final int minCapacity;
+
+    private ShrinkPolicy(int ratio, int minCapacity) {
+        this.ratio = ratio;
+        this.minCapacity = minCapacity;
+    }
+
+    /**
+     * Метод для получения стратегии с порогом {@link #DEFAULT_RATIO} и наименьшей размерностью
+     * {@link #DEFAULT_MIN_CAPACITY}.
+     * @return стратегия по умолчанию
+     */
+    public static ShrinkPolicy defaults() {
+        return new ShrinkPolicy(DEFAULT_RATIO, DEFAULT_MIN_CAPACITY);
+    }
+
+    /**
+     * Метод для получения стратегии с указанными параметрами.
+     * @param ratio контейнер уменьшается, когда размер списка не превышает capacity / ratio; больше 2,
+     *              иначе уменьшение до удвоенного размера не освобождало бы память
+     * @param minCapacity размерность, меньше которой контейнер не уменьшается
+     * @return новая стратегия
+     * @throws IllegalArgumentException если ratio не больше 2 или minCapacity отрицательный
+     */
+    public static ShrinkPolicy of(int ratio, int minCapacity) {
+        if (ratio <= 2 || minCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        return new ShrinkPolicy(ratio, minCapacity);
+    }
+
+    /**
+     * @return порог уменьшения
+     */
+    public int ratio() {
+        return ratio;
+    }
+
+    /**
+     * @return размерность, меньше которой контейнер не уменьшается
+     */
+    public int minCapacity() {
+        return minCapacity;
+    }
+
+    /**
+     * Метод для вычисления размерности контейнера после удаления элементов.
+     * @param size размер списка
+     * @param capacity текущая размерность контейнера
+     * @return новая размерность или capacity, если уменьшать контейнер не нужно
+     */
+    int shrink(int size, int capacity) {
+        if (capacity <= minCapacity || (long) size * ratio > capacity) {
+            return capacity;
+        }
+        return Math.max(minCapacity, size * 2);
+    }
+}
@@ -0,0 +1,402 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Реализация списка, который всегда упорядочен заданным компаратором, не является потокобезопасной.
+ * Поиск (indexOf, contains, floor, ceiling, subRange) выполняется двоичным поиском за O(log n),
+ * добавление вставляет элемент в нужную позицию (после равных ему элементов, поэтому порядок равных
+ * элементов совпадает с порядком добавления).
+ * <p>
+ * Равенство элементов определяется компаратором: indexOf возвращает первый элемент, который компаратор
+ * считает равным искомому. Пакет элементов добавляется методом addAll слиянием за O(n + m) (пакет
+ * предварительно сортируется, если он не упорядочен). Позиционные add и set допускаются, только если
+ * они не нарушают порядок.
+ *
+ * @param <T> тип элементов, хранимых в коллекции
+ *
+ * @author Андрей Черенков
+ */
+public class SortedMyList<T> implements MyList<T> {
+
+    /**
+     * Базовый размер контейнера.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final Comparator<Object> comparator;
+    private Object[] container;
+    private int size;
+
+    /**
+     * Конструктор, создающий список, упорядоченный в естественном порядке элементов (Comparable).
+     */
+    public SortedMyList() {
+        this(null);
+    }
+
+    /**
+     * Конструктор, создающий список, упорядоченный заданным компаратором.
+     * @param comparator компаратор; null означает естественный порядок
+     */
+    @SuppressWarnings("unchecked")
+    public SortedMyList(Comparator<? super T> comparator) {
+        this.comparator = comparator == null ? Sorting.NATURAL_ORDER : (Comparator<Object>) comparator;
+        this.container = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * @return компаратор, задающий порядок списка; null для естественного порядка
+     */
+    @SuppressWarnings("unchecked")
+    public Comparator<? super T> comparator() {
+        return comparator == Sorting.NATURAL_ORDER ? null : (Comparator<? super T>) comparator;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > container.length) {
+            container = Arrays.copyOf(container, Math.max(container.length * 2, minCapacity));
+        }
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Индекс первого элемента, не меньшего element (или size, если такого нет).
+     */
+    private int lowerBound(Object element) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(container[middle], element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Индекс первого элемента, большего element (или size, если такого нет).
+     */
+    private int upperBound(Object element) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(container[middle], element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Вспомогательный метод, проверяющий, что element может стоять на позиции index между соседями
+     * left (index - 1) и right.
+     */
+    private boolean fits(Object element, int left, int right) {
+        return (left < 0 || comparator.compare(container[left], element) <= 0)
+                && (right >= size || comparator.compare(element, container[right]) <= 0);
+    }
+
+    private void insertAt(int index, Object element) {
+        ensureCapacity(size + 1);
+        System.arraycopy(container, index, container, index + 1, size - index);
+        container[index] = element;
+        size++;
+    }
+
+    /**
+     * Метод для добавления элемента в позицию, определяемую компаратором (после равных ему элементов).
+     * @param element элемент, который будет добавлен
+     */
+    @Override
+    public void add(T element) {
+        insertAt(upperBound(element), element);
+    }
+
+    /**
+     * Метод для вставки элемента в указанную позицию.
+     * @param index позиция, на которую будет вставлен элемент
+     * @param element элемент, который будет вставлен
+     * @throws IllegalArgumentException если вставка нарушает порядок списка
+     */
+    @Override
+    public void add(int index, T element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (!fits(element, index - 1, index)) {
+            throw new IllegalArgumentException();
+        }
+        insertAt(index, element);
+    }
+
+    /**
+     * Метод для добавления всех элементов другого списка слиянием. Пакет копируется и сортируется
+     * (для уже упорядоченного пакета это линейная проверка), после чего сливается со списком за O(n + m).
+     * @param elements список, элементы которого будут добавлены
+     */
+    @Override
+    public void addAll(MyList<? extends T> elements) {
+        Object[] batch = new Object[elements.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = elements.get(i);
+        }
+        merge(batch);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        merge(elements.toArray());
+    }
+
+    /**
+     * Вспомогательный метод, сливающий пакет с содержимым контейнера. Слияние идёт с конца контейнера,
+     * поэтому дополнительный буфер не нужен; равные элементы списка остаются перед элементами пакета.
+     */
+    private void merge(Object[] batch) {
+        if (!isSorted(batch)) {
+            // устойчивая сортировка, чтобы равные элементы пакета сохранили порядок добавления
+            Arrays.sort(batch, comparator);
+        }
+        ensureCapacity(size + batch.length);
+        int i = size - 1;
+        int j = batch.length - 1;
+        int k = size + batch.length - 1;
+        while (j >= 0) {
+            if (i >= 0 && comparator.compare(container[i], batch[j]) > 0) {
+                container[k--] = container[i--];
+            } else {
+                container[k--] = batch[j--];
+            }
+        }
+        size += batch.length;
+    }
+
+    private boolean isSorted(Object[] batch) {
+        for (int i = 1; i < batch.length; i++) {
+            if (comparator.compare(batch[i - 1], batch[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkBounds(index);
+        return (T) container[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод для получения индекса первого элемента, равного искомому по компаратору, двоичным поиском.
+     * @param element элемент, индекс которого необходимо получить
+     * @return индекс элемента при удачном исходе, -1 при отсутствии искомого элемента в коллекции
+     */
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+        int index = lowerBound(element);
+        return index < size && comparator.compare(container[index], element) == 0 ? index : -1;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * @param element граница поиска
+     * @return наибольший элемент, не больший element, или null, если такого нет
+     */
+    @SuppressWarnings("unchecked")
+    public T floor(T element) {
+        int index = upperBound(element) - 1;
+        return index >= 0 ? (T) container[index] : null;
+    }
+
+    /**
+     * @param element граница поиска
+     * @return наименьший элемент, не меньший element, или null, если такого нет
+     */
+    @SuppressWarnings("unchecked")
+    public T ceiling(T element) {
+        int index = lowerBound(element);
+        return index < size ? (T) container[index] : null;
+    }
+
+    /**
+     * Метод для получения элементов из диапазона [fromElement, toElement) в виде нового упорядоченного списка.
+     * @param fromElement нижняя граница (включительно)
+     * @param toElement верхняя граница (не включительно)
+     * @return новый список с тем же компаратором
+     * @throws IllegalArgumentException если fromElement больше toElement
+     */
+    public SortedMyList<T> subRange(T fromElement, T toElement) {
+        if (comparator.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException();
+        }
+        int from = lowerBound(fromElement);
+        int to = lowerBound(toElement);
+        SortedMyList<T> result = new SortedMyList<>(comparator());
+        result.container = Arrays.copyOfRange(container, from, Math.max(to, from + 1));
+        result.size = to - from;
+        return result;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void remove(int index) {
+        checkBounds(index);
+        System.arraycopy(container, index + 1, container, index, size - index - 1);
+        container[--size] = null;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(container, toIndex, container, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(container, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Метод для удаления элементов по условию за один проход; порядок оставшихся элементов сохраняется.
+     * @param filter условие, при выполнении которого элемент удаляется
+     * @return true, если был удалён хотя бы один элемент
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int write = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                Object element = container[read];
+                if (!filter.test((T) element)) {
+                    container[write++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(container, read, container, write, size - read);
+            int newSize = write + size - read;
+            Arrays.fill(container, newSize, size, null);
+            size = newSize;
+        }
+        return read != write;
+    }
+
+    /**
+     * Метод для замены элемента.
+     * @param index индекс элемента, который будет заменён
+     * @param element элемент, который будет подставлен вместо старого
+     * @throws IllegalArgumentException если замена нарушает порядок списка
+     */
+    @Override
+    public void set(int index, T element) {
+        checkBounds(index);
+        if (!fits(element, index - 1, index + 1)) {
+            throw new IllegalArgumentException();
+        }
+        container[index] = element;
+    }
+
+    /**
+     * Метод для замены каждого элемента результатом оператора. Так как новые значения могут нарушить порядок,
+     * после замены список заново упорядочивается устойчивой сортировкой: равные элементы сохраняют
+     * взаимный порядок.
+     * @param operator оператор, применяемый к каждому элементу
+     */
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        parallelReplaceAll(operator, BulkOps.SEQUENTIAL);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void parallelReplaceAll(UnaryOperator<T> operator, ParallelOptions options) {
+        BulkOps.replaceAll(container, 0, size, (UnaryOperator<Object>) Objects.requireNonNull(operator), options);
+        TimSort.sort(container, 0, size, comparator, null);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(container, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Список всегда упорядочен, поэтому сортировка ничего не делает.
+     */
+    @Override
+    public void quickSort() {
+    }
+
+    /**
+     * Сортировка другим компаратором нарушила бы порядок списка.
+     * @throws UnsupportedOperationException если компаратор отличается от компаратора списка
+     */
+    @Override
+    public void quickSort(Comparator<? super T> comparator) {
+        if (comparator != null && comparator != comparator()) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> comparator, ParallelOptions options) {
+        quickSort(comparator);
+    }
+
+    @Override
+    public void stableSort(Comparator<? super T> comparator) {
+        quickSort(comparator);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(container[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
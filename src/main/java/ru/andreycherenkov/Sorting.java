@@ -0,0 +1,546 @@
+package ru.andreycherenkov;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Движок сортировки, работающий непосредственно над массивом-контейнером списка.
+ * Реализует интроспективную сортировку (introsort): быструю сортировку с выбором опорного элемента
+ * медианой трёх (или «нинтером» Тьюки на больших диапазонах) и трёхсторонним разбиением, которая
+ * переходит на сортировку вставками для маленьких диапазонов и на пирамидальную сортировку при
+ * превышении допустимой глубины рекурсии. Таким образом время работы в худшем случае O(n log n),
+ * а глубина стека O(log n).
+ *
+ * @author Андрей Черенков
+ */
+final class Sorting {
+
+    /**
+     * Размер диапазона, начиная с которого вместо разбиения применяется сортировка вставками.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+    /**
+     * Размер диапазона, начиная с которого опорный элемент выбирается «нинтером» (медианой трёх медиан).
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Компаратор естественного порядка. Перед его использованием элементы необходимо проверить методом
+     * {@link #checkComparable(Object[], int, int)}, чтобы не выполнять instanceof на каждом сравнении.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Comparator<Object> NATURAL_ORDER = (a, b) -> ((Comparable) a).compareTo(b);
+
+    private Sorting() {
+    }
+
+    /**
+     * Статистика одной сортировки для {@link ListMetrics}: количество сравнений, перестановок (обменов
+     * и сдвигов элементов) и достигнутая глубина разбиений.
+     */
+    static final class Stats {
+        long comparisons;
+        long swaps;
+        int maxDepth;
+        /**
+         * Допустимая глубина рекурсии, от которой отсчитывается достигнутая глубина.
+         */
+        private int depthLimit;
+
+        private void reachedDepth(int remainingDepth) {
+            maxDepth = Math.max(maxDepth, depthLimit - remainingDepth);
+        }
+    }
+
+    /**
+     * Проверяет, что все элементы диапазона реализуют интерфейс Comparable.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @throws UnsupportedOperationException если хотя бы один элемент не реализует Comparable
+     */
+    static void checkComparable(Object[] a, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!(a[i] instanceof Comparable)) {
+                throw new UnsupportedOperationException("Objects must implement Comparable or use a custom Comparator");
+            }
+        }
+    }
+
+    /**
+     * Сортирует диапазон массива в естественном порядке: поразрядно ({@link RadixSort}), если диапазон
+     * достаточно велик и состоит из Integer, Long или String, иначе интроспективной сортировкой.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @throws UnsupportedOperationException если хотя бы один элемент не реализует Comparable
+     */
+    static void sortNatural(Object[] a, int from, int to) {
+        if (!RadixSort.trySortNatural(a, from, to)) {
+            checkComparable(a, from, to);
+            introSort(a, from, to, NATURAL_ORDER);
+        }
+    }
+
+    /**
+     * Сортирует диапазон массива интроспективной сортировкой.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     */
+    static void introSort(Object[] a, int from, int to, Comparator<Object> comparator) {
+        introSort(a, from, to, comparator, null);
+    }
+
+    /**
+     * Сортирует диапазон массива интроспективной сортировкой, собирая статистику.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     * @param stats статистика, которая будет заполнена; null, если статистика не нужна
+     */
+    static void introSort(Object[] a, int from, int to, Comparator<Object> comparator, Stats stats) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+        Comparator<Object> effective = comparator;
+        if (stats != null) {
+            stats.depthLimit = depthLimit(length);
+            effective = (x, y) -> {
+                stats.comparisons++;
+                return comparator.compare(x, y);
+            };
+        }
+        introSort(a, from, to - 1, effective, depthLimit(length), stats);
+    }
+
+    /**
+     * Параллельно сортирует диапазон массива: диапазон делится пополам до порога из настроек, половины
+     * сортируются интроспективной сортировкой в задачах fork/join и затем сливаются через общий буфер.
+     * Если диапазон не превышает порог, сортировка выполняется последовательно в вызывающем потоке.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     * @param options настройки параллельного выполнения
+     */
+    static void parallelSort(Object[] a, int from, int to, Comparator<Object> comparator, ParallelOptions options) {
+        int length = to - from;
+        if (!options.isParallel(length)) {
+            introSort(a, from, to, comparator);
+            return;
+        }
+        Object[] buffer = new Object[length];
+        options.pool().invoke(new SortTask(a, buffer, from, from, to, comparator, options.threshold()));
+    }
+
+    /**
+     * Сливает два соседних отсортированных диапазона a[from, middle) и a[middle, to), используя буфер,
+     * смещение которого относительно массива равно bufferOffset. Если диапазоны уже упорядочены
+     * друг относительно друга, слияние не выполняется.
+     */
+    static void merge(Object[] a, Object[] buffer, int bufferOffset, int from, int middle, int to,
+                      Comparator<Object> comparator) {
+        if (comparator.compare(a[middle - 1], a[middle]) <= 0) {
+            return;
+        }
+        int left = from;
+        int right = middle;
+        int out = from - bufferOffset;
+        while (left < middle && right < to) {
+            buffer[out++] = comparator.compare(a[right], a[left]) < 0 ? a[right++] : a[left++];
+        }
+        while (left < middle) {
+            buffer[out++] = a[left++];
+        }
+        System.arraycopy(buffer, from - bufferOffset, a, from, right - from);
+    }
+
+    /**
+     * Задача fork/join параллельной сортировки слиянием с последовательной сортировкой листьев.
+     */
+    private static final class SortTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] a;
+        private final Object[] buffer;
+        private final int bufferOffset;
+        private final int from;
+        private final int to;
+        private final Comparator<Object> comparator;
+        private final int threshold;
+
+        SortTask(Object[] a, Object[] buffer, int bufferOffset, int from, int to, Comparator<Object> comparator,
+                 int threshold) {
+            this.a = a;
+            this.buffer = buffer;
+            this.bufferOffset = bufferOffset;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                introSort(a, from, to, comparator);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(a, buffer, bufferOffset, from, middle, comparator, threshold),
+                    new SortTask(a, buffer, bufferOffset, middle, to, comparator, threshold));
+            merge(a, buffer, bufferOffset, from, middle, to, comparator);
+        }
+    }
+
+    /**
+     * Допустимая глубина рекурсии для диапазона указанной длины: 2 * floor(log2(length)).
+     * @param length длина диапазона
+     * @return допустимая глубина рекурсии
+     */
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Рекурсивная часть интроспективной сортировки. Рекурсия выполняется только для меньшей части разбиения,
+     * большая обрабатывается в цикле, поэтому глубина стека не превышает O(log n).
+     * @param a массив элементов
+     * @param low нижняя граница диапазона (включительно)
+     * @param high верхняя граница диапазона (включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     * @param depthLimit оставшаяся допустимая глубина рекурсии
+     * @param stats статистика сортировки или null
+     */
+    private static void introSort(Object[] a, int low, int high, Comparator<Object> comparator, int depthLimit,
+                                  Stats stats) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, low, high, comparator, stats);
+                return;
+            }
+            if (stats != null) {
+                stats.reachedDepth(depthLimit);
+            }
+            long bounds = partition(a, low, high, choosePivot(a, low, high, comparator), comparator, stats);
+            int lt = lowerBound(bounds);
+            int gt = upperBound(bounds);
+            if (lt - low < high - gt) {
+                introSort(a, low, lt - 1, comparator, depthLimit, stats);
+                low = gt + 1;
+            } else {
+                introSort(a, gt + 1, high, comparator, depthLimit, stats);
+                high = lt - 1;
+            }
+        }
+        insertionSort(a, low, high, comparator, stats);
+    }
+
+    /**
+     * Выбор k-го элемента (introselect): после вызова a[k] содержит элемент, который стоял бы на этом месте
+     * в отсортированном диапазоне, элементы слева не больше него, справа не меньше. Выполняется быстрый выбор
+     * с тем же разбиением, что и в сортировке; при превышении допустимой глубины опорный элемент выбирается
+     * медианой медиан, что гарантирует линейное время в худшем случае.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param k индекс искомого элемента, from <= k < to
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     */
+    static void select(Object[] a, int from, int to, int k, Comparator<Object> comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        select(a, from, to - 1, k, comparator, depthLimit(to - from));
+    }
+
+    /**
+     * Цикл быстрого выбора: после каждого разбиения продолжается только та часть, в которой находится k.
+     * @param depthLimit количество разбиений с обычным выбором опорного элемента; после него используется
+     *                   медиана медиан
+     */
+    private static void select(Object[] a, int low, int high, int k, Comparator<Object> comparator, int depthLimit) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            int pivotIndex = depthLimit-- > 0
+                    ? choosePivot(a, low, high, comparator)
+                    : medianOfMedians(a, low, high, comparator);
+            long bounds = partition(a, low, high, pivotIndex, comparator);
+            int lt = lowerBound(bounds);
+            int gt = upperBound(bounds);
+            if (k < lt) {
+                high = lt - 1;
+            } else if (k > gt) {
+                low = gt + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(a, low, high, comparator);
+    }
+
+    /**
+     * Медиана медиан пятёрок (алгоритм BFPRT): медианы групп по пять элементов собираются в начале диапазона,
+     * и среди них рекурсивно выбирается медиана. Разбиение относительно неё отсекает не менее 30% диапазона.
+     * @return индекс опорного элемента
+     */
+    private static int medianOfMedians(Object[] a, int low, int high, Comparator<Object> comparator) {
+        int medians = low;
+        for (int i = low; i <= high; i += 5) {
+            int end = Math.min(i + 4, high);
+            insertionSort(a, i, end, comparator);
+            swap(a, medians++, (i + end) >>> 1);
+        }
+        int middle = (low + medians - 1) >>> 1;
+        select(a, low, medians - 1, middle, comparator, 0);
+        return middle;
+    }
+
+    /**
+     * Частичная сортировка: после вызова a[from, from + k) содержит k наименьших элементов диапазона
+     * в отсортированном порядке, порядок остальных не определён. Время работы O(n + k log k).
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param k количество упорядочиваемых элементов, 0 <= k <= to - from
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     */
+    static void partialSort(Object[] a, int from, int to, int k, Comparator<Object> comparator) {
+        if (k == 0) {
+            return;
+        }
+        if (k < to - from) {
+            select(a, from, to, from + k - 1, comparator);
+        }
+        introSort(a, from, from + k, comparator);
+    }
+
+    /**
+     * Выбор k наименьших элементов последовательности ограниченной max-кучей размера k: каждый следующий
+     * элемент сравнивается с вершиной кучи и заменяет её, если меньше. Последовательность не изменяется,
+     * дополнительная память O(k), время O(n log k).
+     * @param source последовательность элементов
+     * @param k наибольшее количество выбираемых элементов
+     * @param comparator компаратор; null означает естественный порядок
+     * @return массив не более чем из k наименьших элементов в отсортированном порядке
+     * @throws UnsupportedOperationException если компаратор не передан и элемент не реализует Comparable
+     */
+    static Object[] smallest(Iterable<?> source, int k, Comparator<Object> comparator) {
+        Object[] heap = new Object[k];
+        if (k == 0) {
+            return heap;
+        }
+        Comparator<Object> effective = comparator == null ? NATURAL_ORDER : comparator;
+        int count = 0;
+        for (Object element : source) {
+            if (comparator == null && !(element instanceof Comparable)) {
+                throw new UnsupportedOperationException("Objects must implement Comparable or use a custom Comparator");
+            }
+            if (count < k) {
+                heap[count] = element;
+                siftUp(heap, count++, effective);
+            } else if (effective.compare(element, heap[0]) < 0) {
+                heap[0] = element;
+                siftDown(heap, 0, 0, k, effective);
+            }
+        }
+        for (int end = count - 1; end > 0; end--) {
+            swap(heap, 0, end);
+            siftDown(heap, 0, 0, end, effective);
+        }
+        return count == k ? heap : Arrays.copyOf(heap, count);
+    }
+
+    /**
+     * Просеивание элемента вверх в max-куче, расположенной в a[0, index].
+     */
+    private static void siftUp(Object[] a, int index, Comparator<Object> comparator) {
+        Object value = a[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.compare(a[parent], value) >= 0) {
+                break;
+            }
+            a[index] = a[parent];
+            index = parent;
+        }
+        a[index] = value;
+    }
+
+    /**
+     * Трёхстороннее разбиение диапазона относительно опорного элемента (алгоритм Дейкстры).
+     * После разбиения элементы [low, lt) меньше опорного, [lt, gt] равны ему, (gt, high] больше.
+     * Благодаря этому серии одинаковых элементов не участвуют в дальнейшей сортировке.
+     * @param a массив элементов
+     * @param low нижняя граница диапазона (включительно)
+     * @param high верхняя граница диапазона (включительно)
+     * @param pivotIndex индекс опорного элемента
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     * @return границы lt и gt, упакованные в одно значение (см. {@link #lowerBound}, {@link #upperBound})
+     */
+    static long partition(Object[] a, int low, int high, int pivotIndex, Comparator<Object> comparator) {
+        return partition(a, low, high, pivotIndex, comparator, null);
+    }
+
+    private static long partition(Object[] a, int low, int high, int pivotIndex, Comparator<Object> comparator,
+                                  Stats stats) {
+        Object pivot = a[pivotIndex];
+        int lt = low;
+        int gt = high;
+        int i = low;
+        while (i <= gt) {
+            int cmp = comparator.compare(a[i], pivot);
+            if (cmp < 0) {
+                swap(a, lt++, i++);
+            } else if (cmp > 0) {
+                swap(a, i, gt--);
+            } else {
+                i++;
+                continue;
+            }
+            if (stats != null) {
+                stats.swaps++;
+            }
+        }
+        return ((long) lt << 32) | (gt & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param bounds результат {@link #partition}
+     * @return индекс первого элемента, равного опорному
+     */
+    static int lowerBound(long bounds) {
+        return (int) (bounds >>> 32);
+    }
+
+    /**
+     * @param bounds результат {@link #partition}
+     * @return индекс последнего элемента, равного опорному
+     */
+    static int upperBound(long bounds) {
+        return (int) bounds;
+    }
+
+    /**
+     * Выбор опорного элемента: медиана трёх для небольших диапазонов и «нинтер» Тьюки для больших.
+     * На отсортированных и обратно отсортированных данных такой выбор даёт разбиение, близкое к равному.
+     * @param a массив элементов
+     * @param low нижняя граница диапазона (включительно)
+     * @param high верхняя граница диапазона (включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     * @return индекс опорного элемента
+     */
+    static int choosePivot(Object[] a, int low, int high, Comparator<Object> comparator) {
+        int middle = (low + high) >>> 1;
+        int length = high - low + 1;
+        if (length >= NINTHER_THRESHOLD) {
+            int step = length >>> 3;
+            int first = medianOfThree(a, low, low + step, low + 2 * step, comparator);
+            int second = medianOfThree(a, middle - step, middle, middle + step, comparator);
+            int third = medianOfThree(a, high - 2 * step, high - step, high, comparator);
+            return medianOfThree(a, first, second, third, comparator);
+        }
+        return medianOfThree(a, low, middle, high, comparator);
+    }
+
+    /**
+     * @return индекс медианы среди элементов с индексами i, j, k
+     */
+    private static int medianOfThree(Object[] a, int i, int j, int k, Comparator<Object> comparator) {
+        if (comparator.compare(a[i], a[j]) < 0) {
+            if (comparator.compare(a[j], a[k]) < 0) {
+                return j;
+            }
+            return comparator.compare(a[i], a[k]) < 0 ? k : i;
+        }
+        if (comparator.compare(a[k], a[j]) < 0) {
+            return j;
+        }
+        return comparator.compare(a[k], a[i]) < 0 ? k : i;
+    }
+
+    /**
+     * Сортировка вставками, эффективная на маленьких диапазонах.
+     * @param a массив элементов
+     * @param low нижняя граница диапазона (включительно)
+     * @param high верхняя граница диапазона (включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     */
+    static void insertionSort(Object[] a, int low, int high, Comparator<Object> comparator) {
+        insertionSort(a, low, high, comparator, null);
+    }
+
+    private static void insertionSort(Object[] a, int low, int high, Comparator<Object> comparator, Stats stats) {
+        for (int i = low + 1; i <= high; i++) {
+            Object current = a[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(a[j], current) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = current;
+            if (stats != null) {
+                stats.swaps += i - 1 - j;
+            }
+        }
+    }
+
+    /**
+     * Пирамидальная сортировка, гарантирующая O(n log n) при исчерпании допустимой глубины рекурсии.
+     * @param a массив элементов
+     * @param low нижняя граница диапазона (включительно)
+     * @param high верхняя граница диапазона (включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     */
+    static void heapSort(Object[] a, int low, int high, Comparator<Object> comparator) {
+        heapSort(a, low, high, comparator, null);
+    }
+
+    private static void heapSort(Object[] a, int low, int high, Comparator<Object> comparator, Stats stats) {
+        int length = high - low + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, low, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(a, low, low + end);
+            siftDown(a, low, 0, end, comparator);
+        }
+        if (stats != null) {
+            stats.swaps += length - 1;
+        }
+    }
+
+    /**
+     * Просеивание элемента вниз в max-куче, расположенной в a[offset, offset + length).
+     */
+    private static void siftDown(Object[] a, int offset, int index, int length, Comparator<Object> comparator) {
+        Object value = a[offset + index];
+        int half = length >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < length && comparator.compare(a[offset + child], a[offset + right]) < 0) {
+                child = right;
+            }
+            if (comparator.compare(value, a[offset + child]) >= 0) {
+                break;
+            }
+            a[offset + index] = a[offset + child];
+            index = child;
+        }
+        a[offset + index] = value;
+    }
+
+    static void swap(Object[] a, int i, int j) {
+        Object temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
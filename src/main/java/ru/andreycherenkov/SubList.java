@@ -0,0 +1,185 @@
+package ru.andreycherenkov;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Представление диапазона произвольного {@link MyList}, используемое реализацией subList по умолчанию.
+ * Элементы не копируются: операции переводятся в операции исходного списка со смещением. Так как интерфейс
+ * не предоставляет счётчика модификаций, изменение исходного списка в обход представления обнаруживается
+ * по изменению его размера. Сортировка копирует диапазон во временный массив и записывает результат
+ * обратно методом set.
+ *
+ * @param <T> тип элементов списка
+ *
+ * @author Андрей Черенков
+ */
+final class SubList<T> implements MyList<T> {
+
+    private final MyList<T> parent;
+    private final int offset;
+    private int size;
+    /**
+     * Размер исходного списка, который ожидает представление.
+     */
+    private int expectedParentSize;
+
+    SubList(MyList<T> parent, int offset, int size) {
+        this.parent = parent;
+        this.offset = offset;
+        this.size = size;
+        this.expectedParentSize = parent.size();
+    }
+
+    private void checkForComodification() {
+        if (parent.size() != expectedParentSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void sizeChanged(int delta) {
+        size += delta;
+        expectedParentSize = parent.size();
+    }
+
+    @Override
+    public void add(T element) {
+        add(size, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkForComodification();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        parent.add(offset + index, element);
+        sizeChanged(1);
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        checkBounds(index);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        checkForComodification();
+        if (element == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (element.equals(parent.get(offset + i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean remove(T element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void remove(int index) {
+        checkForComodification();
+        checkBounds(index);
+        parent.remove(offset + index);
+        sizeChanged(-1);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkForComodification();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        parent.removeRange(offset + fromIndex, offset + toIndex);
+        sizeChanged(fromIndex - toIndex);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        checkForComodification();
+        checkBounds(index);
+        parent.set(offset + index, element);
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    public void quickSort() {
+        checkForComodification();
+        Object[] slice = toArray();
+        Sorting.checkComparable(slice, 0, slice.length);
+        sortAndWriteBack(slice, Sorting.NATURAL_ORDER);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void quickSort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            quickSort();
+            return;
+        }
+        checkForComodification();
+        sortAndWriteBack(toArray(), (Comparator<Object>) comparator);
+    }
+
+    private Object[] toArray() {
+        Object[] slice = new Object[size];
+        for (int i = 0; i < size; i++) {
+            slice[i] = parent.get(offset + i);
+        }
+        return slice;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortAndWriteBack(Object[] slice, Comparator<Object> comparator) {
+        Sorting.introSort(slice, 0, slice.length, comparator);
+        for (int i = 0; i < slice.length; i++) {
+            parent.set(offset + i, (T) slice[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        checkForComodification();
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(parent.get(offset + i));
+        }
+        return sb.append("]").toString();
+    }
+}
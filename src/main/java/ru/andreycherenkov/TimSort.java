@@ -0,0 +1,523 @@
+package ru.andreycherenkov;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Устойчивая адаптивная сортировка слиянием (TimSort), работающая непосредственно над массивом-контейнером
+ * списка. Диапазон делится на естественные серии: неубывающие серии берутся как есть, строго убывающие
+ * разворачиваются, короткие серии дополняются до minRun бинарными вставками. Серии складываются в стек
+ * и сливаются так, чтобы длины соседних серий были сбалансированы; слияние переходит в режим «галопа»
+ * (экспоненциальный поиск), когда одна из серий выигрывает подряд много раз. Поэтому на почти
+ * отсортированных данных время работы близко к O(n), а в худшем случае O(n log n).
+ * <p>
+ * Временный буфер передаётся вызывающим кодом и возвращается им (возможно, увеличенным), что позволяет
+ * списку переиспользовать один буфер во всех сортировках. После сортировки ссылки в буфере обнуляются.
+ *
+ * @author Андрей Черенков
+ */
+final class TimSort {
+
+    /**
+     * Длина диапазона, меньше которой сортировка выполняется бинарными вставками без слияний.
+     */
+    static final int MIN_MERGE = 32;
+    /**
+     * Начальное количество выигрышей подряд, после которого слияние переходит в режим галопа.
+     */
+    private static final int MIN_GALLOP = 7;
+    /**
+     * Наибольшая глубина стека серий: длины серий в стеке растут не медленнее чисел Фибоначчи,
+     * поэтому для диапазона длиной до 2^31 достаточно 49 элементов.
+     */
+    private static final int MAX_STACK_SIZE = 49;
+
+    private final Object[] a;
+    private final Comparator<Object> comparator;
+    private Object[] buffer;
+    /**
+     * Наибольшее количество ячеек буфера, занятых во время сортировки (для обнуления ссылок).
+     */
+    private int bufferUsed;
+    private int minGallop = MIN_GALLOP;
+    private final int[] runBase = new int[MAX_STACK_SIZE];
+    private final int[] runLength = new int[MAX_STACK_SIZE];
+    private int stackSize;
+
+    private TimSort(Object[] a, Comparator<Object> comparator, Object[] buffer) {
+        this.a = a;
+        this.comparator = comparator;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Устойчиво сортирует диапазон массива.
+     * @param a массив элементов
+     * @param from начало диапазона (включительно)
+     * @param to конец диапазона (не включительно)
+     * @param comparator компаратор, необходимый для сравнения элементов массива
+     * @param buffer временный буфер для переиспользования или null
+     * @return буфер, который следует передать в следующий вызов (null, если буфер не понадобился и не передан)
+     * @throws IllegalArgumentException если компаратор нарушает свой контракт
+     */
+    static Object[] sort(Object[] a, int from, int to, Comparator<Object> comparator, Object[] buffer) {
+        int remaining = to - from;
+        if (remaining < 2) {
+            return buffer;
+        }
+        if (remaining < MIN_MERGE) {
+            int run = countRunAndMakeAscending(a, from, to, comparator);
+            binaryInsertionSort(a, from, to, from + run, comparator);
+            return buffer;
+        }
+        TimSort sorter = new TimSort(a, comparator, buffer);
+        int minRun = minRunLength(remaining);
+        int low = from;
+        try {
+            do {
+                int run = countRunAndMakeAscending(a, low, to, comparator);
+                if (run < minRun) {
+                    int forced = Math.min(remaining, minRun);
+                    binaryInsertionSort(a, low, low + forced, low + run, comparator);
+                    run = forced;
+                }
+                sorter.pushRun(low, run);
+                sorter.mergeCollapse();
+                low += run;
+                remaining -= run;
+            } while (remaining != 0);
+            sorter.mergeForceCollapse();
+        } finally {
+            if (sorter.buffer != null) {
+                Arrays.fill(sorter.buffer, 0, sorter.bufferUsed, null);
+            }
+        }
+        return sorter.buffer;
+    }
+
+    /**
+     * Минимальная длина серии: число из [MIN_MERGE / 2, MIN_MERGE], при котором n / minRun равно степени
+     * двойки или немного меньше её, чтобы итоговые слияния были сбалансированы.
+     */
+    private static int minRunLength(int n) {
+        int remainder = 0;
+        while (n >= MIN_MERGE) {
+            remainder |= n & 1;
+            n >>= 1;
+        }
+        return n + remainder;
+    }
+
+    /**
+     * Находит длину серии, начинающейся с low. Строго убывающая серия разворачивается, поэтому
+     * устойчивость не нарушается.
+     * @return длина серии
+     */
+    private static int countRunAndMakeAscending(Object[] a, int low, int high, Comparator<Object> comparator) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+        if (comparator.compare(a[runHigh++], a[low]) < 0) {
+            while (runHigh < high && comparator.compare(a[runHigh], a[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            reverse(a, low, runHigh);
+        } else {
+            while (runHigh < high && comparator.compare(a[runHigh], a[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    private static void reverse(Object[] a, int low, int high) {
+        for (high--; low < high; low++, high--) {
+            Sorting.swap(a, low, high);
+        }
+    }
+
+    /**
+     * Сортировка бинарными вставками диапазона [low, high), начало которого [low, start) уже отсортировано.
+     * Место вставки ищется справа от равных элементов, что сохраняет устойчивость.
+     */
+    private static void binaryInsertionSort(Object[] a, int low, int high, int start, Comparator<Object> comparator) {
+        if (start == low) {
+            start++;
+        }
+        for (; start < high; start++) {
+            Object pivot = a[start];
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (comparator.compare(pivot, a[middle]) < 0) {
+                    right = middle;
+                } else {
+                    left = middle + 1;
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLength[stackSize] = length;
+        stackSize++;
+    }
+
+    /**
+     * Сливает серии на вершине стека, пока не выполнены инварианты: длина каждой серии больше суммы длин
+     * двух следующих за ней и больше длины следующей серии.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                    || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                if (runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+            } else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Сливает все оставшиеся серии в одну.
+     */
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Сливает серии i и i + 1 стека. Перед слиянием галопом отбрасываются элементы первой серии, которые уже
+     * стоят на своих местах, и элементы второй серии, которые уже больше всей первой.
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+        runLength[i] = length1 + length2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        stackSize--;
+        int skipped = gallopRight(a[base2], a, base1, length1, 0, comparator);
+        base1 += skipped;
+        length1 -= skipped;
+        if (length1 == 0) {
+            return;
+        }
+        length2 = gallopLeft(a[base1 + length1 - 1], a, base2, length2, length2 - 1, comparator);
+        if (length2 == 0) {
+            return;
+        }
+        if (length1 <= length2) {
+            mergeLow(base1, length1, base2, length2);
+        } else {
+            mergeHigh(base1, length1, base2, length2);
+        }
+    }
+
+    /**
+     * Ищет позицию вставки key в отсортированный диапазон a[base, base + length) левее равных элементов,
+     * начиная экспоненциальный поиск с позиции hint.
+     * @return k, такое что a[base + k - 1] &lt; key &lt;= a[base + k]
+     */
+    private static int gallopLeft(Object key, Object[] a, int base, int length, int hint,
+                                  Comparator<Object> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, a[base + hint]) > 0) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, a[base + middle]) > 0) {
+                lastOffset = middle + 1;
+            } else {
+                offset = middle;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Ищет позицию вставки key в отсортированный диапазон a[base, base + length) правее равных элементов,
+     * начиная экспоненциальный поиск с позиции hint.
+     * @return k, такое что a[base + k - 1] &lt;= key &lt; a[base + k]
+     */
+    private static int gallopRight(Object key, Object[] a, int base, int length, int hint,
+                                   Comparator<Object> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, a[base + hint]) < 0) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, a[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, a[base + middle]) < 0) {
+                offset = middle;
+            } else {
+                lastOffset = middle + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Слияние слева направо, когда первая серия не длиннее второй: первая серия копируется в буфер.
+     * Известно, что первый элемент второй серии меньше первого элемента первой, а последний элемент
+     * первой серии больше всех элементов второй.
+     */
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        Object[] a = this.a;
+        Object[] temp = ensureBuffer(length1);
+        Comparator<Object> comparator = this.comparator;
+        System.arraycopy(a, base1, temp, 0, length1);
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+        a[dest++] = a[cursor2++];
+        if (--length2 == 0) {
+            System.arraycopy(temp, cursor1, a, dest, length1);
+            return;
+        }
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = temp[cursor1];
+            return;
+        }
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+            do {
+                if (comparator.compare(a[cursor2], temp[cursor1]) < 0) {
+                    a[dest++] = a[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest++] = temp[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+            do {
+                count1 = gallopRight(a[cursor2], temp, cursor1, length1, 0, comparator);
+                if (count1 != 0) {
+                    System.arraycopy(temp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    length1 -= count1;
+                    if (length1 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest++] = a[cursor2++];
+                if (--length2 == 0) {
+                    break outer;
+                }
+                count2 = gallopLeft(temp[cursor1], a, cursor2, length2, 0, comparator);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    length2 -= count2;
+                    if (length2 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest++] = temp[cursor1++];
+                if (--length1 == 1) {
+                    break outer;
+                }
+                minGallop--;
+            } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+            minGallop = Math.max(minGallop, 0) + 2;
+        }
+        this.minGallop = Math.max(minGallop, 1);
+        if (length1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, length2);
+            a[dest + length2] = temp[cursor1];
+        } else if (length1 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract");
+        } else {
+            System.arraycopy(temp, cursor1, a, dest, length1);
+        }
+    }
+
+    /**
+     * Слияние справа налево, когда первая серия длиннее второй: вторая серия копируется в буфер.
+     */
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+        Object[] a = this.a;
+        Object[] temp = ensureBuffer(length2);
+        Comparator<Object> comparator = this.comparator;
+        System.arraycopy(a, base2, temp, 0, length2);
+        int cursor1 = base1 + length1 - 1;
+        int cursor2 = length2 - 1;
+        int dest = base2 + length2 - 1;
+        a[dest--] = a[cursor1--];
+        if (--length1 == 0) {
+            System.arraycopy(temp, 0, a, dest - (length2 - 1), length2);
+            return;
+        }
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = temp[cursor2];
+            return;
+        }
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+            do {
+                if (comparator.compare(temp[cursor2], a[cursor1]) < 0) {
+                    a[dest--] = a[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                } else {
+                    a[dest--] = temp[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+                }
+            } while ((count1 | count2) < minGallop);
+            do {
+                count1 = length1 - gallopRight(temp[cursor2], a, base1, length1, length1 - 1, comparator);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    length1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    if (length1 == 0) {
+                        break outer;
+                    }
+                }
+                a[dest--] = temp[cursor2--];
+                if (--length2 == 1) {
+                    break outer;
+                }
+                count2 = length2 - gallopLeft(a[cursor1], temp, 0, length2, length2 - 1, comparator);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    length2 -= count2;
+                    System.arraycopy(temp, cursor2 + 1, a, dest + 1, count2);
+                    if (length2 <= 1) {
+                        break outer;
+                    }
+                }
+                a[dest--] = a[cursor1--];
+                if (--length1 == 0) {
+                    break outer;
+                }
+                minGallop--;
+            } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+            minGallop = Math.max(minGallop, 0) + 2;
+        }
+        this.minGallop = Math.max(minGallop, 1);
+        if (length2 == 1) {
+            dest -= length1;
+            cursor1 -= length1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+            a[dest] = temp[cursor2];
+        } else if (length2 == 0) {
+            throw new IllegalArgumentException("Comparison method violates its general contract");
+        } else {
+            System.arraycopy(temp, 0, a, dest - (length2 - 1), length2);
+        }
+    }
+
+    /**
+     * Возвращает буфер не меньше указанной длины. Буфер растёт степенями двойки, но не больше половины массива.
+     */
+    private Object[] ensureBuffer(int minCapacity) {
+        if (buffer == null || buffer.length < minCapacity) {
+            int capacity = Integer.highestOneBit(minCapacity) << 1;
+            if (capacity < 0) {
+                capacity = minCapacity;
+            }
+            buffer = new Object[Math.max(minCapacity, Math.min(capacity, a.length >>> 1))];
+        }
+        bufferUsed = Math.max(bufferUsed, minCapacity);
+        return buffer;
+    }
+}
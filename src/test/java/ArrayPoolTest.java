@@ -0,0 +1,121 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.ArrayPool;
+import ru.andreycherenkov.GrowthPolicy;
+import ru.andreycherenkov.ListMetricsRecorder;
+import ru.andreycherenkov.MyArrayList;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayPoolTest {
+
+    private ArrayPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ArrayPool(1024, 2);
+    }
+
+    //Tests for ArrayPool
+    @Test
+    void whenArrayIsReleasedThenSameArrayIsAcquiredFromItsSizeClass() {
+        Object[] array = pool.acquire(100);
+        assertEquals(128, array.length);
+        pool.release(array);
+        assertSame(array, pool.acquire(65));
+        assertNotSame(array, pool.acquire(128));
+        assertEquals(16, pool.acquire(0).length);
+        assertEquals(2000, pool.acquire(2000).length);
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayPool(1000, 2));
+    }
+
+    @Test
+    void whenCacheIsFullOrArrayIsForeignThenArrayIsDropped() {
+        Object[] first = pool.acquire(32);
+        Object[] second = pool.acquire(32);
+        Object[] third = pool.acquire(32);
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        pool.release(new Object[33]);
+        assertSame(second, pool.acquire(32));
+        assertSame(first, pool.acquire(32));
+        assertNotSame(third, pool.acquire(32));
+    }
+
+    @Test
+    void whenArrayIsReleasedInAnotherThreadThenItGoesToThatThreadCache() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Object[] array = pool.acquire(64);
+            executor.submit(() -> pool.release(array)).get();
+            assertNotSame(array, pool.acquire(64));
+            assertSame(array, executor.submit(() -> pool.acquire(64)).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    //Tests for pooled MyArrayList
+    @Test
+    void whenPooledListIsResetThenContainersAreReusedWithoutGrowthAllocations() {
+        MyArrayList<Integer> list = new MyArrayList<>(pool);
+        assertEquals(16, list.capacity());
+        for (int i = 0; i < 500; i++) {
+            list.add(i);
+        }
+        assertEquals(512, list.capacity());
+        list.reset();
+        assertEquals(0, list.size());
+        assertEquals(16, list.capacity());
+
+        ListMetricsRecorder recorder = new ListMetricsRecorder();
+        list.setMetrics(recorder);
+        Object[] reused = pool.acquire(512);
+        pool.release(reused);
+        for (int i = 500; i > 0; i--) {
+            list.add(i);
+        }
+        list.quickSort();
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i + 1, list.get(i));
+        }
+        assertEquals(5, recorder.getGrowCount());
+        list.reset();
+        assertSame(reused, pool.acquire(512));
+    }
+
+    @Test
+    void whenPooledListHasCappedPolicyThenCapacityDoesNotExceedCap() {
+        MyArrayList<Integer> list = new MyArrayList<>(pool);
+        list.setGrowthPolicy(GrowthPolicy.doubling().capped(20));
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        assertEquals(20, list.capacity());
+        assertThrows(IllegalStateException.class, () -> list.add(20));
+        assertEquals(19, list.get(19));
+    }
+
+    @Test
+    void whenPooledListIsReleasedThenContainerIsClearedAndListIsStillUsable() {
+        MyArrayList<String> list = new MyArrayList<>(100, pool);
+        for (int i = 0; i < 100; i++) {
+            list.add("s" + i);
+        }
+        list.release();
+        assertEquals(0, list.capacity());
+        Object[] container = pool.acquire(100);
+        assertEquals(128, container.length);
+        for (Object o : container) {
+            assertNull(o);
+        }
+        list.add("a");
+        assertEquals("a", list.get(0));
+        assertEquals(16, list.capacity());
+    }
+}
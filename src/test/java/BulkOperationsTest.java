@@ -0,0 +1,130 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.ConcurrentArrayList;
+import ru.andreycherenkov.IndexedArrayList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.ParallelOptions;
+import ru.andreycherenkov.SortedMyList;
+
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkOperationsTest {
+
+    private MyArrayList<Integer> integerMyList;
+    private ParallelOptions options;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new MyArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            integerMyList.add(random.nextInt(1000));
+        }
+        options = ParallelOptions.defaults().withThreshold(64).withPool(new ForkJoinPool(4));
+    }
+
+    //Tests for forEach and replaceAll
+    @Test
+    void whenParallelForEachThenEveryElementIsVisitedOnce() {
+        AtomicLong sum = new AtomicLong();
+        AtomicLong count = new AtomicLong();
+        integerMyList.parallelForEach(e -> {
+            sum.addAndGet(e);
+            count.incrementAndGet();
+        }, options);
+        long expected = 0;
+        for (int i = 0; i < integerMyList.size(); i++) {
+            expected += integerMyList.get(i);
+        }
+        assertEquals(expected, sum.get());
+        assertEquals(integerMyList.size(), count.get());
+    }
+
+    @Test
+    void whenActionAddsElementsThenForEachThrowsConcurrentModificationException() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        list.add(2);
+        assertThrows(ConcurrentModificationException.class, () -> list.forEach(list::add));
+    }
+
+    @Test
+    void whenParallelReplaceAllThenResultEqualsSequential() {
+        MyArrayList<Integer> expected = new MyArrayList<>();
+        expected.addAll(integerMyList);
+        expected.replaceAll(e -> e * 2 + 1);
+        integerMyList.parallelReplaceAll(e -> e * 2 + 1, options);
+        assertEquals(expected, integerMyList);
+    }
+
+    //Tests for map and filter
+    @Test
+    void whenParallelMapThenResultEqualsSequentialAndSourceIsUnchanged() {
+        MyList<String> expected = integerMyList.map(String::valueOf);
+        MyList<String> actual = integerMyList.parallelMap(String::valueOf, options);
+        assertEquals(integerMyList.size(), actual.size());
+        for (int i = 0; i < integerMyList.size(); i++) {
+            assertEquals(String.valueOf(integerMyList.get(i)), actual.get(i));
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        assertEquals(0, new MyArrayList<Integer>().parallelMap(String::valueOf, options).size());
+    }
+
+    @Test
+    void whenParallelFilterThenMatchingElementsKeepTheirOrder() {
+        MyList<Integer> expected = integerMyList.filter(e -> e % 7 == 0);
+        MyList<Integer> actual = integerMyList.parallelFilter(e -> e % 7 == 0, options);
+        assertEquals(expected, actual);
+        int j = 0;
+        for (int i = 0; i < integerMyList.size(); i++) {
+            if (integerMyList.get(i) % 7 == 0) {
+                assertEquals(integerMyList.get(i), actual.get(j++));
+            }
+        }
+        assertEquals(j, actual.size());
+        assertEquals(0, integerMyList.parallelFilter(e -> e < 0, options).size());
+        actual.add(-1);
+        assertEquals(j + 1, actual.size());
+    }
+
+    //Tests for reduce
+    @Test
+    void whenParallelReduceThenResultEqualsSequential() {
+        int expected = integerMyList.reduce(0, Integer::sum);
+        assertEquals(expected, integerMyList.parallelReduce(0, Integer::sum, options));
+        assertEquals(expected, integerMyList.parallelReduce(0, Integer::sum));
+        assertEquals(7, new MyArrayList<Integer>().parallelReduce(7, Integer::sum, options));
+    }
+
+    //Tests for other lists
+    @Test
+    void whenBulkOperationsOnWrappersThenTheyKeepTheirInvariants() {
+        IndexedArrayList<Integer> indexed = new IndexedArrayList<>();
+        ConcurrentArrayList<Integer> concurrent = new ConcurrentArrayList<>();
+        SortedMyList<Integer> sorted = new SortedMyList<>();
+        for (int i = 0; i < 1000; i++) {
+            indexed.add(i);
+            concurrent.add(i % 3 == 0 ? null : i);
+            sorted.add(i);
+        }
+        indexed.parallelReplaceAll(e -> e + 1000, options);
+        assertEquals(0, indexed.indexOf(1000));
+        assertEquals(-1, indexed.indexOf(0));
+
+        concurrent.parallelReplaceAll(e -> e == null ? 0 : null, options);
+        assertEquals(0, concurrent.get(0));
+        assertNull(concurrent.get(1));
+        assertEquals(334, concurrent.parallelFilter(e -> e != null, options).size());
+
+        sorted.parallelReplaceAll(e -> -e, options);
+        assertEquals(-999, sorted.get(0));
+        assertEquals(0, sorted.get(999));
+        assertEquals(-999 * 500, sorted.parallelReduce(0, Integer::sum, options));
+    }
+}
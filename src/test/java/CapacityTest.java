@@ -0,0 +1,142 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.GrowthPolicy;
+import ru.andreycherenkov.ListMetricsRecorder;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.ShrinkPolicy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapacityTest {
+
+    private MyArrayList<Integer> integerMyList;
+    private ListMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new MyArrayList<>();
+        recorder = new ListMetricsRecorder();
+        integerMyList.setMetrics(recorder);
+    }
+
+    //Tests for ensureCapacity and trimToSize
+    @Test
+    void whenCapacityIsReservedThenBulkLoadDoesNotGrow() {
+        integerMyList.ensureCapacity(1000);
+        assertEquals(1000, integerMyList.capacity());
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+        assertEquals(1, recorder.getGrowCount());
+        integerMyList.ensureCapacity(10);
+        assertEquals(1000, integerMyList.capacity());
+        assertThrows(IllegalArgumentException.class, () -> integerMyList.ensureCapacity(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void whenTrimToSizeThenCapacityEqualsSizeAndListStillGrows() {
+        for (int i = 0; i < 15; i++) {
+            integerMyList.add(i);
+        }
+        integerMyList.trimToSize();
+        assertEquals(15, integerMyList.capacity());
+        assertEquals(1, recorder.getShrinkCount());
+        integerMyList.add(15);
+        assertEquals(30, integerMyList.capacity());
+        assertEquals(15, integerMyList.get(15));
+
+        MyArrayList<Integer> empty = new MyArrayList<>(0);
+        assertEquals(0, empty.capacity());
+        empty.add(1);
+        assertEquals(1, empty.get(0));
+        assertThrows(IllegalArgumentException.class, () -> new MyArrayList<Integer>(-1));
+    }
+
+    //Tests for GrowthPolicy
+    @Test
+    void whenGrowthPolicyIsSetThenCapacityFollowsIt() {
+        integerMyList.setGrowthPolicy(GrowthPolicy.additive(5));
+        for (int i = 0; i < 21; i++) {
+            integerMyList.add(i);
+        }
+        assertEquals(25, integerMyList.capacity());
+
+        integerMyList.setGrowthPolicy(GrowthPolicy.factor(1.5));
+        for (int i = 0; i < 5; i++) {
+            integerMyList.add(i);
+        }
+        assertEquals(37, integerMyList.capacity());
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.factor(1.0));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.additive(0));
+    }
+
+    @Test
+    void whenCappedPolicyIsExceededThenListRejectsElements() {
+        integerMyList.setGrowthPolicy(GrowthPolicy.doubling().capped(16));
+        for (int i = 0; i < 16; i++) {
+            integerMyList.add(i);
+        }
+        assertEquals(16, integerMyList.capacity());
+        assertThrows(IllegalStateException.class, () -> integerMyList.add(16));
+        assertEquals(16, integerMyList.size());
+    }
+
+    @Test
+    void whenReservingBeyondCappedPolicyThenEnsureCapacityIsRejected() {
+        integerMyList.setGrowthPolicy(GrowthPolicy.doubling().capped(16));
+        assertThrows(IllegalStateException.class, () -> integerMyList.ensureCapacity(1000));
+        assertEquals(10, integerMyList.capacity());
+        integerMyList.ensureCapacity(16);
+        assertEquals(16, integerMyList.capacity());
+        assertEquals(16, GrowthPolicy.doubling().capped(16).maxCapacity());
+        assertEquals(8, GrowthPolicy.doubling().capped(16).capped(8).maxCapacity());
+        assertEquals(GrowthPolicy.MAX_ARRAY_SIZE, GrowthPolicy.doubling().maxCapacity());
+    }
+
+    //Tests for ShrinkPolicy
+    @Test
+    void whenSizeDropsBelowThresholdThenContainerShrinksWithHysteresis() {
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+        integerMyList.setShrinkPolicy(ShrinkPolicy.of(4, 8));
+        int capacity = integerMyList.capacity();
+        integerMyList.removeRange(100, 1000);
+        assertEquals(200, integerMyList.capacity());
+        assertTrue(recorder.getShrinkBytesReleased() >= (long) (capacity - 200) * 4);
+        integerMyList.remove(99);
+        integerMyList.add(99);
+        assertEquals(200, integerMyList.capacity());
+        assertEquals(1, recorder.getShrinkCount());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, integerMyList.get(i));
+        }
+    }
+
+    @Test
+    void whenClearWithShrinkPolicyThenContainerIsReleased() {
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+        integerMyList.clear();
+        assertTrue(integerMyList.capacity() >= 1000);
+        integerMyList.setShrinkPolicy(ShrinkPolicy.defaults());
+        integerMyList.add(1);
+        integerMyList.clear();
+        assertEquals(ShrinkPolicy.DEFAULT_MIN_CAPACITY, integerMyList.capacity());
+        assertThrows(IllegalArgumentException.class, () -> ShrinkPolicy.of(2, 0));
+    }
+
+    //Tests for equals and hashCode
+    @Test
+    void whenListsHaveDifferentCapacityThenTheyAreEqual() {
+        MyArrayList<Integer> other = new MyArrayList<>(0);
+        for (int i = 0; i < 15; i++) {
+            integerMyList.add(i);
+            other.add(i);
+        }
+        other.trimToSize();
+        assertEquals(integerMyList, other);
+        assertEquals(integerMyList.hashCode(), other.hashCode());
+    }
+}
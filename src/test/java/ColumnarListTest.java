@@ -0,0 +1,137 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.ColumnarList;
+import ru.andreycherenkov.ColumnarList.Row;
+import ru.andreycherenkov.MyArrayList;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarListTest {
+
+    private ColumnarList columnarList;
+    private MyArrayList<Row> model;
+
+    @BeforeEach
+    void setUp() {
+        columnarList = new ColumnarList();
+        model = new MyArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            Row row = new Row(random.nextInt(100), random.nextInt(10_000), random.nextInt(50) / 2.0);
+            columnarList.add(row);
+            model.add(row);
+        }
+    }
+
+    private void assertMatchesModel() {
+        assertEquals(model.size(), columnarList.size());
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals(model.get(i), columnarList.get(i));
+        }
+    }
+
+    //Tests for MyList operations
+    @Test
+    void whenRowsAreInsertedRemovedAndReplacedThenListMatchesModel() {
+        Row row = new Row(-1, 5, 0.5);
+        columnarList.add(10, row);
+        model.add(10, row);
+        columnarList.remove(500);
+        model.remove(500);
+        columnarList.set(0, row);
+        model.set(0, row);
+        assertTrue(columnarList.remove(row));
+        model.remove(row);
+        columnarList.removeRange(100, 200);
+        model.removeRange(100, 200);
+        assertTrue(columnarList.removeIf(r -> r.score() > 20));
+        model.removeIf(r -> r.score() > 20);
+        assertMatchesModel();
+        assertEquals(model.indexOf(row), columnarList.indexOf(row));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarList.get(columnarList.size()));
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarList(-1));
+    }
+
+    @Test
+    void whenPrimitiveAccessorsAreUsedThenColumnsAreUpdated() {
+        ColumnarList list = new ColumnarList(0);
+        list.add(7, 100, 1.5);
+        list.add(8, 200, 2.5);
+        list.setScore(1, 3.0);
+        assertEquals(8, list.getId(1));
+        assertEquals(200, list.getTimestamp(1));
+        assertEquals(3.0, list.getScore(1));
+        assertEquals(new Row(7, 100, 1.5), list.get(0));
+        list.clear();
+        assertEquals(0, list.size());
+        assertEquals("[]", list.toString());
+    }
+
+    //Tests for sorting
+    @Test
+    void whenSortedThenAllColumnsFollowTheSamePermutation() {
+        columnarList.quickSort();
+        model.quickSort();
+        assertMatchesModel();
+
+        Comparator<Row> byScoreDescending = Comparator.comparingDouble(Row::score).reversed()
+                .thenComparing(Comparator.naturalOrder());
+        columnarList.quickSort(byScoreDescending);
+        model.quickSort(byScoreDescending);
+        assertMatchesModel();
+    }
+
+    @Test
+    void whenSortedByFieldThenFieldIsOrderedAndRowsAreIntact() {
+        columnarList.sortByTimestamp();
+        for (int i = 1; i < columnarList.size(); i++) {
+            assertTrue(columnarList.getTimestamp(i - 1) <= columnarList.getTimestamp(i));
+        }
+        columnarList.sortByScore();
+        for (int i = 1; i < columnarList.size(); i++) {
+            assertTrue(columnarList.getScore(i - 1) <= columnarList.getScore(i));
+        }
+        for (int i = 0; i < columnarList.size(); i++) {
+            assertTrue(model.contains(columnarList.get(i)));
+        }
+    }
+
+    //Tests for scans and aggregates
+    @Test
+    void whenAggregatingColumnsThenResultsMatchRowByRowComputation() {
+        double sum = 0;
+        double max = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        double sumBetween = 0;
+        for (int i = 0; i < model.size(); i++) {
+            Row row = model.get(i);
+            sum += row.score();
+            max = Math.max(max, row.score());
+            if (row.timestamp() >= 2000 && row.timestamp() < 5000) {
+                count++;
+                sumBetween += row.score();
+            }
+        }
+        assertEquals(sum, columnarList.sumScores());
+        assertEquals(sum / model.size(), columnarList.averageScore());
+        assertEquals(max, columnarList.maxScore());
+        assertEquals(count, columnarList.countTimestampsBetween(2000, 5000));
+        assertEquals(sumBetween, columnarList.sumScoresBetween(2000, 5000));
+        assertEquals(indexOfId(model.get(3).id()), columnarList.indexOfId(model.get(3).id()));
+        assertEquals(-1, columnarList.indexOfId(-5));
+        assertThrows(NoSuchElementException.class, () -> new ColumnarList().maxScore());
+    }
+
+    private int indexOfId(long id) {
+        for (int i = 0; i < model.size(); i++) {
+            if (model.get(i).id() == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
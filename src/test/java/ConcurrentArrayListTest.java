@@ -0,0 +1,216 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.ConcurrentArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentArrayListTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 100_000;
+
+    private MyList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new ConcurrentArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+    }
+
+    //Tests for single-threaded contract
+    @Test
+    void whenAdd1000ElementsThenGetReturnsThemInOrder() {
+        assertEquals(1000, integerMyList.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, integerMyList.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.get(1000));
+    }
+
+    @Test
+    void whenStructuralOperationsAppliedThenContentsAreConsistent() {
+        integerMyList.add(0, -1);
+        integerMyList.remove(1000);
+        assertTrue(integerMyList.remove((Integer) 500));
+        integerMyList.set(1, 42);
+        assertEquals(-1, integerMyList.get(0));
+        assertEquals(42, integerMyList.get(1));
+        assertEquals(999, integerMyList.size());
+        assertFalse(integerMyList.contains(500));
+        integerMyList.quickSort();
+        assertEquals(-1, integerMyList.get(0));
+        integerMyList.clear();
+        assertEquals(0, integerMyList.size());
+        integerMyList.add(7);
+        assertEquals(7, integerMyList.get(0));
+    }
+
+    @Test
+    void whenCreatedWithZeroCapacityThenListGrows() {
+        MyList<Integer> list = new ConcurrentArrayList<>(0);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+        assertEquals(19, list.get(19));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentArrayList<Integer>(-1));
+    }
+
+    @Test
+    void whenNullElementAddedThenGetReturnsNull() {
+        integerMyList.add(null);
+        assertNull(integerMyList.get(1000));
+        assertEquals(1001, integerMyList.size());
+        assertFalse(integerMyList.contains(null));
+        integerMyList.quickSort(java.util.Comparator.nullsFirst(java.util.Comparator.naturalOrder()));
+        assertNull(integerMyList.get(0));
+    }
+
+    @Test
+    void whenCallbacksReadTheListThenOperationsDoNotDeadlock() {
+        ConcurrentArrayList<Integer> list = (ConcurrentArrayList<Integer>) integerMyList;
+        assertTimeoutPreemptively(java.time.Duration.ofSeconds(10), () -> {
+            assertTrue(list.removeIf(x -> list.contains(x + 900)));
+            assertEquals(900, list.size());
+            java.util.Comparator<Integer> reading = (a, b) -> {
+                list.indexOf(0);
+                return Integer.compare(b, a);
+            };
+            list.quickSort(reading);
+            assertEquals(999, list.get(0));
+            list.stableSort(reading);
+            list.parallelSort(reading, ru.andreycherenkov.ParallelOptions.defaults());
+            assertEquals(100, list.nthElement(899, reading));
+            list.partialSort(10, reading);
+            assertEquals(999, list.get(0));
+            list.replaceAll(x -> x + list.size());
+            assertEquals(1899, list.get(0));
+            list.parallelReplaceAll(x -> x - list.get(0), ru.andreycherenkov.ParallelOptions.defaults());
+            assertEquals(0, list.get(0));
+        });
+    }
+
+    //Stress tests
+    @Test
+    void whenSortsRunDuringAppendsThenNoElementIsLost() throws Exception {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>();
+        runConcurrently(4, thread -> {
+            for (int i = 0; i < 2_000; i++) {
+                if (thread == 0) {
+                    list.quickSort(java.util.Comparator.reverseOrder());
+                } else {
+                    list.add(i);
+                }
+            }
+        });
+        assertEquals(3 * 2_000, list.size());
+        list.quickSort();
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i / 3, list.get(i));
+        }
+    }
+    @Test
+    void whenManyProducersAppendThenEveryElementIsPresentOnce() throws Exception {
+        MyList<Integer> list = new ConcurrentArrayList<>(1);
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < PER_THREAD; i++) {
+                list.add(thread * PER_THREAD + i);
+            }
+        });
+        assertEquals(THREADS * PER_THREAD, list.size());
+        boolean[] seen = new boolean[THREADS * PER_THREAD];
+        for (Integer element : list) {
+            assertFalse(seen[element]);
+            seen[element] = true;
+        }
+        int[] lastPerThread = new int[THREADS];
+        java.util.Arrays.fill(lastPerThread, -1);
+        for (int i = 0; i < list.size(); i++) {
+            int element = list.get(i);
+            int thread = element / PER_THREAD;
+            assertTrue(element > lastPerThread[thread]);
+            lastPerThread[thread] = element;
+        }
+    }
+
+    @Test
+    void whenReadersRunDuringAppendsThenTheyNeverSeeUnpublishedSlots() throws Exception {
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<>(1);
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            futures.add(readers.submit(() -> {
+                while (!done.get()) {
+                    int size = list.size();
+                    if (size > 0) {
+                        assertNotNull(list.get(size - 1));
+                        assertNotNull(list.get(0));
+                    }
+                }
+            }));
+        }
+        runConcurrently(4, thread -> {
+            for (int i = 0; i < PER_THREAD; i++) {
+                list.add(i);
+            }
+        });
+        done.set(true);
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        readers.shutdown();
+        assertEquals(4 * PER_THREAD, list.size());
+    }
+
+    @Test
+    void whenAppendsAndRemovalsInterleaveThenSizeIsConsistent() throws Exception {
+        MyList<Integer> list = new ConcurrentArrayList<>();
+        runConcurrently(THREADS, thread -> {
+            for (int i = 0; i < 20_000; i++) {
+                list.add(i);
+                if (thread % 2 == 0 && i % 2 == 0) {
+                    list.remove(0);
+                }
+            }
+        });
+        assertEquals(THREADS * 20_000 - (THREADS / 2) * 10_000, list.size());
+        for (Integer element : list) {
+            assertNotNull(element);
+        }
+    }
+
+    private interface ThreadBody {
+        void run(int thread);
+    }
+
+    private static void runConcurrently(int threads, ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                body.run(thread);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,116 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.GapBufferList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GapBufferListTest {
+
+    private MyList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new GapBufferList<>();
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+    }
+
+    //Tests for positional edits
+    @Test
+    void whenEditsNearCursorThenElementsStayInOrder() {
+        for (int i = 0; i < 10; i++) {
+            integerMyList.add(500 + i, -i);
+        }
+        integerMyList.remove(100);
+        integerMyList.add(0, -100);
+        assertEquals(1010, integerMyList.size());
+        assertEquals(-100, integerMyList.get(0));
+        assertEquals(101, integerMyList.get(101));
+        assertEquals(-9, integerMyList.get(509));
+        assertEquals(500, integerMyList.get(510));
+        assertEquals(999, integerMyList.get(1009));
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.get(1010));
+    }
+
+    @Test
+    void whenElementsSearchedOnBothSidesOfGapThenIndexesAreLogical() {
+        integerMyList.add(300, -1);
+        assertEquals(299, integerMyList.indexOf(299));
+        assertEquals(300, integerMyList.indexOf(-1));
+        assertEquals(301, integerMyList.indexOf(300));
+        assertTrue(integerMyList.remove((Integer) 700));
+        assertFalse(integerMyList.contains(700));
+        assertEquals(-1, integerMyList.indexOf(null));
+    }
+
+    //Tests for bulk operations and sort
+    @Test
+    void whenGapInMiddleThenBulkOperationsAndSortSeeAllElements() {
+        integerMyList.add(500, 5000);
+        integerMyList.removeRange(10, 20);
+        assertEquals(991, integerMyList.size());
+        assertEquals(20, integerMyList.get(10));
+        assertTrue(integerMyList.removeIf(i -> i % 2 == 1));
+        integerMyList.add(250, -5);
+        integerMyList.quickSort(Comparator.reverseOrder());
+        assertEquals(5000, integerMyList.get(0));
+        assertEquals(-5, integerMyList.get(integerMyList.size() - 1));
+        integerMyList.quickSort();
+        assertEquals(-5, integerMyList.get(0));
+        integerMyList.clear();
+        assertEquals(0, integerMyList.size());
+        assertEquals("[]", integerMyList.toString());
+    }
+
+    @Test
+    void whenRandomEditsAppliedThenContentsMatchMyArrayList() {
+        Random random = new Random(11);
+        MyList<Integer> expected = new MyArrayList<>();
+        MyList<Integer> actual = new GapBufferList<>(1);
+        int cursor = 0;
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(9) - 4));
+            if (operation < 5 || expected.size() == 0) {
+                expected.add(cursor, step);
+                actual.add(cursor, step);
+            } else if (operation < 8 && cursor < expected.size()) {
+                expected.remove(cursor);
+                actual.remove(cursor);
+            } else if (operation == 8) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -step);
+                actual.set(index, -step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    void whenZeroCapacityThenFirstInsertGrowsContainer() {
+        MyList<Integer> empty = new GapBufferList<>(0);
+        empty.add(1);
+        empty.add(0, 0);
+        empty.add(2);
+        assertEquals(3, empty.size());
+        assertEquals(0, empty.get(0));
+        assertEquals(2, empty.get(2));
+    }
+
+    @Test
+    void whenNegativeCapacityThenThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GapBufferList<>(-1));
+    }
+}
@@ -0,0 +1,149 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.IndexedArrayList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedArrayListTest {
+
+    private MyList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new IndexedArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+    }
+
+    //Tests for indexOf and contains
+    @Test
+    void when500InListThenIndexOfIs500() {
+        assertEquals(500, integerMyList.indexOf(500));
+        assertTrue(integerMyList.contains(500));
+    }
+
+    @Test
+    void when1001NotInListThenIndexOfIsNegative() {
+        assertEquals(-1, integerMyList.indexOf(1001));
+        assertFalse(integerMyList.contains(1001));
+        assertFalse(integerMyList.contains(null));
+    }
+
+    @Test
+    void whenElementIsDuplicatedThenIndexOfReturnsFirstOccurrence() {
+        integerMyList.add(5);
+        integerMyList.set(0, 5);
+        assertEquals(0, integerMyList.indexOf(5));
+        integerMyList.set(0, 0);
+        assertEquals(5, integerMyList.indexOf(5));
+    }
+
+    @Test
+    void whenElementInsertedAtHeadThenIndexesAreShifted() {
+        assertEquals(999, integerMyList.indexOf(999));
+        integerMyList.add(0, -1);
+        assertEquals(0, integerMyList.indexOf(-1));
+        assertEquals(1000, integerMyList.indexOf(999));
+    }
+
+    @Test
+    void whenListIsSortedThenIndexIsRebuilt() {
+        assertEquals(0, integerMyList.indexOf(0));
+        integerMyList.quickSort((a, b) -> b - a);
+        assertEquals(999, integerMyList.indexOf(0));
+    }
+
+    @Test
+    void whenLastElementRemovedThenItIsNotFound() {
+        assertEquals(999, integerMyList.indexOf(999));
+        integerMyList.remove(999);
+        assertFalse(integerMyList.contains(999));
+        assertTrue(integerMyList.remove((Integer) 998));
+        assertFalse(integerMyList.contains(998));
+    }
+
+    @Test
+    void whenBulkOperationsAppliedThenIndexMatchesContents() {
+        assertTrue(integerMyList.contains(1));
+        integerMyList.removeIf(i -> i % 2 == 1);
+        assertFalse(integerMyList.contains(1));
+        assertEquals(1, integerMyList.indexOf(2));
+        integerMyList.addAll(List.of(1, 3));
+        assertEquals(500, integerMyList.indexOf(1));
+        integerMyList.clear();
+        assertFalse(integerMyList.contains(2));
+    }
+
+    @Test
+    void whenRemovalsAndLookupsAlternateThenIndexIsNotRebuilt() {
+        IndexedArrayList<CountingKey> list = new IndexedArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            list.add(new CountingKey(i));
+        }
+        assertTrue(list.contains(new CountingKey(0)));
+        CountingKey.hashCodes = 0;
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(list.remove(new CountingKey(i * 7)));
+            assertFalse(list.contains(new CountingKey(i * 7)));
+            list.add(i, new CountingKey(-i - 1));
+            assertEquals(i, list.indexOf(new CountingKey(-i - 1)));
+        }
+        assertTrue(CountingKey.hashCodes < 10 * 1000);
+        assertEquals(1000, list.indexOf(new CountingKey(1)));
+    }
+
+    /**
+     * Ключ, считающий вызовы hashCode: перестроение индекса вычисляет хеш каждого элемента списка.
+     */
+    private record CountingKey(int value) {
+
+        static long hashCodes;
+
+        @Override
+        public int hashCode() {
+            hashCodes++;
+            return value;
+        }
+    }
+
+    @Test
+    void whenRandomOperationsAppliedThenIndexOfMatchesMyArrayList() {
+        Random random = new Random(3);
+        MyList<Integer> expected = new MyArrayList<>();
+        MyList<Integer> actual = new IndexedArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(200);
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.size() == 0) {
+                expected.add(value);
+                actual.add(value);
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, value);
+                actual.add(index, value);
+            } else if (operation == 5) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, value);
+                actual.set(index, value);
+            } else if (operation == 6) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual.remove(index);
+            } else if (operation == 7) {
+                assertEquals(expected.remove((Integer) value), actual.remove((Integer) value));
+            } else {
+                assertEquals(expected.indexOf(value), actual.indexOf(value));
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int value = 0; value < 200; value++) {
+            assertEquals(expected.indexOf(value), actual.indexOf(value));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.InstrumentedList;
+import ru.andreycherenkov.LatencyHistogram;
+import ru.andreycherenkov.ListMetrics;
+import ru.andreycherenkov.ListMetricsRecorder;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.Random;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListMetricsTest {
+
+    private ListMetricsRecorder recorder;
+    private MyArrayList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new ListMetricsRecorder();
+        integerMyList = new MyArrayList<>();
+        integerMyList.setMetrics(recorder);
+    }
+
+    //Tests for MyArrayList counters
+    @Test
+    void whenListGrowsThenGrowCountAndBytesAreRecorded() {
+        for (int i = 0; i < 40; i++) {
+            integerMyList.add(i);
+        }
+        assertEquals(2, recorder.getGrowCount());
+        assertTrue(recorder.getGrowBytesCopied() == 30 * 4 || recorder.getGrowBytesCopied() == 30 * 8);
+    }
+
+    @Test
+    void whenElementsInsertedAndRemovedThenShiftsAndScansAreRecorded() {
+        for (int i = 0; i < 10; i++) {
+            integerMyList.add(i);
+        }
+        integerMyList.add(0, -1);
+        integerMyList.remove(0);
+        integerMyList.remove((Integer) 5);
+        assertEquals(10 + 10 + 4, recorder.getShiftedElements());
+        assertTrue(integerMyList.contains(8));
+        assertFalse(integerMyList.contains(100));
+        assertEquals(3, recorder.getScanCount());
+        assertEquals(6 + 8 + 9, recorder.getScannedElements());
+    }
+
+    @Test
+    void whenListSortedThenComparisonsSwapsAndDepthAreRecorded() {
+        Random random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            integerMyList.add(random.nextInt());
+        }
+        integerMyList.quickSort(Comparator.naturalOrder());
+        assertEquals(1, recorder.getSortCount());
+        assertTrue(recorder.getSortComparisons() > 10_000);
+        assertTrue(recorder.getSortSwaps() > 0);
+        assertTrue(recorder.getMaxSortDepth() > 0 && recorder.getMaxSortDepth() <= 26);
+        for (int i = 1; i < integerMyList.size(); i++) {
+            assertTrue(integerMyList.get(i - 1) <= integerMyList.get(i));
+        }
+        recorder.reset();
+        assertEquals(0, recorder.getSortCount());
+    }
+
+    @Test
+    void whenMetricsAttachedThenNaturalSortStillUsesRadixSortAndReportsIt() {
+        for (int i = 10_000; i > 0; i--) {
+            integerMyList.add(i);
+        }
+        integerMyList.quickSort();
+        assertEquals(1, recorder.getSortCount());
+        assertEquals(0, recorder.getSortComparisons());
+        assertEquals(1, integerMyList.get(0));
+        integerMyList.sortByIntKey(i -> -i);
+        assertEquals(2, recorder.getSortCount());
+        assertEquals(10_000, integerMyList.get(0));
+    }
+
+    @Test
+    void whenMetricsDisabledThenNothingIsRecorded() {
+        integerMyList.setMetrics(null);
+        for (int i = 0; i < 100; i++) {
+            integerMyList.add(0, i);
+        }
+        integerMyList.quickSort();
+        assertEquals(0, recorder.getGrowCount());
+        assertEquals(0, recorder.getShiftedElements());
+        assertEquals(0, recorder.getSortCount());
+    }
+
+    //Tests for InstrumentedList and histograms
+    @Test
+    void whenOperationsCalledThroughDecoratorThenLatenciesAreRecorded() {
+        MyList<Integer> instrumented = new InstrumentedList<>(new MyArrayList<>(), recorder);
+        for (int i = 0; i < 100; i++) {
+            instrumented.add(i);
+        }
+        instrumented.get(5);
+        instrumented.quickSort();
+        assertEquals(100, recorder.latency(ListMetrics.Operation.ADD).count());
+        assertEquals(1L, recorder.getOperationCounts().get("GET"));
+        assertEquals(1, recorder.getSortCount());
+        assertTrue(recorder.getLatencyP99Nanos().get("ADD") >= recorder.getLatencyP50Nanos().get("ADD"));
+        assertFalse(recorder.getOperationCounts().containsKey("CLEAR"));
+    }
+
+    @Test
+    void whenMetricsAttachedDuringOperationThenThatOperationIsNotTimed() {
+        InstrumentedList<Integer> instrumented = new InstrumentedList<>(new MyArrayList<>(), null);
+        instrumented.add(1);
+        instrumented.add(2);
+        instrumented.removeIf(e -> {
+            instrumented.setMetrics(recorder);
+            return e == 1;
+        });
+        assertEquals(0, recorder.latency(ListMetrics.Operation.REMOVE_IF).count());
+        instrumented.removeIf(e -> e == 2);
+        assertEquals(1, recorder.latency(ListMetrics.Operation.REMOVE_IF).count());
+        assertTrue(recorder.getLatencyP99Nanos().get("REMOVE_IF") < 1_000_000_000L);
+    }
+
+    @Test
+    void whenValuesRecordedThenPercentilesAreBucketUpperBounds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5000);
+        assertEquals(100, histogram.count());
+        assertEquals(127, histogram.percentile(0.5));
+        assertEquals(127, histogram.percentile(0.99));
+        assertEquals(8191, histogram.percentile(1.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(2));
+    }
+
+    @Test
+    void whenRecorderRegisteredThenAttributesAreVisibleThroughJmx() throws Exception {
+        ObjectName name = recorder.register("ru.andreycherenkov:type=ListMetrics,name=test");
+        try {
+            integerMyList.add(0, 1);
+            integerMyList.add(0, 2);
+            Object shifted = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ShiftedElements");
+            assertEquals(1L, shifted);
+        } finally {
+            recorder.unregister(name);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.ElementCodec;
+import ru.andreycherenkov.FixedWidthCodec;
+import ru.andreycherenkov.IntList;
+import ru.andreycherenkov.ListReader;
+import ru.andreycherenkov.ListWriter;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListStreamTest {
+
+    private ByteArrayOutputStream bytes;
+    private WritableByteChannel out;
+
+    @BeforeEach
+    void setUp() {
+        bytes = new ByteArrayOutputStream();
+        out = Channels.newChannel(bytes);
+    }
+
+    private ReadableByteChannel in() {
+        return Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    //Tests for round trips
+    @Test
+    void whenIntegerListWrittenThenSameListIsRead() throws IOException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * 31 - 500);
+        }
+        ListWriter.write(list, ElementCodec.ofInt(), out);
+        assertEquals(18 + 1000 * 4, bytes.size());
+        assertEquals(list.toString(), ListReader.read(in(), ElementCodec.ofInt()).toString());
+    }
+
+    @Test
+    void whenStringsWrittenWithSmallBuffersThenSameStringsAreRead() throws IOException {
+        MyArrayList<String> list = new MyArrayList<>();
+        list.add("");
+        list.add("ascii");
+        list.add(null);
+        list.add("кириллица");
+        list.add("emoji 😀 and €");
+        list.add("a\uD800b\uDC00");
+        char[] longChars = new char[300];
+        Arrays.fill(longChars, 'ж');
+        list.add(new String(longChars));
+        try (ListWriter<String> writer = new ListWriter<>(out, ElementCodec.ofString(), list.size(), 32)) {
+            writer.writeAll(list);
+        }
+        ListReader<String> reader = new ListReader<>(in(), ElementCodec.ofString(), 32);
+        assertEquals(7, reader.count());
+        for (int i = 0; i < list.size(); i++) {
+            String element = list.get(i);
+            assertEquals(element == null ? null : new String(element.getBytes(StandardCharsets.UTF_8),
+                    StandardCharsets.UTF_8), reader.next());
+        }
+        assertFalse(reader.hasNext());
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    @Test
+    void whenIntListWrittenThenPrimitivesAreReadWithoutBoxing() throws IOException {
+        IntList list = new IntList();
+        for (int i = 0; i < 10_000; i++) {
+            list.addInt(i ^ 0x5A5A);
+        }
+        try (ListWriter<Integer> writer = new ListWriter<>(out, ElementCodec.ofInt(), list.size() + 1, 100)) {
+            writer.writeAll(list);
+            writer.writeInt(-1);
+        }
+        ListReader<Integer> reader = new ListReader<>(in(), ElementCodec.ofInt(), 100);
+        IntList result = new IntList();
+        assertEquals(list.getInt(0), reader.nextInt());
+        reader.readAll(result);
+        assertEquals(10_000, result.size());
+        assertEquals(list.getInt(1), result.getInt(0));
+        assertEquals(-1, result.getInt(9_999));
+    }
+
+    @Test
+    void whenFixedWidthCodecAdaptedThenElementsRoundTrip() throws IOException {
+        MyArrayList<Long> list = new MyArrayList<>();
+        list.add(Long.MIN_VALUE);
+        list.add(42L);
+        ElementCodec<Long> codec = ElementCodec.of(FixedWidthCodec.ofLong());
+        ListWriter.write(list, codec, out);
+        MyList<Long> result = ListReader.read(in(), codec);
+        assertEquals(Long.MIN_VALUE, result.get(0));
+        assertEquals(42L, result.get(1));
+    }
+
+    //Tests for errors
+    @Test
+    void whenElementCountDoesNotMatchHeaderThenIllegalStateExceptionThrown() throws IOException {
+        ListWriter<Integer> writer = new ListWriter<>(out, ElementCodec.ofInt(), 1);
+        writer.write(1);
+        assertThrows(IllegalStateException.class, () -> writer.write(2));
+        assertThrows(IllegalStateException.class, () -> writer.writeLong(2));
+        writer.close();
+        ListWriter<Integer> incomplete = new ListWriter<>(out, ElementCodec.ofInt(), 2);
+        incomplete.write(1);
+        assertThrows(IllegalStateException.class, incomplete::close);
+    }
+
+    @Test
+    void whenStreamIsForeignOrTruncatedThenIOExceptionThrown() throws IOException {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        list.add(2);
+        ListWriter.write(list, ElementCodec.ofInt(), out);
+        assertThrows(IOException.class, () -> new ListReader<>(in(), ElementCodec.ofString()));
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(truncated));
+        assertThrows(EOFException.class, () -> ListReader.read(channel, ElementCodec.ofInt()));
+        byte[] header = Arrays.copyOf(bytes.toByteArray(), 18);
+        ByteBuffer.wrap(header).putLong(10, Integer.MAX_VALUE - 8);
+        ReadableByteChannel huge = Channels.newChannel(new ByteArrayInputStream(header));
+        assertThrows(EOFException.class, () -> ListReader.read(huge, ElementCodec.ofInt()));
+        bytes.reset();
+        MyArrayList<String> strings = new MyArrayList<>();
+        strings.add("x");
+        ListWriter.write(strings, ElementCodec.ofString(), out);
+        byte[] hugeElement = Arrays.copyOf(bytes.toByteArray(), 18 + 5);
+        byte[] length = {(byte) 0xF1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        System.arraycopy(length, 0, hugeElement, 18, length.length);
+        ReadableByteChannel corrupt = Channels.newChannel(new ByteArrayInputStream(hugeElement));
+        assertThrows(EOFException.class, () -> ListReader.read(corrupt, ElementCodec.ofString()));
+        ReadableByteChannel garbage = Channels.newChannel(new ByteArrayInputStream(new byte[32]));
+        assertThrows(IOException.class, () -> new ListReader<>(garbage, ElementCodec.ofInt()));
+    }
+}
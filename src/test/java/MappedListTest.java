@@ -0,0 +1,102 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.andreycherenkov.FixedWidthCodec;
+import ru.andreycherenkov.MappedList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedListTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private MappedList<Long> longMyList;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("list.bin");
+        longMyList = new MappedList<>(file, FixedWidthCodec.ofLong());
+        for (long i = 0; i < 1000; i++) {
+            longMyList.add(i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        longMyList.close();
+    }
+
+    //Tests for reopening
+    @Test
+    void whenFileReopenedThenElementsArePreserved() throws IOException {
+        longMyList.remove(0);
+        longMyList.add(0, -1L);
+        longMyList.force();
+        longMyList.close();
+        longMyList = new MappedList<>(file, FixedWidthCodec.ofLong());
+        assertEquals(1000, longMyList.size());
+        assertEquals(-1L, longMyList.get(0));
+        assertEquals(999L, longMyList.get(999));
+        assertEquals(500, longMyList.indexOf(500L));
+    }
+
+    @Test
+    void whenListGrowsThenFileIsRemappedAndPageAligned() throws IOException {
+        for (long i = 1000; i < 200_000; i++) {
+            longMyList.add(i);
+        }
+        assertEquals(0, Files.size(file) % 4096);
+        assertTrue(longMyList.capacity() >= 200_000);
+        longMyList.close();
+        longMyList = new MappedList<>(file, FixedWidthCodec.ofLong());
+        assertEquals(200_000, longMyList.size());
+        assertEquals(199_999L, longMyList.get(199_999));
+    }
+
+    @Test
+    void whenListSortedThenOrderIsPersisted() throws IOException {
+        longMyList.quickSort((a, b) -> Long.compare(b, a));
+        longMyList.removeIf(i -> i % 2 == 0);
+        longMyList.close();
+        longMyList = new MappedList<>(file, FixedWidthCodec.ofLong());
+        assertEquals(500, longMyList.size());
+        assertEquals(999L, longMyList.get(0));
+        assertEquals(1L, longMyList.get(499));
+    }
+
+    @Test
+    void whenListClearedThenReopenedListIsEmpty() throws IOException {
+        longMyList.clear();
+        longMyList.close();
+        longMyList = new MappedList<>(file, FixedWidthCodec.ofLong());
+        assertEquals(0, longMyList.size());
+    }
+
+    //Tests for invalid files
+    @Test
+    void whenFileIsNotListThenThrowsIOException() throws IOException {
+        Path other = directory.resolve("other.txt");
+        Files.writeString(other, "this is definitely not a list file");
+        assertThrows(IOException.class, () -> new MappedList<>(other, FixedWidthCodec.ofLong()));
+    }
+
+    @Test
+    void whenCodecWidthDiffersThenThrowsIOException() throws IOException {
+        longMyList.close();
+        assertThrows(IOException.class, () -> new MappedList<>(file, FixedWidthCodec.ofInt()));
+    }
+
+    @Test
+    void whenListClosedThenOperationsThrow() throws IOException {
+        longMyList.close();
+        assertThrows(IllegalStateException.class, () -> longMyList.get(0));
+        assertThrows(IllegalStateException.class, () -> longMyList.force());
+    }
+}
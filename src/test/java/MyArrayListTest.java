@@ -2,6 +2,18 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import ru.andreycherenkov.MyArrayList;
 import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.ParallelOptions;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -304,6 +316,209 @@ class MyArrayListTest {
         }
     }
 
+    @Test
+    void whenListIsAlreadySortedThenQuickSortKeepsOrder() {
+        MyList<Integer> sorted = new MyArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            sorted.add(i);
+        }
+        sorted.quickSort();
+        for (int i = 0; i < 200_000; i++) {
+            assertEquals(i, sorted.get(i));
+        }
+    }
+
+    @Test
+    void whenListIsReverseSortedThenQuickSortDoesNotOverflowStack() {
+        MyList<Integer> reversed = new MyArrayList<>();
+        for (int i = 200_000; i > 0; i--) {
+            reversed.add(i);
+        }
+        reversed.quickSort();
+        for (int i = 0; i < 200_000; i++) {
+            assertEquals(i + 1, reversed.get(i));
+        }
+    }
+
+    @Test
+    void whenListHasManyDuplicatesThenQuickSortMatchesArraysSort() {
+        Random random = new Random(42);
+        MyList<Integer> duplicates = new MyArrayList<>();
+        Integer[] expected = new Integer[100_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(5);
+            duplicates.add(expected[i]);
+        }
+        duplicates.quickSort();
+        Arrays.sort(expected);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], duplicates.get(i));
+        }
+    }
+
+    @Test
+    void whenSortWithReverseComparatorThenListIsDescending() {
+        Random random = new Random(7);
+        MyList<Integer> randomList = new MyArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            randomList.add(random.nextInt());
+        }
+        randomList.quickSort(Comparator.reverseOrder());
+        for (int i = 1; i < randomList.size(); i++) {
+            assertTrue(randomList.get(i - 1) >= randomList.get(i));
+        }
+    }
+
+    @Test
+    void whenElementsAreNotComparableThenQuickSortThrowsException() {
+        MyList<Object> objectMyList = new MyArrayList<>();
+        objectMyList.add(new Object());
+        objectMyList.add(new Object());
+        assertThrows(UnsupportedOperationException.class, objectMyList::quickSort);
+    }
+
+    //Tests for parallelSort
+    @Test
+    void whenParallelSortRandomListThenResultMatchesArraysSort() {
+        Random random = new Random(11);
+        MyList<Integer> randomList = new MyArrayList<>();
+        Integer[] expected = new Integer[300_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(1000);
+            randomList.add(expected[i]);
+        }
+        randomList.parallelSort(null, ParallelOptions.defaults().withThreshold(1000));
+        Arrays.sort(expected);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], randomList.get(i));
+        }
+    }
+
+    @Test
+    void whenParallelSortInCustomPoolThenListIsDescending() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MyList<String> strings = new MyArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                strings.add(Integer.toString(i * 7919 % 50_000));
+            }
+            strings.parallelSort(Comparator.reverseOrder(), ParallelOptions.defaults().withPool(pool).withThreshold(512));
+            for (int i = 1; i < strings.size(); i++) {
+                assertTrue(strings.get(i - 1).compareTo(strings.get(i)) >= 0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void whenParallelSortSmallListThenListsAreEqual() {
+        MyList<Integer> reversed = new MyArrayList<>();
+        for (int i = 999; i >= 0; i--) {
+            reversed.add(i);
+        }
+        reversed.parallelSort();
+        assertEquals(integerMyList, reversed);
+    }
+
+    @Test
+    void whenParallelismIsNotPositiveThenThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelOptions.defaults().withParallelism(0));
+    }
+
+    @Test
+    void whenSameParallelismRequestedTwiceThenPoolIsReused() {
+        ParallelOptions first = ParallelOptions.defaults().withParallelism(3);
+        ParallelOptions second = ParallelOptions.defaults().withThreshold(16).withParallelism(3);
+        assertSame(first.pool(), second.pool());
+        assertEquals(3, first.pool().getParallelism());
+    }
+
+    //Tests for addAll
+    @Test
+    void whenAddAllFromMyArrayListThenSizeIs2000() {
+        MyList<Integer> other = new MyArrayList<>();
+        for (int i = 1000; i < 2000; i++) {
+            other.add(i);
+        }
+        integerMyList.addAll(other);
+        assertEquals(2000, integerMyList.size());
+        assertEquals(1999, integerMyList.get(1999));
+    }
+
+    @Test
+    void whenAddAllFromItselfThenElementsAreDuplicated() {
+        integerMyList.addAll(integerMyList);
+        assertEquals(2000, integerMyList.size());
+        assertEquals(0, integerMyList.get(1000));
+        assertEquals(999, integerMyList.get(1999));
+    }
+
+    @Test
+    void whenAddAllFromCollectionThenElementsAreAppendedInOrder() {
+        stringMyList.addAll(List.of("A", "B", "C"));
+        assertEquals(1003, stringMyList.size());
+        assertEquals("A", stringMyList.get(1000));
+        assertEquals("C", stringMyList.get(1002));
+    }
+
+    //Tests for removeIf, removeAll, retainAll, removeRange
+    @Test
+    void whenRemoveIfEvenThenOnlyOddElementsRemain() {
+        assertTrue(integerMyList.removeIf(i -> i % 2 == 0));
+        assertEquals(500, integerMyList.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(2 * i + 1, integerMyList.get(i));
+        }
+    }
+
+    @Test
+    void whenRemoveIfMatchesNothingThenReturnFalse() {
+        assertFalse(integerMyList.removeIf(i -> i < 0));
+        assertEquals(1000, integerMyList.size());
+    }
+
+    @Test
+    void whenRemoveIfThrowsThenListStaysConsistent() {
+        assertThrows(IllegalStateException.class, () -> integerMyList.removeIf(i -> {
+            if (i == 500) {
+                throw new IllegalStateException();
+            }
+            return i < 100;
+        }));
+        assertEquals(900, integerMyList.size());
+        assertEquals(100, integerMyList.get(0));
+        assertEquals(999, integerMyList.get(899));
+    }
+
+    @Test
+    void whenRemoveAllThenElementsOfCollectionAreRemoved() {
+        assertTrue(stringMyList.removeAll(Set.of("1", "2", "3", "A")));
+        assertEquals(997, stringMyList.size());
+        assertFalse(stringMyList.contains("2"));
+    }
+
+    @Test
+    void whenRetainAllThenOnlyElementsOfCollectionRemain() {
+        assertTrue(integerMyList.retainAll(Set.of(10, 20, 30)));
+        assertEquals(3, integerMyList.size());
+        assertEquals(30, integerMyList.get(2));
+    }
+
+    @Test
+    void whenRemoveRangeThenTailIsShifted() {
+        integerMyList.removeRange(100, 900);
+        assertEquals(200, integerMyList.size());
+        assertEquals(99, integerMyList.get(99));
+        assertEquals(900, integerMyList.get(100));
+    }
+
+    @Test
+    void whenRemoveRangeIsInvalidThenThrowsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.removeRange(10, 1001));
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.removeRange(10, 5));
+    }
+
     //Tests for contains
     @Test
     void when1000InListThenContainsReturnTrue() {
@@ -325,6 +540,56 @@ class MyArrayListTest {
         assertFalse(stringMyList.contains(1001 + ""));
     }
 
+    //Tests for iterator, spliterator and stream
+    @Test
+    void whenIterateOverListThenElementsAreInIndexOrder() {
+        int expected = 0;
+        for (Integer element : integerMyList) {
+            assertEquals(expected++, element);
+        }
+        assertEquals(1000, expected);
+    }
+
+    @Test
+    void whenListModifiedDuringIterationThenThrowsException() {
+        Iterator<Integer> iterator = integerMyList.iterator();
+        iterator.next();
+        integerMyList.add(1000);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void whenRemoveThroughIteratorThenOnlyOddElementsRemain() {
+        Iterator<Integer> iterator = integerMyList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(500, integerMyList.size());
+        assertEquals(1, integerMyList.get(0));
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+    }
+
+    @Test
+    void whenSplitSpliteratorThenHalvesAreSized() {
+        Spliterator<Integer> right = integerMyList.spliterator();
+        Spliterator<Integer> left = right.trySplit();
+        assertNotNull(left);
+        assertEquals(500, left.estimateSize());
+        assertEquals(500, right.estimateSize());
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    }
+
+    @Test
+    void whenSumWithStreamsThenResultsAreEqual() {
+        long expected = 999L * 1000 / 2;
+        assertEquals(expected, integerMyList.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, integerMyList.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(List.of("0", "1", "2"), stringMyList.stream().limit(3).collect(Collectors.toList()));
+    }
+
     //Test for hashCode
     @Test
     void whenHashCodeAreNotTheSameThenEqualsReturnFalse() {
@@ -0,0 +1,143 @@
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.FixedWidthCodec;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.OffHeapList;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapListTest {
+
+    private OffHeapList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new OffHeapList<>(FixedWidthCodec.ofInt());
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        integerMyList.close();
+    }
+
+    //Tests for add, get and remove
+    @Test
+    void when1000ElementsAddedThenAllAreReadBack() {
+        assertEquals(1000, integerMyList.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, integerMyList.get(i));
+        }
+    }
+
+    @Test
+    void whenElementsInsertedAtHeadThenTailIsShifted() {
+        for (int i = 1; i <= 100; i++) {
+            integerMyList.add(0, -i);
+        }
+        assertEquals(1100, integerMyList.size());
+        assertEquals(-100, integerMyList.get(0));
+        assertEquals(-1, integerMyList.get(99));
+        assertEquals(0, integerMyList.get(100));
+        assertEquals(999, integerMyList.get(1099));
+    }
+
+    @Test
+    void whenElementsRemovedThenTailIsShifted() {
+        integerMyList.remove(0);
+        assertTrue(integerMyList.remove((Integer) 500));
+        assertFalse(integerMyList.remove((Integer) 500));
+        assertEquals(998, integerMyList.size());
+        assertEquals(1, integerMyList.get(0));
+        assertEquals(501, integerMyList.get(499));
+        integerMyList.removeRange(0, 499);
+        assertEquals(501, integerMyList.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.get(499));
+    }
+
+    @Test
+    void whenRemoveIfThenOnlyMatchingElementsAreRemoved() {
+        assertTrue(integerMyList.removeIf(i -> i % 2 == 1));
+        assertEquals(500, integerMyList.size());
+        assertEquals(998, integerMyList.get(499));
+        assertFalse(integerMyList.removeIf(i -> i % 2 == 1));
+    }
+
+    //Tests for indexOf
+    @Test
+    void whenElementInListThenIndexOfComparesEncodedBytes() {
+        assertEquals(700, integerMyList.indexOf(700));
+        assertTrue(integerMyList.contains(0));
+        assertFalse(integerMyList.contains(1000));
+        assertEquals(-1, integerMyList.indexOf(null));
+    }
+
+    @Test
+    void whenLongAndDoubleCodecsUsedThenValuesRoundTrip() {
+        try (OffHeapList<Long> longs = new OffHeapList<>(FixedWidthCodec.ofLong(), 1);
+             OffHeapList<Double> doubles = new OffHeapList<>(FixedWidthCodec.ofDouble(), 1)) {
+            for (int i = 0; i < 100; i++) {
+                longs.add(Long.MAX_VALUE - i);
+                doubles.add(i / 3.0);
+            }
+            assertEquals(Long.MAX_VALUE - 42, longs.get(42));
+            assertEquals(42, longs.indexOf(Long.MAX_VALUE - 42));
+            assertEquals(14.0, doubles.get(42));
+            assertEquals(42, doubles.indexOf(14.0));
+            assertEquals(-1, doubles.indexOf(-0.0));
+        }
+    }
+
+    //Tests for quickSort
+    @Test
+    void whenRandomValuesSortedThenOrderMatchesMyArrayList() {
+        Random random = new Random(9);
+        MyList<Integer> expected = new MyArrayList<>();
+        integerMyList.clear();
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(1000) - 500;
+            expected.add(value);
+            integerMyList.add(value);
+        }
+        expected.quickSort();
+        integerMyList.quickSort();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), integerMyList.get(i));
+        }
+        integerMyList.quickSort(Comparator.reverseOrder());
+        assertEquals(expected.get(expected.size() - 1), integerMyList.get(0));
+    }
+
+    //Tests for close
+    @Test
+    void whenListClosedThenOperationsThrow() {
+        integerMyList.close();
+        integerMyList.close();
+        assertEquals(0, integerMyList.size());
+        assertThrows(IllegalStateException.class, () -> integerMyList.add(1));
+        assertThrows(IllegalStateException.class, () -> integerMyList.get(0));
+    }
+
+    @Test
+    void whenZeroCapacityThenFirstAddGrowsBuffer() {
+        try (OffHeapList<Integer> empty = new OffHeapList<>(FixedWidthCodec.ofInt(), 0)) {
+            for (int i = 0; i < 3; i++) {
+                empty.add(i);
+            }
+            assertEquals(3, empty.size());
+            assertEquals(2, empty.get(2));
+        }
+    }
+
+    @Test
+    void whenNegativeCapacityThenThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapList<>(FixedWidthCodec.ofInt(), -1));
+    }
+}
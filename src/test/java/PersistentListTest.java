@@ -0,0 +1,127 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.PersistentList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentListTest {
+
+    private PersistentList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        PersistentList.Builder<Integer> builder = PersistentList.builder();
+        for (int i = 0; i < 1000; i++) {
+            builder.add(i);
+        }
+        integerMyList = builder.build();
+    }
+
+    //Tests for versions
+    @Test
+    void whenNewVersionCreatedThenOldVersionIsUnchanged() {
+        PersistentList<Integer> appended = integerMyList.plus(1000);
+        PersistentList<Integer> replaced = appended.with(10, -10);
+        PersistentList<Integer> popped = replaced.pop();
+        assertEquals(1000, integerMyList.size());
+        assertEquals(1001, appended.size());
+        assertEquals(10, appended.get(10));
+        assertEquals(-10, replaced.get(10));
+        assertEquals(1000, replaced.get(1000));
+        assertEquals(1000, popped.size());
+        assertEquals(-10, popped.get(10));
+        assertEquals(10, integerMyList.get(10));
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.get(1000));
+    }
+
+    @Test
+    void whenVersionsGrowAndShrinkThenContentsMatchModel() {
+        Random random = new Random(13);
+        PersistentList<Integer> version = PersistentList.empty();
+        List<PersistentList<Integer>> history = new ArrayList<>();
+        List<MyList<Integer>> expectedHistory = new ArrayList<>();
+        MyList<Integer> expected = new MyArrayList<>();
+        for (int step = 0; step < 50_000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 7 || expected.size() == 0) {
+                version = version.plus(step);
+                expected.add(step);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                version = version.with(index, -step);
+                expected.set(index, -step);
+            } else {
+                version = version.pop();
+                expected.remove(expected.size() - 1);
+            }
+            if (step % 5000 == 0) {
+                history.add(version);
+                MyList<Integer> snapshot = new MyArrayList<>();
+                snapshot.addAll(expected);
+                expectedHistory.add(snapshot);
+            }
+        }
+        assertListEquals(expected, version);
+        for (int i = 0; i < history.size(); i++) {
+            assertListEquals(expectedHistory.get(i), history.get(i));
+        }
+        while (version.size() > 0) {
+            version = version.pop();
+        }
+        assertThrows(NoSuchElementException.class, version::pop);
+    }
+
+    private static void assertListEquals(MyList<Integer> expected, PersistentList<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    //Tests for builder
+    @Test
+    void whenBuilderStartsFromVersionThenVersionIsUnchanged() {
+        PersistentList.Builder<Integer> builder = integerMyList.toBuilder();
+        for (int i = 1000; i < 40_000; i++) {
+            builder.add(i);
+        }
+        builder.set(5, -5).set(39_999, -1);
+        PersistentList<Integer> built = builder.build();
+        assertEquals(40_000, built.size());
+        assertEquals(-5, built.get(5));
+        assertEquals(-1, built.get(39_999));
+        assertEquals(35_000, built.get(35_000));
+        assertEquals(5, integerMyList.get(5));
+        assertEquals(1000, integerMyList.size());
+        assertThrows(IllegalStateException.class, () -> builder.add(1));
+    }
+
+    //Tests for read operations
+    @Test
+    void whenReadOperationsCalledThenTheyWorkAcrossLeaves() {
+        assertEquals(999, integerMyList.indexOf(999));
+        assertTrue(integerMyList.contains(0));
+        assertFalse(integerMyList.contains(1000));
+        assertEquals(499_500, integerMyList.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(PersistentList.of(1, 2, 3), PersistentList.<Integer>empty().plus(1).plus(2).plus(3));
+        assertEquals("[1, 2, 3]", PersistentList.of(1, 2, 3).toString());
+        assertEquals(List.of(0, 1, 2), integerMyList.stream().limit(3).collect(Collectors.toList()));
+    }
+
+    @Test
+    void whenMutatorCalledThenThrowsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> integerMyList.add(1));
+        assertThrows(UnsupportedOperationException.class, () -> integerMyList.set(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> integerMyList.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> integerMyList.quickSort());
+        assertThrows(UnsupportedOperationException.class, () -> integerMyList.removeIf(i -> false));
+    }
+}
@@ -0,0 +1,155 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.DoubleList;
+import ru.andreycherenkov.IntList;
+import ru.andreycherenkov.LongList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveListTest {
+
+    private IntList intList;
+    private LongList longList;
+    private DoubleList doubleList;
+
+    @BeforeEach
+    void setUp() {
+        intList = new IntList();
+        longList = new LongList();
+        doubleList = new DoubleList();
+        for (int i = 0; i < 1000; i++) {
+            intList.addInt(i);
+            longList.addLong(i * 1_000_000_000L);
+            doubleList.addDouble(i / 2.0);
+        }
+    }
+
+    //Tests for IntList
+    @Test
+    void whenAdd1000IntsThenSizeIs1000() {
+        assertEquals(1000, intList.size());
+        assertEquals(999, intList.getInt(999));
+    }
+
+    @Test
+    void whenAddIntAtIndex0ThenElementsAreShifted() {
+        intList.addInt(0, -1);
+        assertEquals(-1, intList.getInt(0));
+        assertEquals(0, intList.getInt(1));
+        assertEquals(1001, intList.size());
+    }
+
+    @Test
+    void whenGetIntIndexIs1000ThenThrowsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> intList.getInt(1000));
+    }
+
+    @Test
+    void whenRemoveIntValueThenIndexOfIsNegative() {
+        assertTrue(intList.removeInt(500));
+        assertEquals(-1, intList.indexOfInt(500));
+        assertFalse(intList.containsInt(500));
+        assertEquals(501, intList.getInt(500));
+    }
+
+    @Test
+    void whenRemoveAtAllIndexesThenSizeIs0() {
+        for (int i = 0; i < 1000; i++) {
+            intList.removeAt(0);
+        }
+        assertEquals(0, intList.size());
+    }
+
+    @Test
+    void whenIntListReversedThenQuickSortRestoresOrder() {
+        IntList reversed = new IntList();
+        for (int i = 999; i >= 0; i--) {
+            reversed.addInt(i);
+        }
+        reversed.quickSort();
+        assertEquals(intList, reversed);
+    }
+
+    @Test
+    void whenUseBoxedAdapterThenChangesAreVisibleInIntList() {
+        MyList<Integer> adapter = intList.asMyList();
+        adapter.add(1000);
+        adapter.set(0, 42);
+        assertEquals(1001, intList.size());
+        assertEquals(42, intList.getInt(0));
+        assertEquals(1000, adapter.indexOf(1000));
+        assertFalse(adapter.contains(null));
+    }
+
+    @Test
+    void whenSortAdapterWithComparatorThenIntListIsDescending() {
+        intList.asMyList().quickSort(Comparator.reverseOrder());
+        assertEquals(999, intList.getInt(0));
+        assertEquals(0, intList.getInt(999));
+    }
+
+    @Test
+    void whenAdapterComparedWithMyArrayListThenElementsAreEqual() {
+        MyList<Integer> expected = new MyArrayList<>();
+        MyList<Integer> adapter = intList.asMyList();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.get(i), adapter.get(i));
+        }
+    }
+
+    @Test
+    void whenPrimitiveListsCreatedWithZeroCapacityThenTheyGrow() {
+        IntList ints = new IntList(0);
+        LongList longs = new LongList(0);
+        DoubleList doubles = new DoubleList(0);
+        for (int i = 0; i < 20; i++) {
+            ints.addInt(i);
+            longs.addLong(i);
+            doubles.addDouble(i);
+        }
+        assertEquals(19, ints.getInt(19));
+        assertEquals(19L, longs.getLong(19));
+        assertEquals(19.0, doubles.getDouble(19));
+        assertThrows(IllegalArgumentException.class, () -> new IntList(-1));
+    }
+
+    //Tests for LongList
+    @Test
+    void whenAddLargeLongsThenValuesAreNotTruncated() {
+        assertEquals(999_000_000_000L, longList.getLong(999));
+        assertEquals(999, longList.indexOfLong(999_000_000_000L));
+    }
+
+    @Test
+    void whenLongListReversedThenQuickSortRestoresOrder() {
+        LongList reversed = new LongList();
+        for (int i = 999; i >= 0; i--) {
+            reversed.addLong(i * 1_000_000_000L);
+        }
+        reversed.quickSort();
+        assertEquals(longList, reversed);
+        assertEquals(longList.hashCode(), reversed.hashCode());
+    }
+
+    //Tests for DoubleList
+    @Test
+    void whenDoubleListContainsNaNThenIndexOfFindsIt() {
+        doubleList.addDouble(Double.NaN);
+        assertEquals(1000, doubleList.indexOfDouble(Double.NaN));
+        assertTrue(doubleList.asMyList().contains(Double.NaN));
+    }
+
+    @Test
+    void whenDoubleListClearedThenSizeIs0() {
+        doubleList.clear();
+        assertEquals(0, doubleList.size());
+        assertEquals("[]", doubleList.toString());
+    }
+}
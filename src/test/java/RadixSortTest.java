@@ -0,0 +1,141 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.IndexedArrayList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.RingBufferList;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSortTest {
+
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(7);
+    }
+
+    private static Object[] toArray(MyList<?> list) {
+        Object[] array = new Object[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    //Tests for integer keys
+    @Test
+    void whenIntegersRadixSortedThenOrderMatchesArraysSort() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i % 3 == 0 ? random.nextInt(100) : random.nextInt());
+        }
+        list.add(Integer.MIN_VALUE);
+        list.add(Integer.MAX_VALUE);
+        Object[] expected = toArray(list);
+        Arrays.sort(expected);
+        list.radixSort();
+        assertArrayEquals(expected, toArray(list));
+    }
+
+    @Test
+    void whenLongsSortedAutomaticallyThenOrderMatchesArraysSort() {
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            list.add(random.nextLong() >> random.nextInt(64));
+        }
+        Object[] expected = toArray(list);
+        Arrays.sort(expected);
+        list.quickSort();
+        assertArrayEquals(expected, toArray(list));
+    }
+
+    @Test
+    void whenSortedByIntKeyThenEqualKeysKeepOriginalOrder() {
+        MyArrayList<String> list = new MyArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            list.add((char) ('a' + random.nextInt(5)) + "-" + i);
+        }
+        list.sortByIntKey(s -> s.charAt(0));
+        for (int i = 1; i < list.size(); i++) {
+            String previous = list.get(i - 1);
+            String current = list.get(i);
+            assertTrue(previous.charAt(0) <= current.charAt(0));
+            if (previous.charAt(0) == current.charAt(0)) {
+                assertTrue(Integer.parseInt(previous.substring(2)) < Integer.parseInt(current.substring(2)));
+            }
+        }
+    }
+
+    @Test
+    void whenSortedByLongKeyThenKeysAreAscending() {
+        MyArrayList<long[]> list = new MyArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(new long[]{random.nextLong()});
+        }
+        list.sortByLongKey(element -> element[0]);
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1)[0] <= list.get(i)[0]);
+        }
+    }
+
+    //Tests for strings
+    @Test
+    void whenStringsRadixSortedThenOrderMatchesCompareTo() {
+        MyArrayList<String> list = new MyArrayList<>();
+        String[] alphabet = {"", "a", "b", "ab", "я", "€", "😀", "￿"};
+        char[] longPrefix = new char[200];
+        Arrays.fill(longPrefix, 'x');
+        for (int i = 0; i < 4000; i++) {
+            StringBuilder sb = new StringBuilder();
+            if (i % 10 == 0) {
+                sb.append(longPrefix);
+            }
+            int parts = random.nextInt(6);
+            for (int j = 0; j < parts; j++) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            list.add(sb.toString());
+        }
+        Object[] expected = toArray(list);
+        Arrays.sort(expected);
+        list.radixSort();
+        assertArrayEquals(expected, toArray(list));
+    }
+
+    //Tests for fallbacks and wrappers
+    @Test
+    void whenElementTypesAreMixedThenComparisonSortIsUsed() {
+        MyArrayList<Object> list = new MyArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            list.add(i % 2 == 0 ? Integer.valueOf(i) : new Object());
+        }
+        assertThrows(UnsupportedOperationException.class, list::radixSort);
+        MyArrayList<Comparable<?>> small = new MyArrayList<>();
+        small.add(3.0);
+        small.add(1.0);
+        small.radixSort();
+        assertEquals(1.0, small.get(0));
+    }
+
+    @Test
+    void whenWrappedListsRadixSortedThenTheyStayConsistent() {
+        IndexedArrayList<Integer> indexed = new IndexedArrayList<>();
+        RingBufferList<Integer> ring = new RingBufferList<>();
+        for (int i = 0; i < 2000; i++) {
+            indexed.add(1999 - i);
+            ring.addFirst(i);
+        }
+        indexed.radixSort();
+        ring.quickSort();
+        assertEquals(0, indexed.indexOf(0));
+        assertEquals(1999, indexed.indexOf(1999));
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i, ring.get(i));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.RingBufferList;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferListTest {
+
+    private RingBufferList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new RingBufferList<>();
+        for (int i = 0; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+    }
+
+    //Tests for deque operations
+    @Test
+    @Timeout(10)
+    void whenMillionElementsDrainedFromHeadThenSizeIs0() {
+        RingBufferList<Integer> queue = new RingBufferList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            queue.add(i);
+        }
+        for (int i = 0; i < 1_000_000; i++) {
+            assertEquals(i, queue.get(0));
+            queue.remove(0);
+        }
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void whenElementsAddedAtBothEndsThenOrderIsPreserved() {
+        integerMyList.addFirst(-1);
+        integerMyList.addFirst(-2);
+        integerMyList.addLast(1000);
+        assertEquals(1003, integerMyList.size());
+        assertEquals(-2, integerMyList.getFirst());
+        assertEquals(1000, integerMyList.getLast());
+        assertEquals(0, integerMyList.get(2));
+        assertEquals(-2, integerMyList.removeFirst());
+        assertEquals(1000, integerMyList.removeLast());
+        assertEquals(-1, integerMyList.get(0));
+    }
+
+    @Test
+    void whenEmptyThenRemoveFirstThrowsNoSuchElementException() {
+        RingBufferList<Integer> empty = new RingBufferList<>(1);
+        assertThrows(NoSuchElementException.class, empty::removeFirst);
+        assertThrows(NoSuchElementException.class, empty::removeLast);
+        assertThrows(NoSuchElementException.class, empty::getFirst);
+    }
+
+    @Test
+    void whenZeroCapacityThenBufferGrowsFromSingleCell() {
+        RingBufferList<Integer> ring = new RingBufferList<>(0);
+        ring.addLast(1);
+        ring.addFirst(0);
+        ring.addLast(2);
+        assertEquals("[0, 1, 2]", ring.toString());
+        assertEquals(0, ring.removeFirst());
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferList<>(-1));
+    }
+
+    //Tests for positional operations across the wrap point
+    @Test
+    void whenBufferWrapsThenIndexedOperationsUseLogicalIndexes() {
+        RingBufferList<Integer> ring = new RingBufferList<>(8);
+        for (int i = 0; i < 6; i++) {
+            ring.add(i);
+        }
+        ring.removeFirst();
+        ring.removeFirst();
+        ring.add(6);
+        ring.add(7);
+        ring.add(8);
+        assertEquals("[2, 3, 4, 5, 6, 7, 8]", ring.toString());
+        ring.add(1, 100);
+        ring.add(6, 200);
+        ring.remove(2);
+        assertEquals("[2, 100, 4, 5, 6, 200, 7, 8]", ring.toString());
+        assertEquals(5, ring.indexOf(200));
+        ring.quickSort(Comparator.reverseOrder());
+        assertEquals("[200, 100, 8, 7, 6, 5, 4, 2]", ring.toString());
+    }
+
+    @Test
+    void whenRandomOperationsAppliedThenContentsMatchMyArrayList() {
+        Random random = new Random(5);
+        MyList<Integer> expected = new MyArrayList<>();
+        RingBufferList<Integer> actual = new RingBufferList<>(1);
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 3 || expected.size() == 0) {
+                expected.add(step);
+                actual.add(step);
+            } else if (operation == 3) {
+                expected.add(0, step);
+                actual.addFirst(step);
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                actual.add(index, step);
+            } else if (operation == 5) {
+                expected.remove(0);
+                actual.removeFirst();
+            } else if (operation == 6) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual.remove(index);
+            } else if (operation == 7 && random.nextInt(50) == 0) {
+                expected.removeIf(i -> i % 3 == 0);
+                actual.removeIf(i -> i % 3 == 0);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    void whenRangeRemovedThenTailIsShifted() {
+        integerMyList.removeFirst();
+        integerMyList.removeRange(0, 9);
+        assertEquals(990, integerMyList.size());
+        assertEquals(10, integerMyList.get(0));
+        integerMyList.clear();
+        assertEquals("[]", integerMyList.toString());
+    }
+}
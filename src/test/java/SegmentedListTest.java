@@ -0,0 +1,104 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.SegmentedList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedListTest {
+
+    private SegmentedList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new SegmentedList<>(4);
+        for (int i = 0; i < 10; i++) {
+            integerMyList.add(i);
+        }
+    }
+
+    //Tests for growth and access
+    @Test
+    void whenListGrowsThenChunksAreAddedWithoutLosingElements() {
+        assertEquals(3, integerMyList.chunkCount());
+        for (int i = 10; i < 1000; i++) {
+            integerMyList.add(i);
+        }
+        assertEquals(250, integerMyList.chunkCount());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, integerMyList.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.get(1000));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedList<>(6));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedList<>(0));
+    }
+
+    @Test
+    void whenElementsInsertedAndRemovedAcrossChunksThenOrderMatchesArrayList() {
+        Random random = new Random(5);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expected.add(i);
+        }
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                integerMyList.add(index, step);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                integerMyList.remove(index);
+            } else {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(Math.min(9, expected.size() - from) + 1);
+                expected.subList(from, to).clear();
+                integerMyList.removeRange(from, to);
+            }
+        }
+        assertEquals(expected.toString(), integerMyList.toString());
+    }
+
+    @Test
+    void whenElementsRemovedThenEmptyChunksAreReleasedExceptOneSpare() {
+        integerMyList.removeRange(2, 10);
+        assertEquals(2, integerMyList.size());
+        assertEquals(2, integerMyList.chunkCount());
+        integerMyList.clear();
+        assertEquals(0, integerMyList.chunkCount());
+        integerMyList.add(7);
+        assertEquals(7, integerMyList.get(0));
+    }
+
+    //Tests for search, removeIf and sorting
+    @Test
+    void whenElementsFilteredThenSurvivorsKeepOrder() {
+        assertEquals(9, integerMyList.indexOf(9));
+        assertTrue(integerMyList.removeIf(element -> element % 3 == 0));
+        assertEquals("[1, 2, 4, 5, 7, 8]", integerMyList.toString());
+        assertFalse(integerMyList.contains(9));
+        assertFalse(integerMyList.removeIf(element -> element > 100));
+    }
+
+    @Test
+    void whenListSortedThenElementsAreOrderedAcrossChunks() {
+        Random random = new Random(9);
+        SegmentedList<Integer> list = new SegmentedList<>(16);
+        for (int i = 0; i < 2000; i++) {
+            list.add(random.nextInt(500));
+        }
+        list.quickSort();
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        list.quickSort(Comparator.reverseOrder());
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) >= list.get(i));
+        }
+    }
+}
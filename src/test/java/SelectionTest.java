@@ -0,0 +1,109 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.ConcurrentArrayList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.RingBufferList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelectionTest {
+
+    private MyArrayList<Integer> integerMyList;
+    private Integer[] sorted;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(3);
+        integerMyList = new MyArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            integerMyList.add(random.nextInt(5000));
+        }
+        sorted = new Integer[integerMyList.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = integerMyList.get(i);
+        }
+        Arrays.sort(sorted);
+    }
+
+    //Tests for nthElement
+    @Test
+    void whenNthElementSelectedThenItMatchesSortedPositionAndPartitionsList() {
+        for (int k : new int[]{0, 1, 4999, 5000, 9998, 9999}) {
+            assertEquals(sorted[k], integerMyList.nthElement(k, null));
+            for (int i = 0; i < k; i++) {
+                assertTrue(integerMyList.get(i) <= sorted[k]);
+            }
+            for (int i = k + 1; i < integerMyList.size(); i++) {
+                assertTrue(integerMyList.get(i) >= sorted[k]);
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.nthElement(10_000, null));
+    }
+
+    @Test
+    void whenAdversarialInputSelectedThenMedianOfMediansKeepsResultCorrect() {
+        MyArrayList<Integer> organPipe = new MyArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            organPipe.add(i < 25_000 ? i : 50_000 - i);
+        }
+        long[] comparisons = new long[1];
+        Comparator<Integer> coarse = (a, b) -> {
+            comparisons[0]++;
+            return Integer.compare(a / 7, b / 7);
+        };
+        Integer median = organPipe.nthElement(25_000, coarse);
+        assertEquals(12_500 / 7, median / 7);
+        assertTrue(comparisons[0] < 20L * organPipe.size());
+    }
+
+    //Tests for partialSort and topK
+    @Test
+    void whenPartiallySortedThenPrefixIsSortedAndSmallest() {
+        integerMyList.partialSort(100, null);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sorted[i], integerMyList.get(i));
+        }
+        integerMyList.partialSort(10, Comparator.reverseOrder());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(sorted[sorted.length - 1 - i], integerMyList.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.partialSort(10_001, null));
+    }
+
+    @Test
+    void whenTopKTakenThenSourceOrderIsUntouched() {
+        Integer first = integerMyList.get(0);
+        Integer last = integerMyList.get(9_999);
+        MyList<Integer> top = integerMyList.topK(100, Comparator.reverseOrder());
+        assertEquals(100, top.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sorted[sorted.length - 1 - i], top.get(i));
+        }
+        assertEquals(first, integerMyList.get(0));
+        assertEquals(last, integerMyList.get(9_999));
+        assertEquals(0, integerMyList.topK(0, null).size());
+        assertThrows(IllegalArgumentException.class, () -> integerMyList.topK(-1, null));
+    }
+
+    @Test
+    void whenOtherListsSelectThenDefaultsAndOverridesAgree() {
+        RingBufferList<Integer> ring = new RingBufferList<>();
+        ConcurrentArrayList<Integer> concurrent = new ConcurrentArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ring.addFirst(i);
+            concurrent.add(999 - i);
+        }
+        assertEquals(500, ring.nthElement(500, null));
+        assertEquals(500, concurrent.nthElement(500, null));
+        MyList<Integer> top = ring.topK(2000, null);
+        assertEquals(1000, top.size());
+        assertEquals(999, top.get(999));
+        concurrent.partialSort(3, null);
+        assertEquals(2, concurrent.get(2));
+    }
+}
@@ -0,0 +1,124 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.SortedMyList;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedMyListTest {
+
+    private SortedMyList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new SortedMyList<>();
+        for (int i = 999; i >= 0; i--) {
+            integerMyList.add(i * 2);
+        }
+    }
+
+    //Tests for ordered insertion and binary search
+    @Test
+    void whenElementsAddedInReverseThenListIsSorted() {
+        assertEquals(1000, integerMyList.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 2, integerMyList.get(i));
+        }
+    }
+
+    @Test
+    void whenElementSearchedThenBinarySearchFindsFirstEqual() {
+        integerMyList.add(500);
+        integerMyList.add(500);
+        assertEquals(250, integerMyList.indexOf(500));
+        assertEquals(253, integerMyList.indexOf(502));
+        assertEquals(-1, integerMyList.indexOf(501));
+        assertFalse(integerMyList.contains(null));
+        assertTrue(integerMyList.remove((Integer) 500));
+        assertEquals(250, integerMyList.indexOf(500));
+    }
+
+    @Test
+    void whenCustomComparatorThenOrderAndEqualityFollowIt() {
+        SortedMyList<String> strings = new SortedMyList<>(String.CASE_INSENSITIVE_ORDER);
+        strings.add("b");
+        strings.add("A");
+        strings.add("c");
+        assertEquals("[A, b, c]", strings.toString());
+        assertEquals(0, strings.indexOf("a"));
+        assertSame(String.CASE_INSENSITIVE_ORDER, strings.comparator());
+        assertThrows(UnsupportedOperationException.class, () -> strings.quickSort(Comparator.reverseOrder()));
+    }
+
+    //Tests for range queries
+    @Test
+    void whenRangeQueriedThenFloorCeilingAndSubRangeAreCorrect() {
+        assertEquals(100, integerMyList.floor(101));
+        assertEquals(102, integerMyList.ceiling(101));
+        assertEquals(100, integerMyList.floor(100));
+        assertNull(integerMyList.floor(-1));
+        assertNull(integerMyList.ceiling(1999));
+        SortedMyList<Integer> range = integerMyList.subRange(10, 20);
+        assertEquals("[10, 12, 14, 16, 18]", range.toString());
+        range.add(11);
+        assertEquals(1, range.indexOf(11));
+        assertEquals(0, integerMyList.subRange(5000, 6000).size());
+        assertThrows(IllegalArgumentException.class, () -> integerMyList.subRange(20, 10));
+    }
+
+    //Tests for bulk merge
+    @Test
+    void whenBatchMergedThenListStaysSortedAndStable() {
+        integerMyList.addAll(List.of(1, 3, 5, 2001));
+        assertEquals(1004, integerMyList.size());
+        assertEquals("[0, 1, 2, 3, 4, 5, 6]", integerMyList.subRange(0, 7).toString());
+        assertEquals(2001, integerMyList.get(1003));
+
+        SortedMyList<int[]> pairs = new SortedMyList<>(Comparator.comparingInt(p -> p[0]));
+        pairs.add(new int[]{1, 0});
+        MyList<int[]> batch = new MyArrayList<>();
+        batch.add(new int[]{2, 1});
+        batch.add(new int[]{1, 1});
+        pairs.addAll(batch);
+        assertEquals(0, pairs.get(0)[1]);
+        assertEquals(1, pairs.get(1)[1]);
+        assertEquals(2, pairs.get(2)[0]);
+    }
+
+    @Test
+    void whenRandomBatchesMergedThenContentsMatchSortedMyArrayList() {
+        Random random = new Random(17);
+        MyList<Integer> expected = new MyArrayList<>();
+        SortedMyList<Integer> actual = new SortedMyList<>();
+        for (int round = 0; round < 50; round++) {
+            MyList<Integer> batch = new MyArrayList<>();
+            for (int i = random.nextInt(200); i > 0; i--) {
+                batch.add(random.nextInt(1000));
+            }
+            expected.addAll(batch);
+            actual.addAll(batch);
+            actual.add(round);
+            expected.add(round);
+        }
+        expected.quickSort();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    //Tests for positional operations
+    @Test
+    void whenPositionalChangeBreaksOrderThenThrowsIllegalArgumentException() {
+        integerMyList.set(1, 3);
+        integerMyList.add(2, 3);
+        assertEquals(3, integerMyList.get(2));
+        assertThrows(IllegalArgumentException.class, () -> integerMyList.set(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> integerMyList.add(0, 100));
+    }
+}
@@ -0,0 +1,117 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.ConcurrentArrayList;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.RingBufferList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StableSortTest {
+
+    private Random random;
+    private MyArrayList<int[]> pairs;
+
+    @BeforeEach
+    void setUp() {
+        random = new Random(11);
+        pairs = new MyArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            pairs.add(new int[]{random.nextInt(100), i});
+        }
+    }
+
+    private static void assertStablyOrderedByKey(MyList<int[]> list) {
+        for (int i = 1; i < list.size(); i++) {
+            int[] previous = list.get(i - 1);
+            int[] current = list.get(i);
+            assertTrue(previous[0] <= current[0]);
+            if (previous[0] == current[0]) {
+                assertTrue(previous[1] < current[1]);
+            }
+        }
+    }
+
+    //Tests for MyArrayList
+    @Test
+    void whenSortedByKeyThenEqualKeysKeepInsertionOrder() {
+        pairs.stableSort(Comparator.comparingInt(pair -> pair[0]));
+        assertStablyOrderedByKey(pairs);
+        pairs.stableSort(Comparator.comparingInt(pair -> pair[0]));
+        assertStablyOrderedByKey(pairs);
+    }
+
+    @Test
+    void whenRandomDataSortedThenOrderMatchesArraysSort() {
+        for (int size : new int[]{0, 1, 31, 32, 33, 1000, 65_537}) {
+            MyArrayList<Integer> list = new MyArrayList<>();
+            Integer[] expected = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                expected[i] = random.nextInt(size + 1);
+                list.add(expected[i]);
+            }
+            Arrays.sort(expected);
+            list.stableSort();
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected[i], list.get(i));
+            }
+        }
+    }
+
+    @Test
+    void whenNearlySortedDataSortedThenComparisonsAreNearlyLinear() {
+        MyArrayList<Integer> list = new MyArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            list.add(random.nextInt(100_000));
+        }
+        for (int i = 50_000; i > 0; i--) {
+            list.add(i);
+        }
+        long[] comparisons = new long[1];
+        list.stableSort((a, b) -> {
+            comparisons[0]++;
+            return Integer.compare(a, b);
+        });
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        assertTrue(comparisons[0] < 3L * list.size());
+    }
+
+    @Test
+    void whenSubListStablySortedThenOnlySliceChanges() {
+        MyList<int[]> view = pairs.subList(100, 10_100);
+        int[] outside = pairs.get(99);
+        view.stableSort(Comparator.comparingInt(pair -> pair[0]));
+        assertStablyOrderedByKey(view);
+        assertSame(outside, pairs.get(99));
+        assertEquals(10_100, pairs.get(10_100)[1]);
+    }
+
+    //Tests for other lists
+    @Test
+    void whenOtherListsStablySortedThenOrderIsStable() {
+        RingBufferList<int[]> ring = new RingBufferList<>();
+        ConcurrentArrayList<int[]> concurrent = new ConcurrentArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int[] pair = {random.nextInt(10), i};
+            ring.addLast(pair);
+            concurrent.add(pair);
+        }
+        ring.stableSort(Comparator.comparingInt(pair -> pair[0]));
+        concurrent.stableSort(Comparator.comparingInt(pair -> pair[0]));
+        assertStablyOrderedByKey(ring);
+        assertStablyOrderedByKey(concurrent);
+        RingBufferList<Object> objects = new RingBufferList<>();
+        objects.add(new Object());
+        objects.add(new Object());
+        assertThrows(UnsupportedOperationException.class, objects::stableSort);
+    }
+}
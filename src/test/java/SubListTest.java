@@ -0,0 +1,134 @@
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.andreycherenkov.MyArrayList;
+import ru.andreycherenkov.MyList;
+import ru.andreycherenkov.RingBufferList;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubListTest {
+
+    private MyArrayList<Integer> integerMyList;
+
+    @BeforeEach
+    void setUp() {
+        integerMyList = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            integerMyList.add(i);
+        }
+    }
+
+    //Tests for MyArrayList views
+    @Test
+    void whenViewReadAndWrittenThenParentReflectsChanges() {
+        MyList<Integer> view = integerMyList.subList(3, 7);
+        assertEquals(4, view.size());
+        assertEquals(3, view.get(0));
+        assertEquals(2, view.indexOf(5));
+        view.set(1, 40);
+        assertEquals(40, integerMyList.get(4));
+        assertEquals("[3, 40, 5, 6]", view.toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> integerMyList.subList(5, 11));
+    }
+
+    @Test
+    void whenElementsAddedAndRemovedThroughViewThenParentSizeChanges() {
+        MyList<Integer> view = integerMyList.subList(2, 5);
+        view.add(100);
+        view.add(0, -1);
+        view.addAll(List.of(7, 8));
+        assertEquals(14, integerMyList.size());
+        assertEquals("[-1, 2, 3, 4, 100, 7, 8]", view.toString());
+        assertEquals(5, integerMyList.get(9));
+        view.remove(0);
+        assertTrue(view.remove((Integer) 100));
+        view.removeRange(3, 5);
+        assertEquals("[2, 3, 4]", view.toString());
+        view.clear();
+        assertEquals(0, view.size());
+        assertEquals(7, integerMyList.size());
+        assertEquals(5, integerMyList.get(2));
+    }
+
+    @Test
+    void whenViewSortedThenOnlySliceIsSorted() {
+        integerMyList.clear();
+        for (int i = 9; i >= 0; i--) {
+            integerMyList.add(i);
+        }
+        integerMyList.subList(2, 8).quickSort();
+        assertEquals(List.of(9, 8, 2, 3, 4, 5, 6, 7, 1, 0), toList(integerMyList));
+        integerMyList.subList(0, 4).quickSort((a, b) -> b - a);
+        assertEquals(List.of(9, 8, 3, 2, 4, 5, 6, 7, 1, 0), toList(integerMyList));
+    }
+
+    @Test
+    void whenSiblingViewsSortedThenEachPartitionIsSortedWithoutConcurrentModificationException() {
+        integerMyList.clear();
+        for (int i = 99; i >= 0; i--) {
+            integerMyList.add(i);
+        }
+        MyList<Integer> first = integerMyList.subList(0, 50);
+        MyList<Integer> second = integerMyList.subList(50, 100);
+        first.quickSort();
+        second.quickSort();
+        first.stableSort(null);
+        second.parallelSort();
+        assertEquals(50, first.get(0));
+        assertEquals(0, second.get(0));
+        assertEquals(99, first.get(49));
+        assertEquals(49, second.get(49));
+    }
+
+    @Test
+    void whenParentStructurallyModifiedThenViewThrowsConcurrentModificationException() {
+        MyList<Integer> view = integerMyList.subList(1, 4);
+        integerMyList.set(1, 11);
+        assertEquals(11, view.get(0));
+        integerMyList.add(0, -1);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertThrows(ConcurrentModificationException.class, view::size);
+    }
+
+    @Test
+    void whenNestedViewModifiedThenAllEnclosingViewsAreUpdated() {
+        MyList<Integer> outer = integerMyList.subList(1, 9);
+        MyList<Integer> inner = outer.subList(2, 4);
+        inner.add(50);
+        assertEquals(3, inner.size());
+        assertEquals(9, outer.size());
+        assertEquals(11, integerMyList.size());
+        assertEquals(50, outer.get(4));
+        assertEquals(50, integerMyList.get(5));
+        inner.quickSort((a, b) -> b - a);
+        assertEquals("[50, 4, 3]", inner.toString());
+        assertEquals(8, outer.get(8));
+    }
+
+    //Tests for default views
+    @Test
+    void whenViewOfRingBufferModifiedThenParentReflectsChanges() {
+        RingBufferList<Integer> ring = new RingBufferList<>();
+        for (int i = 5; i > 0; i--) {
+            ring.addFirst(i * 10);
+        }
+        MyList<Integer> view = ring.subList(1, 4);
+        view.quickSort((a, b) -> b - a);
+        view.add(1, 35);
+        assertEquals("[10, 40, 35, 30, 20, 50]", ring.toString());
+        ring.removeLast();
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+
+    private static List<Integer> toList(MyList<Integer> list) {
+        Integer[] array = new Integer[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return List.of(array);
+    }
+}